@@ -21,10 +21,10 @@ import org.eclipse.equinox.app.IApplicationContext;
 import org.palladiosimulator.retriever.core.configuration.RetrieverConfigurationImpl;
 import org.palladiosimulator.retriever.core.service.DiscovererCollection;
 import org.palladiosimulator.retriever.core.service.RuleCollection;
+import org.palladiosimulator.retriever.core.workflow.PersistenceProfile;
 import org.palladiosimulator.retriever.core.workflow.RetrieverJob;
 import org.palladiosimulator.retriever.services.Analyst;
 import org.palladiosimulator.retriever.services.Discoverer;
-import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.Rule;
 import org.palladiosimulator.retriever.services.ServiceConfiguration;
 
@@ -44,6 +44,43 @@ public class RetrieverApplication implements IApplication {
         options.addOption("x", "rules-directory", true,
                 "Path to the directory with additional project specific rules.");
 
+        options.addOption("p", "profile-rules", false,
+                "Record the execution costs of each rule and file and report them in the output directory.");
+
+        options.addOption("s", "schedule-by-dependencies", false,
+                "Start each discoverer and rule as soon as the services it depends on are done.");
+
+        options.addOption("t", "stream-discoveries", false,
+                "Let rules process discovered files while discovery is still running. Implies -s.");
+
+        options.addOption("b", "stream-capacity", true,
+                "The number of discovered files a streaming rule buffers while it waits for other services.");
+
+        options.addOption("m", "spill-cache-size", true,
+                "Keep parsed configuration files on disk, caching the given number per discoverer on the heap.");
+
+        options.addOption("f", "persistence-profile", true,
+                "How to save the generated models: " + Arrays.stream(PersistenceProfile.values())
+                    .map(PersistenceProfile::name)
+                    .collect(Collectors.joining(", ")));
+
+        options.addOption("u", "skip-unchanged", false,
+                "Only write the generated models that differ from the models in the output directory."
+                        + " Requires --stable-identifiers.");
+
+        options.addOption("g", "fragment-repository", false,
+                "Save each composite component as a repository of its own next to the generated models.");
+
+        options.addOption("d", "split-diagrams", false,
+                "Additionally generate a PlantUML component diagram for each composite component.");
+
+        options.addOption("c", "omit-component-diagram", false,
+                "Do not generate the PlantUML component diagram of the whole repository,"
+                        + " e.g. if it is too large and --split-diagrams suffices.");
+
+        options.addOption("n", "stable-identifiers", false,
+                "Derive the identifiers of generated model elements from their names instead of random ones.");
+
         options.addOption("a", "analyze-vulnerabilities", true, "Path to the snyk executable.");
 
         options.addOption("h", "help", false, "Print this help message.");
@@ -87,7 +124,7 @@ public class RetrieverApplication implements IApplication {
             printHelp(options);
         }
 
-        final RetrieverConfiguration configuration = new RetrieverConfigurationImpl();
+        final RetrieverConfigurationImpl configuration = new RetrieverConfigurationImpl();
 
         try {
             configuration.setInputFolder(URI.createFileURI(URI.decode(Paths.get(cmd.getOptionValue("i"))
@@ -127,6 +164,45 @@ public class RetrieverApplication implements IApplication {
             }
         }
 
+        configuration.setProfilingRules(cmd.hasOption("profile-rules"));
+        configuration.setSchedulingByDependencies(cmd.hasOption("schedule-by-dependencies"));
+        configuration.setStreamingDiscoveries(cmd.hasOption("stream-discoveries"));
+        if (cmd.hasOption("stream-capacity")) {
+            try {
+                final int streamCapacity = Integer.parseInt(cmd.getOptionValue("b"));
+                if (streamCapacity < 1) {
+                    System.err.println("Invalid stream capacity: " + streamCapacity);
+                    return -1;
+                }
+                configuration.setStreamCapacity(streamCapacity);
+            } catch (final NumberFormatException e) {
+                System.err.println("Invalid stream capacity: " + e.getMessage());
+                return -1;
+            }
+        }
+        if (cmd.hasOption("spill-cache-size")) {
+            try {
+                configuration.setSpillCacheSize(Integer.parseInt(cmd.getOptionValue("m")));
+            } catch (final NumberFormatException e) {
+                System.err.println("Invalid spill cache size: " + e.getMessage());
+                return -1;
+            }
+        }
+        if (cmd.hasOption("persistence-profile")) {
+            try {
+                configuration.setPersistenceProfile(PersistenceProfile.valueOf(cmd.getOptionValue("f")
+                    .toUpperCase(Locale.ENGLISH)));
+            } catch (final IllegalArgumentException e) {
+                System.err.println("Invalid persistence profile: " + cmd.getOptionValue("f"));
+                return -1;
+            }
+        }
+        configuration.setSkippingUnchangedModels(cmd.hasOption("skip-unchanged"));
+        configuration.setFragmentingRepository(cmd.hasOption("fragment-repository"));
+        configuration.setSplittingDiagrams(cmd.hasOption("split-diagrams"));
+        configuration.setOmittingComponentDiagram(cmd.hasOption("omit-component-diagram"));
+        configuration.setAssigningStableIdentifiers(cmd.hasOption("stable-identifiers"));
+
         final ServiceConfiguration<Rule> ruleConfig = configuration.getConfig(Rule.class);
         // Extract and check rules
         final Set<String> requestedRuleIDs = Arrays.stream(cmd.getOptionValue("r")
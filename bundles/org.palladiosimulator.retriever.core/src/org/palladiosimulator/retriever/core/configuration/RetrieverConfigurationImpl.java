@@ -11,6 +11,8 @@ import org.palladiosimulator.retriever.core.service.AnalystCollection;
 import org.palladiosimulator.retriever.core.service.DiscovererCollection;
 import org.palladiosimulator.retriever.core.service.EmptyCollection;
 import org.palladiosimulator.retriever.core.service.RuleCollection;
+import org.palladiosimulator.retriever.core.workflow.PersistenceProfile;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryStream;
 import org.palladiosimulator.retriever.services.Analyst;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
@@ -28,6 +30,18 @@ public class RetrieverConfigurationImpl extends AbstractComposedJobConfiguration
     public static final String RULE_ENGINE_INPUT_PATH = "input.path";
     public static final String RULE_ENGINE_OUTPUT_PATH = CONFIG_PREFIX + "output.path";
     public static final String RULE_ENGINE_RULES_PATH = CONFIG_PREFIX + "rules.path";
+    public static final String RULE_ENGINE_PROFILE_RULES = CONFIG_PREFIX + "rules.profile";
+    public static final String RULE_ENGINE_SCHEDULE_BY_DEPENDENCIES = CONFIG_PREFIX + "services.scheduleByDependencies";
+    public static final String RULE_ENGINE_STREAM_DISCOVERIES = CONFIG_PREFIX + "discoveries.stream";
+    public static final String RULE_ENGINE_STREAM_CAPACITY = CONFIG_PREFIX + "discoveries.stream.capacity";
+    public static final String RULE_ENGINE_SPILL_CACHE_SIZE = CONFIG_PREFIX + "discoveries.spill.cacheSize";
+    public static final String RULE_ENGINE_PERSISTENCE_PROFILE = CONFIG_PREFIX + "persistence.profile";
+    public static final String RULE_ENGINE_PERSISTENCE_SKIP_UNCHANGED = CONFIG_PREFIX + "persistence.skipUnchanged";
+    public static final String RULE_ENGINE_PERSISTENCE_FRAGMENT_REPOSITORY = CONFIG_PREFIX
+            + "persistence.fragmentRepository";
+    public static final String RULE_ENGINE_SPLIT_DIAGRAMS = CONFIG_PREFIX + "plantuml.splitComposites";
+    public static final String RULE_ENGINE_OMIT_COMPONENT_DIAGRAM = CONFIG_PREFIX + "plantuml.omitComponentDiagram";
+    public static final String RULE_ENGINE_STABLE_IDENTIFIERS = CONFIG_PREFIX + "stableIdentifiers";
     public static final String RULE_ENGINE_SELECTED_RULES = CONFIG_PREFIX + "rules";
     public static final String RULE_ENGINE_SELECTED_ANALYSTS = CONFIG_PREFIX + "analysts";
     public static final String RULE_ENGINE_SELECTED_DISCOVERERS = CONFIG_PREFIX + "discoverers";
@@ -38,6 +52,17 @@ public class RetrieverConfigurationImpl extends AbstractComposedJobConfiguration
     private /* not final */ URI inputFolder;
     private /* not final */ URI outputFolder;
     private /* not final */ URI rulesFolder;
+    private /* not final */ boolean profilingRules;
+    private /* not final */ boolean schedulingByDependencies;
+    private /* not final */ boolean streamingDiscoveries;
+    private /* not final */ int streamCapacity = DiscoveryStream.DEFAULT_CAPACITY;
+    private /* not final */ int spillCacheSize;
+    private /* not final */ PersistenceProfile persistenceProfile = PersistenceProfile.DEFAULT;
+    private /* not final */ boolean skippingUnchangedModels;
+    private /* not final */ boolean fragmentingRepository;
+    private /* not final */ boolean splittingDiagrams;
+    private /* not final */ boolean omittingComponentDiagram;
+    private /* not final */ boolean assigningStableIdentifiers;
 
     private final Map<Class<? extends Service>, ServiceConfiguration<? extends Service>> serviceConfigs;
 
@@ -104,6 +129,47 @@ public class RetrieverConfigurationImpl extends AbstractComposedJobConfiguration
         if (attributeMap.get(RULE_ENGINE_RULES_PATH) != null) {
             this.setRulesFolder(URI.createURI((String) attributeMap.get(RULE_ENGINE_RULES_PATH)));
         }
+        if (attributeMap.get(RULE_ENGINE_PROFILE_RULES) != null) {
+            this.setProfilingRules(Boolean.parseBoolean(String.valueOf(attributeMap.get(RULE_ENGINE_PROFILE_RULES))));
+        }
+        if (attributeMap.get(RULE_ENGINE_SCHEDULE_BY_DEPENDENCIES) != null) {
+            this.setSchedulingByDependencies(
+                    Boolean.parseBoolean(String.valueOf(attributeMap.get(RULE_ENGINE_SCHEDULE_BY_DEPENDENCIES))));
+        }
+        if (attributeMap.get(RULE_ENGINE_STREAM_DISCOVERIES) != null) {
+            this.setStreamingDiscoveries(
+                    Boolean.parseBoolean(String.valueOf(attributeMap.get(RULE_ENGINE_STREAM_DISCOVERIES))));
+        }
+        if (attributeMap.get(RULE_ENGINE_STREAM_CAPACITY) != null) {
+            this.setStreamCapacity(Integer.parseInt(String.valueOf(attributeMap.get(RULE_ENGINE_STREAM_CAPACITY))));
+        }
+        if (attributeMap.get(RULE_ENGINE_SPILL_CACHE_SIZE) != null) {
+            this.setSpillCacheSize(Integer.parseInt(String.valueOf(attributeMap.get(RULE_ENGINE_SPILL_CACHE_SIZE))));
+        }
+        if (attributeMap.get(RULE_ENGINE_PERSISTENCE_PROFILE) != null) {
+            this.setPersistenceProfile(
+                    PersistenceProfile.valueOf(String.valueOf(attributeMap.get(RULE_ENGINE_PERSISTENCE_PROFILE))));
+        }
+        if (attributeMap.get(RULE_ENGINE_PERSISTENCE_SKIP_UNCHANGED) != null) {
+            this.setSkippingUnchangedModels(
+                    Boolean.parseBoolean(String.valueOf(attributeMap.get(RULE_ENGINE_PERSISTENCE_SKIP_UNCHANGED))));
+        }
+        if (attributeMap.get(RULE_ENGINE_PERSISTENCE_FRAGMENT_REPOSITORY) != null) {
+            this.setFragmentingRepository(Boolean
+                .parseBoolean(String.valueOf(attributeMap.get(RULE_ENGINE_PERSISTENCE_FRAGMENT_REPOSITORY))));
+        }
+        if (attributeMap.get(RULE_ENGINE_SPLIT_DIAGRAMS) != null) {
+            this.setSplittingDiagrams(
+                    Boolean.parseBoolean(String.valueOf(attributeMap.get(RULE_ENGINE_SPLIT_DIAGRAMS))));
+        }
+        if (attributeMap.get(RULE_ENGINE_OMIT_COMPONENT_DIAGRAM) != null) {
+            this.setOmittingComponentDiagram(
+                    Boolean.parseBoolean(String.valueOf(attributeMap.get(RULE_ENGINE_OMIT_COMPONENT_DIAGRAM))));
+        }
+        if (attributeMap.get(RULE_ENGINE_STABLE_IDENTIFIERS) != null) {
+            this.setAssigningStableIdentifiers(
+                    Boolean.parseBoolean(String.valueOf(attributeMap.get(RULE_ENGINE_STABLE_IDENTIFIERS))));
+        }
 
         for (final ServiceConfiguration<? extends Service> serviceConfig : this.serviceConfigs.values()) {
             serviceConfig.applyAttributeMap(attributeMap);
@@ -145,6 +211,133 @@ public class RetrieverConfigurationImpl extends AbstractComposedJobConfiguration
         this.rulesFolder = rulesFolder;
     }
 
+    /**
+     * Whether the costs of each rule invocation are recorded and reported in the output folder.
+     */
+    public boolean isProfilingRules() {
+        return this.profilingRules;
+    }
+
+    public void setProfilingRules(final boolean profilingRules) {
+        this.profilingRules = profilingRules;
+    }
+
+    /**
+     * Whether discoverers and rules start as soon as the services they depend on are done, instead
+     * of running in steps. This relies on the services declaring all of their dependencies.
+     */
+    public boolean isSchedulingByDependencies() {
+        return this.schedulingByDependencies;
+    }
+
+    public void setSchedulingByDependencies(final boolean schedulingByDependencies) {
+        this.schedulingByDependencies = schedulingByDependencies;
+    }
+
+    /**
+     * Whether rules process discovered files while the discoverers are still running. Implies
+     * scheduling by dependencies.
+     */
+    public boolean isStreamingDiscoveries() {
+        return this.streamingDiscoveries;
+    }
+
+    public void setStreamingDiscoveries(final boolean streamingDiscoveries) {
+        this.streamingDiscoveries = streamingDiscoveries;
+    }
+
+    /**
+     * The number of discovered files a streaming rule buffers before it has started. If a
+     * discoverer publishes more files while the rule still waits for other services, the rule
+     * processes them only after discovery instead.
+     */
+    public int getStreamCapacity() {
+        return this.streamCapacity;
+    }
+
+    public void setStreamCapacity(final int streamCapacity) {
+        this.streamCapacity = streamCapacity;
+    }
+
+    /**
+     * The number of parsed files each discoverer keeps on the heap if discovered files are spilled
+     * to disk. Files are only spilled if this is positive.
+     */
+    public int getSpillCacheSize() {
+        return this.spillCacheSize;
+    }
+
+    public void setSpillCacheSize(final int spillCacheSize) {
+        this.spillCacheSize = spillCacheSize;
+    }
+
+    /**
+     * How the generated models are saved to the output folder.
+     */
+    public PersistenceProfile getPersistenceProfile() {
+        return this.persistenceProfile;
+    }
+
+    public void setPersistenceProfile(final PersistenceProfile persistenceProfile) {
+        this.persistenceProfile = Objects.requireNonNull(persistenceProfile);
+    }
+
+    /**
+     * Whether generated models are only written if they differ from the models in the output folder.
+     */
+    public boolean isSkippingUnchangedModels() {
+        return this.skippingUnchangedModels;
+    }
+
+    public void setSkippingUnchangedModels(final boolean skippingUnchangedModels) {
+        this.skippingUnchangedModels = skippingUnchangedModels;
+    }
+
+    /**
+     * Whether each composite component is saved as a repository fragment of its own.
+     */
+    public boolean isFragmentingRepository() {
+        return this.fragmentingRepository;
+    }
+
+    public void setFragmentingRepository(final boolean fragmentingRepository) {
+        this.fragmentingRepository = fragmentingRepository;
+    }
+
+    /**
+     * Whether each composite component gets a PlantUML component diagram of its own.
+     */
+    public boolean isSplittingDiagrams() {
+        return this.splittingDiagrams;
+    }
+
+    public void setSplittingDiagrams(final boolean splittingDiagrams) {
+        this.splittingDiagrams = splittingDiagrams;
+    }
+
+    /**
+     * Whether the PlantUML component diagram of the whole repository is left out.
+     */
+    public boolean isOmittingComponentDiagram() {
+        return this.omittingComponentDiagram;
+    }
+
+    public void setOmittingComponentDiagram(final boolean omittingComponentDiagram) {
+        this.omittingComponentDiagram = omittingComponentDiagram;
+    }
+
+    /**
+     * Whether generated model elements get identifiers derived from their names instead of random
+     * ones, so that repeated runs on the same input produce identical models.
+     */
+    public boolean isAssigningStableIdentifiers() {
+        return this.assigningStableIdentifiers;
+    }
+
+    public void setAssigningStableIdentifiers(final boolean assigningStableIdentifiers) {
+        this.assigningStableIdentifiers = assigningStableIdentifiers;
+    }
+
     @Override
     public <T extends Service> ServiceConfiguration<T> getConfig(final Class<T> serviceClass) {
         // serviceConfig only contains legal mappings
@@ -159,6 +352,18 @@ public class RetrieverConfigurationImpl extends AbstractComposedJobConfiguration
         result.put(RULE_ENGINE_INPUT_PATH, this.getInputFolder());
         result.put(RULE_ENGINE_OUTPUT_PATH, this.getOutputFolder());
         result.put(RULE_ENGINE_RULES_PATH, this.getRulesFolder());
+        result.put(RULE_ENGINE_PROFILE_RULES, this.isProfilingRules());
+        result.put(RULE_ENGINE_SCHEDULE_BY_DEPENDENCIES, this.isSchedulingByDependencies());
+        result.put(RULE_ENGINE_STREAM_DISCOVERIES, this.isStreamingDiscoveries());
+        result.put(RULE_ENGINE_STREAM_CAPACITY, this.getStreamCapacity());
+        result.put(RULE_ENGINE_SPILL_CACHE_SIZE, this.getSpillCacheSize());
+        result.put(RULE_ENGINE_PERSISTENCE_PROFILE, this.getPersistenceProfile()
+            .name());
+        result.put(RULE_ENGINE_PERSISTENCE_SKIP_UNCHANGED, this.isSkippingUnchangedModels());
+        result.put(RULE_ENGINE_PERSISTENCE_FRAGMENT_REPOSITORY, this.isFragmentingRepository());
+        result.put(RULE_ENGINE_SPLIT_DIAGRAMS, this.isSplittingDiagrams());
+        result.put(RULE_ENGINE_OMIT_COMPONENT_DIAGRAM, this.isOmittingComponentDiagram());
+        result.put(RULE_ENGINE_STABLE_IDENTIFIERS, this.isAssigningStableIdentifiers());
 
         for (final ServiceConfiguration<? extends Service> serviceConfig : this.serviceConfigs.values()) {
             result.putAll(serviceConfig.toMap());
@@ -19,9 +19,12 @@ import org.palladiosimulator.generator.fluent.system.api.ISystem;
 import org.palladiosimulator.generator.fluent.system.factory.FluentSystemFactory;
 import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.pcm.repository.RepositoryComponent;
+import org.palladiosimulator.pcm.system.System;
+import org.palladiosimulator.retriever.core.configuration.RetrieverConfigurationImpl;
 import org.palladiosimulator.retriever.extraction.engine.DockerParser;
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
 import org.palladiosimulator.retriever.extraction.engine.PCMInstanceCreator;
+import org.palladiosimulator.retriever.mocore.transformation.StableIdentifiers;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.Rule;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -66,7 +69,10 @@ public class Retriever {
             final Set<Rule> rules = configuration.getConfig(Rule.class)
                 .getSelected();
 
-            executeWith(inPath, outPath, rules, this.blackboard);
+            final boolean stableIdentifiers = (configuration instanceof final RetrieverConfigurationImpl impl)
+                    && impl.isAssigningStableIdentifiers();
+
+            executeWith(inPath, outPath, rules, this.blackboard, stableIdentifiers);
         } catch (final Exception e) {
             throw new RetrieverException("Analysis did not complete successfully", e);
         }
@@ -100,9 +106,11 @@ public class Retriever {
      *            the rules
      * @param blackboard
      *            the Retriever blackboard, containing (among other things) the discovered files
+     * @param stableIdentifiers
+     *            whether the created elements get identifiers derived from their names
      */
     private static void executeWith(final Path projectPath, final Path outPath, final Set<Rule> rules,
-            final RetrieverBlackboard blackboard) {
+            final RetrieverBlackboard blackboard, final boolean stableIdentifiers) {
         // Creates a PCM repository with systems, components, interfaces and roles
 
         // Parses the docker-compose file to get a mapping between microservice names and
@@ -111,6 +119,9 @@ public class Retriever {
         final Map<String, Set<CompilationUnit>> mapping = dockerParser.getMapping();
 
         pcm = new PCMInstanceCreator(blackboard).createPCM(mapping);
+        if (stableIdentifiers) {
+            StableIdentifiers.assign(pcm, "repository");
+        }
 
         // Create the build file systems
         final Map<RepositoryComponent, CompilationUnit> repoCompLocations = blackboard
@@ -141,7 +152,11 @@ public class Retriever {
             }
             // Only save systems that contain something to the repository
             if (hasChildren) {
-                blackboard.putSystemPath(system.createSystemNow(), entry.getKey());
+                final System createdSystem = system.createSystemNow();
+                if (stableIdentifiers) {
+                    StableIdentifiers.assign(createdSystem, "system");
+                }
+                blackboard.putSystemPath(createdSystem, entry.getKey());
             }
         }
 
@@ -0,0 +1,173 @@
+package org.palladiosimulator.retriever.core.workflow;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.IJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Releases data on the blackboard once nothing needs it anymore. Each piece of data declares the
+ * consumers that read it last, and the jobs of these consumers are tracked. As soon as all tracked
+ * jobs of all its consumers are done, the data is released, e.g. dropped or downgraded to a lighter
+ * form. Data whose consumers have no tracked jobs is released as soon as any tracked job is done.
+ */
+public class PartitionLifecycle {
+    private static final Logger LOG = Logger.getLogger(PartitionLifecycle.class);
+
+    private final RetrieverBlackboard blackboard;
+    private final Map<String, Declaration> declarations;
+    private final Map<String, Integer> pendingJobs;
+
+    public PartitionLifecycle(final RetrieverBlackboard blackboard) {
+        this.blackboard = Objects.requireNonNull(blackboard);
+        this.declarations = new LinkedHashMap<>();
+        this.pendingJobs = new HashMap<>();
+    }
+
+    /**
+     * Drops a partition from the blackboard.
+     */
+    public static Consumer<RetrieverBlackboard> drop(final String partitionKey) {
+        return blackboard -> {
+            if (blackboard.hasPartition(partitionKey)) {
+                blackboard.removePartition(partitionKey);
+            }
+        };
+    }
+
+    /**
+     * Replaces the files of a discoverer by their paths, so that the paths remain discovered but
+     * the parsed files can be collected. Does nothing if the discoverer has not put any files on the
+     * blackboard, e.g. because it failed.
+     */
+    public static Consumer<RetrieverBlackboard> downgradeDiscoveredFiles(final String discovererID) {
+        return blackboard -> {
+            final Map<Path, Object> files = blackboard.getDiscoveredFiles(discovererID, Object.class);
+            if (files == null) {
+                return;
+            }
+            final Map<Path, Object> pathsOnly = new HashMap<>();
+            for (final Path path : files.keySet()) {
+                pathsOnly.put(path, null);
+            }
+            blackboard.putDiscoveredFiles(discovererID, pathsOnly);
+        };
+    }
+
+    /**
+     * Clears a map held by the blackboard. Maps the blackboard only hands out as unmodifiable views
+     * stay as they are.
+     */
+    public static Consumer<RetrieverBlackboard> clear(final Function<RetrieverBlackboard, Map<?, ?>> map) {
+        return blackboard -> {
+            try {
+                map.apply(blackboard)
+                    .clear();
+            } catch (final UnsupportedOperationException e) {
+                LOG.debug("The blackboard does not allow to clear the map", e);
+            }
+        };
+    }
+
+    /**
+     * Declares data that is released once all tracked jobs of the given consumers are done.
+     *
+     * @param name
+     *            the name of the data, unique within the lifecycle
+     * @param release
+     *            releases the data from the blackboard
+     * @param lastConsumers
+     *            the consumers reading the data last
+     */
+    public synchronized void declare(final String name, final Consumer<RetrieverBlackboard> release,
+            final String... lastConsumers) {
+        final Declaration declaration = new Declaration(name, release, List.of(lastConsumers));
+        if (this.declarations.putIfAbsent(name, declaration) != null) {
+            throw new IllegalArgumentException("Data " + name + " is already declared");
+        }
+    }
+
+    /**
+     * Wraps the job of a consumer, so that its completion counts towards releasing the data the
+     * consumer reads last. A consumer may have several jobs, it is done once all of them are. A
+     * failed job is done as well, it does not read the data anymore.
+     */
+    public synchronized IJob track(final String consumer, final IJob job) {
+        this.pendingJobs.merge(Objects.requireNonNull(consumer), 1, Integer::sum);
+        return new TrackedJob(consumer, job);
+    }
+
+    private void done(final String consumer) {
+        final List<Declaration> released = new ArrayList<>();
+        synchronized (this) {
+            this.pendingJobs.merge(consumer, -1, Integer::sum);
+            for (final Declaration declaration : this.declarations.values()) {
+                if (declaration.lastConsumers.stream()
+                    .allMatch(lastConsumer -> this.pendingJobs.getOrDefault(lastConsumer, 0) == 0)) {
+                    released.add(declaration);
+                }
+            }
+            released.forEach(declaration -> this.declarations.remove(declaration.name));
+        }
+        for (final Declaration declaration : released) {
+            LOG.info("Releasing " + declaration.name);
+            declaration.release.accept(this.blackboard);
+        }
+    }
+
+    private static final class Declaration {
+        private final String name;
+        private final Consumer<RetrieverBlackboard> release;
+        private final List<String> lastConsumers;
+
+        private Declaration(final String name, final Consumer<RetrieverBlackboard> release,
+                final List<String> lastConsumers) {
+            this.name = Objects.requireNonNull(name);
+            this.release = Objects.requireNonNull(release);
+            this.lastConsumers = lastConsumers;
+        }
+    }
+
+    private class TrackedJob implements IJob {
+        private final String consumer;
+        private final IJob job;
+
+        TrackedJob(final String consumer, final IJob job) {
+            this.consumer = consumer;
+            this.job = Objects.requireNonNull(job);
+        }
+
+        @Override
+        public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+            try {
+                this.job.execute(monitor);
+            } finally {
+                PartitionLifecycle.this.done(this.consumer);
+            }
+        }
+
+        @Override
+        public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+            this.job.cleanup(monitor);
+        }
+
+        @Override
+        public String getName() {
+            return this.job.getName();
+        }
+    }
+}
@@ -1,13 +1,50 @@
 package org.palladiosimulator.retriever.core.workflow;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipInputStream;
+
+import org.apache.log4j.Logger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.palladiosimulator.generator.fluent.shared.util.ModelSaver;
 import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.repository.CompositeComponent;
 import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.pcm.repository.RepositoryComponent;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
 import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
 import org.palladiosimulator.pcm.system.System;
 
@@ -18,7 +55,12 @@ import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
 import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 
 public class PersistenceJob implements IBlackboardInteractingJob<Blackboard<Object>> {
+    private static final Logger LOG = Logger.getLogger(PersistenceJob.class);
     private static final String JOB_NAME = "Model Persistence Job";
+    private static final String REPOSITORY_EXTENSION = "repository";
+    private static final String FRAGMENT_FOLDER_SUFFIX = ".fragments";
+    private static final int FLUSH_THRESHOLD = 1024 * 1024;
+    private static final int BINARY_BUFFER_CAPACITY = 64 * 1024;
 
     private Blackboard<Object> blackboard;
     private final String repositoryKey;
@@ -27,11 +69,22 @@ public class PersistenceJob implements IBlackboardInteractingJob<Blackboard<Obje
     private final String resourceEnvironmentKey;
     private final String outputFolder;
     private final String projectName;
+    private final PersistenceProfile profile;
+    private boolean skippingUnchanged;
+    private boolean fragmentingRepository;
 
     public PersistenceJob(final Blackboard<Object> blackboard, final URI inputFolder, final URI outputFolder,
             final String repositoryKey, final String systemKey, final String allocationKey,
             final String resourceEnvironmentKey) {
+        this(blackboard, inputFolder, outputFolder, repositoryKey, systemKey, allocationKey, resourceEnvironmentKey,
+                PersistenceProfile.DEFAULT);
+    }
+
+    public PersistenceJob(final Blackboard<Object> blackboard, final URI inputFolder, final URI outputFolder,
+            final String repositoryKey, final String systemKey, final String allocationKey,
+            final String resourceEnvironmentKey, final PersistenceProfile profile) {
         this.blackboard = Objects.requireNonNull(blackboard);
+        this.profile = Objects.requireNonNull(profile);
 
         this.repositoryKey = Objects.requireNonNull(repositoryKey);
         this.systemKey = Objects.requireNonNull(systemKey);
@@ -62,13 +115,291 @@ public class PersistenceJob implements IBlackboardInteractingJob<Blackboard<Obje
 
         // Make blackboard models persistent by saving them as files
         monitor.subTask("Persisting models");
-        ModelSaver.saveRepository(repository, this.outputFolder, this.projectName);
-        ModelSaver.saveSystem(system, this.outputFolder, this.projectName);
-        ModelSaver.saveResourceEnvironment(resourceEnvironment, this.outputFolder, this.projectName);
-        ModelSaver.saveAllocation(allocation, this.outputFolder, this.projectName);
+        if ((this.profile == PersistenceProfile.DEFAULT) && !this.skippingUnchanged && !this.fragmentingRepository) {
+            ModelSaver.saveRepository(repository, this.outputFolder, this.projectName);
+            ModelSaver.saveSystem(system, this.outputFolder, this.projectName);
+            ModelSaver.saveResourceEnvironment(resourceEnvironment, this.outputFolder, this.projectName);
+            ModelSaver.saveAllocation(allocation, this.outputFolder, this.projectName);
+        } else {
+            final Map<String, EObject> models = new HashMap<>();
+            models.put(REPOSITORY_EXTENSION, repository);
+            models.put("system", system);
+            models.put("resourceenvironment", resourceEnvironment);
+            models.put("allocation", allocation);
+            this.saveInResourceSet(models);
+        }
         monitor.done();
     }
 
+    /**
+     * Whether models are only written if their content differs from the files in the output folder.
+     * Only useful if the identifiers of the model elements are stable across runs.
+     */
+    public boolean isSkippingUnchanged() {
+        return this.skippingUnchanged;
+    }
+
+    public void setSkippingUnchanged(final boolean skippingUnchanged) {
+        this.skippingUnchanged = skippingUnchanged;
+    }
+
+    /**
+     * Whether each composite component of the repository is saved as a repository of its own in a
+     * fragment folder next to the models.
+     */
+    public boolean isFragmentingRepository() {
+        return this.fragmentingRepository;
+    }
+
+    public void setFragmentingRepository(final boolean fragmentingRepository) {
+        this.fragmentingRepository = fragmentingRepository;
+    }
+
+    private void saveInResourceSet(final Map<String, EObject> models) throws JobFailedException {
+        final Resource.Factory factory;
+        if (this.profile == PersistenceProfile.FAST_BINARY) {
+            factory = BinaryResourceImpl::new;
+        } else {
+            factory = new XMIResourceFactoryImpl();
+        }
+
+        // All models have to be contained in their resources before any of them is saved, so that
+        // the references between them are saved as references to the other files
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        final List<Resource> resources = new ArrayList<>();
+        models.forEach((extension, model) -> {
+            resourceSet.getResourceFactoryRegistry()
+                .getExtensionToFactoryMap()
+                .put(extension, factory);
+            final Resource resource = resourceSet.createResource(URI.createFileURI(this.outputFolder + "/"
+                    + this.projectName + "." + extension));
+            resource.getContents()
+                .add(model);
+            resources.add(resource);
+        });
+
+        final ExecutorService executor;
+        if (this.profile == PersistenceProfile.DEFAULT) {
+            executor = Executors.newSingleThreadExecutor();
+        } else {
+            executor = Executors.newFixedThreadPool(Math.min(resources.size(), Runtime.getRuntime()
+                .availableProcessors()));
+        }
+        final Repository repository = (Repository) models.get(REPOSITORY_EXTENSION);
+        final Map<CompositeComponent, Integer> fragmentedComposites = new LinkedHashMap<>();
+        final AtomicInteger skipped = new AtomicInteger();
+        try {
+            if (this.fragmentingRepository) {
+                this.fragment(repository, resourceSet, resources, fragmentedComposites);
+            }
+            final List<Future<Void>> saves = new ArrayList<>();
+            for (final Resource resource : resources) {
+                saves.add(executor.submit(() -> {
+                    if (!this.save(resource)) {
+                        skipped.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<Void> save : saves) {
+                await(save);
+            }
+        } finally {
+            // The saves read the repository, so it must not be restored while any is still running
+            shutdown(executor);
+            restore(repository, fragmentedComposites);
+        }
+
+        if (this.fragmentingRepository) {
+            this.deleteStaleFragments(resources);
+        }
+        if (this.skippingUnchanged) {
+            LOG.info(String.format("Skipped %d of %d unchanged model files", skipped.get(), resources.size()));
+        }
+    }
+
+    /**
+     * Moves each composite component of the repository into a repository of its own in a separate
+     * resource. The references to a moved component are saved as references into its fragment.
+     * Each moved component is recorded with its original position in the repository.
+     */
+    private void fragment(final Repository repository, final ResourceSet resourceSet, final List<Resource> resources,
+            final Map<CompositeComponent, Integer> movedComposites) {
+        final Map<CompositeComponent, Integer> composites = new LinkedHashMap<>();
+        final List<RepositoryComponent> components = repository.getComponents__Repository();
+        for (int i = 0; i < components.size(); ++i) {
+            if (components.get(i) instanceof final CompositeComponent composite) {
+                composites.put(composite, i);
+            }
+        }
+
+        final Set<String> fileNames = new HashSet<>();
+        for (final Map.Entry<CompositeComponent, Integer> entry : composites.entrySet()) {
+            final CompositeComponent composite = entry.getKey();
+            final String baseName = String.valueOf(composite.getEntityName())
+                .replaceAll("[^\\w\\-]", "_");
+            String fileName = baseName;
+            for (int occurrence = 2; !fileNames.add(fileName); ++occurrence) {
+                fileName = baseName + "_" + occurrence;
+            }
+
+            final Repository fragment = RepositoryFactory.eINSTANCE.createRepository();
+            // Derived from the original identifiers, so that unchanged fragments stay unchanged
+            fragment.setId(repository.getId() + "_" + composite.getId());
+            fragment.setEntityName(composite.getEntityName());
+            fragment.getComponents__Repository()
+                .add(composite);
+            movedComposites.put(composite, entry.getValue());
+
+            final Resource resource = resourceSet.createResource(URI.createFileURI(this.getFragmentFolder()
+                .resolve(fileName + "." + REPOSITORY_EXTENSION)
+                .toString()));
+            resource.getContents()
+                .add(fragment);
+            resources.add(resource);
+        }
+    }
+
+    private static void restore(final Repository repository, final Map<CompositeComponent, Integer> composites) {
+        // Ascending positions, so each component is inserted where it was before
+        composites.forEach((composite, index) -> repository.getComponents__Repository()
+            .add(index, composite));
+    }
+
+    private Path getFragmentFolder() {
+        return Path.of(this.outputFolder, this.projectName + FRAGMENT_FOLDER_SUFFIX);
+    }
+
+    private void deleteStaleFragments(final List<Resource> resources) throws JobFailedException {
+        final Path fragmentFolder = this.getFragmentFolder();
+        if (!Files.isDirectory(fragmentFolder)) {
+            return;
+        }
+        final Set<Path> currentFiles = new HashSet<>();
+        for (final Resource resource : resources) {
+            currentFiles.add(Path.of(resource.getURI()
+                .toFileString()));
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(fragmentFolder, "*." + REPOSITORY_EXTENSION)) {
+            for (final Path file : files) {
+                if (!currentFiles.contains(file)) {
+                    Files.delete(file);
+                }
+            }
+        } catch (final IOException e) {
+            throw new JobFailedException(JOB_NAME + " failed to delete stale fragments", e);
+        }
+    }
+
+    /**
+     * Saves the resource, unless skipping unchanged resources and the file already has the same
+     * content.
+     *
+     * @return whether the resource was written
+     */
+    private boolean save(final Resource resource) throws IOException {
+        final Map<Object, Object> options = this.createSaveOptions();
+        if (!this.skippingUnchanged) {
+            resource.save(options);
+            return true;
+        }
+
+        // Zip entries carry a time stamp, so zipped files are compared by their uncompressed content
+        final boolean zipped = options.remove(Resource.OPTION_ZIP) != null;
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        resource.save(content, options);
+        final byte[] bytes = content.toByteArray();
+        final Path file = Path.of(resource.getURI()
+            .toFileString());
+        if (Files.isRegularFile(file) && Arrays.equals(hash(bytes), hashFile(file, zipped))) {
+            return false;
+        }
+
+        if (zipped) {
+            options.put(Resource.OPTION_ZIP, Boolean.TRUE);
+            resource.save(options);
+        } else {
+            Files.createDirectories(file.getParent());
+            Files.write(file, bytes);
+        }
+        return true;
+    }
+
+    private static byte[] hash(final byte[] bytes) {
+        return createDigest().digest(bytes);
+    }
+
+    private static byte[] hashFile(final Path file, final boolean zipped) throws IOException {
+        final MessageDigest digest = createDigest();
+        try (InputStream fileStream = Files.newInputStream(file);
+                ZipInputStream zipStream = zipped ? new ZipInputStream(fileStream) : null;
+                InputStream contentStream = new DigestInputStream(zipped ? zipStream : fileStream, digest)) {
+            if (zipped && (zipStream.getNextEntry() == null)) {
+                return new byte[0];
+            }
+            contentStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Lookup tables are not thread-safe, so each resource gets options of its own
+    private Map<Object, Object> createSaveOptions() {
+        final Map<Object, Object> options = new HashMap<>();
+        if (this.profile == PersistenceProfile.DEFAULT) {
+            return options;
+        }
+        if (this.profile == PersistenceProfile.FAST_BINARY) {
+            options.put(BinaryResourceImpl.OPTION_BUFFER_CAPACITY, BINARY_BUFFER_CAPACITY);
+            return options;
+        }
+        options.put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, new ArrayList<>());
+        options.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+        options.put(XMLResource.OPTION_FLUSH_THRESHOLD, FLUSH_THRESHOLD);
+        options.put(XMLResource.OPTION_LINE_WIDTH, Integer.MAX_VALUE);
+        if (this.profile == PersistenceProfile.FAST_ZIPPED) {
+            options.put(Resource.OPTION_ZIP, Boolean.TRUE);
+        }
+        return options;
+    }
+
+    private static void shutdown(final ExecutorService executor) {
+        executor.shutdownNow();
+        boolean interrupted = false;
+        while (!executor.isTerminated()) {
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException e) {
+                // A running save cannot be aborted, so keep waiting for it
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+    private static void await(final Future<Void> save) throws JobFailedException {
+        try {
+            save.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new JobFailedException(JOB_NAME + " was interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new JobFailedException(JOB_NAME + " failed to save a model", e.getCause());
+        }
+    }
+
     @Override
     public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
         // No cleanup required for the job
@@ -0,0 +1,24 @@
+package org.palladiosimulator.retriever.core.workflow;
+
+/**
+ * How {@link PersistenceJob} saves the models. All profiles but {@link #DEFAULT} save the four
+ * models in parallel with save options tuned for throughput.
+ */
+public enum PersistenceProfile {
+    /**
+     * Saves the models one after another as XMI with default options.
+     */
+    DEFAULT,
+    /**
+     * Saves the models as XMI.
+     */
+    FAST,
+    /**
+     * Saves the models as zipped XMI. Loading them requires the zip option as well.
+     */
+    FAST_ZIPPED,
+    /**
+     * Saves the models in the EMF binary format. Loading them requires a binary resource.
+     */
+    FAST_BINARY
+}
@@ -1,9 +1,25 @@
 package org.palladiosimulator.retriever.core.workflow;
 
-import java.io.ByteArrayInputStream;
-import java.io.FileWriter;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.resources.IFile;
@@ -11,11 +27,23 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.repository.CompositeComponent;
+import org.palladiosimulator.pcm.repository.Interface;
+import org.palladiosimulator.pcm.repository.OperationProvidedRole;
+import org.palladiosimulator.pcm.repository.OperationRequiredRole;
+import org.palladiosimulator.pcm.repository.ProvidedRole;
 import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.pcm.repository.RepositoryComponent;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+import org.palladiosimulator.pcm.repository.RequiredRole;
 import org.palladiosimulator.pcm.system.System;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
 import org.palladiosimulator.view.plantuml.generator.PcmAllocationDiagramGenerator;
@@ -31,16 +59,21 @@ public class PlantUmlJob extends AbstractBlackboardInteractingJob<RetrieverBlack
 
     private static final String ALLOCATION_DIAGRAM_NAME = "allocationDiagram.puml";
     private static final String COMPONENT_DIAGRAM_NAME = "componentDiagram.puml";
+    private static final String COMPOSITE_DIAGRAM_PREFIX = "componentDiagram_";
+    private static final String DIAGRAM_EXTENSION = ".puml";
     private static final String END_UML = "\n@enduml\n";
     private static final String JOB_NAME = "Retriever PlantUML Generation";
     private static final Logger LOGGER = Logger.getLogger(PlantUmlJob.class);
     private static final String START_UML = "@startuml\n";
     private static final String SYSTEM_DIAGRAM_NAME = "systemDiagram.puml";
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
 
     private final String allocationKey;
     private final URI outputFolder;
     private final String repositoryKey;
     private final String systemKey;
+    private boolean splittingComposites;
+    private boolean omittingComponentDiagram;
 
     public PlantUmlJob(final RetrieverBlackboard blackboard, final URI outputFolder, final String repositoryKey,
             final String systemKey, final String allocationKey) {
@@ -59,29 +92,79 @@ public class PlantUmlJob extends AbstractBlackboardInteractingJob<RetrieverBlack
 
     @Override
     public void execute(final IProgressMonitor arg0) throws JobFailedException, UserCanceledException {
+        // Diagram file names and their generators, in the order they are written
+        final Map<String, Supplier<String>> diagrams = new LinkedHashMap<>();
+
         final Repository repository = (Repository) this.getBlackboard()
             .getPartition(this.repositoryKey);
         if ((repository != null) && !repository.eContents()
             .isEmpty()) {
-            this.writeFile(arg0, START_UML + new PcmComponentDiagramGenerator(repository).get() + END_UML,
-                    COMPONENT_DIAGRAM_NAME);
+            if (!this.omittingComponentDiagram) {
+                diagrams.put(COMPONENT_DIAGRAM_NAME, new PcmComponentDiagramGenerator(repository)::get);
+            }
+            if (this.splittingComposites) {
+                this.addCompositeDiagrams(repository, diagrams);
+            }
         }
 
         final System system = (System) this.getBlackboard()
             .getPartition(this.systemKey);
         if ((system != null) && !system.eContents()
             .isEmpty()) {
-            this.writeFile(arg0, START_UML + new PcmSystemDiagramGenerator(system).get() + END_UML,
-                    SYSTEM_DIAGRAM_NAME);
+            diagrams.put(SYSTEM_DIAGRAM_NAME, new PcmSystemDiagramGenerator(system)::get);
         }
 
         final Allocation allocation = (Allocation) this.getBlackboard()
             .getPartition(this.allocationKey);
         if ((allocation != null) && !allocation.eContents()
             .isEmpty()) {
-            this.writeFile(arg0, START_UML + new PcmAllocationDiagramGenerator(allocation).get() + END_UML,
-                    ALLOCATION_DIAGRAM_NAME);
+            diagrams.put(ALLOCATION_DIAGRAM_NAME, new PcmAllocationDiagramGenerator(allocation)::get);
+        }
+
+        if (diagrams.isEmpty()) {
+            return;
+        }
+
+        // The composites were copied on this thread before. From now on, no model is modified, so the
+        // diagrams can be generated concurrently
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(diagrams.size(), Runtime.getRuntime()
+            .availableProcessors()));
+        try {
+            final List<Future<?>> writes = new ArrayList<>();
+            diagrams.forEach((fileName, generator) -> writes.add(executor.submit(() -> this.writeFile(generator,
+                    fileName))));
+            for (final Future<?> write : writes) {
+                await(write);
+            }
+        } finally {
+            executor.shutdownNow();
         }
+
+        this.refreshOutputFolder(arg0);
+    }
+
+    /**
+     * Whether each composite component additionally gets a component diagram of its own, showing
+     * its inner components and their interfaces.
+     */
+    public boolean isSplittingComposites() {
+        return this.splittingComposites;
+    }
+
+    public void setSplittingComposites(final boolean splittingComposites) {
+        this.splittingComposites = splittingComposites;
+    }
+
+    /**
+     * Whether the component diagram of the whole repository is left out, e.g. because it is too
+     * large to be rendered and the diagrams of the composite components suffice.
+     */
+    public boolean isOmittingComponentDiagram() {
+        return this.omittingComponentDiagram;
+    }
+
+    public void setOmittingComponentDiagram(final boolean omittingComponentDiagram) {
+        this.omittingComponentDiagram = omittingComponentDiagram;
     }
 
     @Override
@@ -89,29 +172,136 @@ public class PlantUmlJob extends AbstractBlackboardInteractingJob<RetrieverBlack
         return JOB_NAME;
     }
 
-    private void writeFile(final IProgressMonitor monitor, final String plantUmlSource, final String fileName) {
+    private void addCompositeDiagrams(final Repository repository, final Map<String, Supplier<String>> diagrams) {
+        final Set<String> fileNames = new HashSet<>();
+        for (final RepositoryComponent component : repository.getComponents__Repository()) {
+            if (component instanceof final CompositeComponent composite) {
+                final String baseName = COMPOSITE_DIAGRAM_PREFIX + String.valueOf(composite.getEntityName())
+                    .replaceAll("[^\\w\\-]", "_");
+                String fileName = baseName + DIAGRAM_EXTENSION;
+                for (int occurrence = 2; !fileNames.add(fileName); ++occurrence) {
+                    fileName = baseName + "_" + occurrence + DIAGRAM_EXTENSION;
+                }
+                // Copied up front, as copying while other threads generate diagrams of the same
+                // elements is not safe
+                diagrams.put(fileName, new PcmComponentDiagramGenerator(createCompositeRepository(composite))::get);
+            }
+        }
+    }
+
+    /**
+     * Copies the composite component, its inner components and their interfaces into a repository
+     * of their own. The original repository is left untouched.
+     */
+    private static Repository createCompositeRepository(final CompositeComponent composite) {
+        final Set<EObject> elements = new LinkedHashSet<>();
+        elements.add(composite);
+        for (final AssemblyContext context : composite.getAssemblyContexts__ComposedStructure()) {
+            if (context.getEncapsulatedComponent__AssemblyContext() != null) {
+                elements.add(context.getEncapsulatedComponent__AssemblyContext());
+            }
+        }
+        final Set<Interface> interfaces = new LinkedHashSet<>();
+        for (final EObject element : elements) {
+            final RepositoryComponent component = (RepositoryComponent) element;
+            for (final ProvidedRole role : component.getProvidedRoles_InterfaceProvidingEntity()) {
+                if (role instanceof final OperationProvidedRole operationRole) {
+                    interfaces.add(operationRole.getProvidedInterface__OperationProvidedRole());
+                }
+            }
+            for (final RequiredRole role : component.getRequiredRoles_InterfaceRequiringEntity()) {
+                if (role instanceof final OperationRequiredRole operationRole) {
+                    interfaces.add(operationRole.getRequiredInterface__OperationRequiredRole());
+                }
+            }
+        }
+        interfaces.remove(null);
+        elements.addAll(interfaces);
+
+        final Repository compositeRepository = RepositoryFactory.eINSTANCE.createRepository();
+        compositeRepository.setEntityName(composite.getEntityName());
+        // Copied together, so that the copies refer to each other instead of the originals
+        for (final EObject copy : EcoreUtil.copyAll(elements)) {
+            if (copy instanceof final RepositoryComponent component) {
+                compositeRepository.getComponents__Repository()
+                    .add(component);
+            } else {
+                compositeRepository.getInterfaces__Repository()
+                    .add((Interface) copy);
+            }
+        }
+        return compositeRepository;
+    }
+
+    /**
+     * Writes the diagram through a buffered channel, without concatenating it into a single string.
+     * The diagram is generated before the file is opened, so that a failing generator leaves an
+     * existing file untouched.
+     */
+    private void writeFile(final Supplier<String> generator, final String fileName) {
+        final java.nio.file.Path path = this.getFilePath(fileName);
+        if (path == null) {
+            LOGGER.error("Could not locate " + fileName + " in " + this.outputFolder);
+            return;
+        }
+        final String diagram = generator.get();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8),
+                        WRITE_BUFFER_SIZE)) {
+            writer.write(START_UML);
+            writer.write(diagram);
+            writer.write(END_UML);
+        } catch (final IOException e) {
+            LOGGER.error(e);
+        }
+    }
+
+    // Null if a workspace file has no location in the file system
+    private java.nio.file.Path getFilePath(final String fileName) {
         if (this.outputFolder.isPlatformResource()) {
             final IWorkspaceRoot root = ResourcesPlugin.getWorkspace()
                 .getRoot();
             final IFile file = root.getFile(new Path(this.outputFolder.appendSegment(fileName)
                 .toPlatformString(true)));
-            try {
-                if (!file.exists()) {
-                    file.create(new ByteArrayInputStream(new byte[0]), IResource.FORCE, monitor);
-                }
-                file.setContents(new ByteArrayInputStream(plantUmlSource.getBytes()), IResource.FORCE, monitor);
-            } catch (final CoreException e) {
-                LOGGER.error(e);
+            final IPath location = file.getLocation();
+            if (location == null) {
+                return null;
             }
+            return location.toFile()
+                .toPath();
+        }
+        return java.nio.file.Path.of(this.outputFolder.appendSegment(fileName)
+            .devicePath());
+    }
 
-        } else {
-            final String path = this.outputFolder.appendSegment(fileName)
-                .devicePath();
-            try (FileWriter writer = new FileWriter(path)) {
-                writer.append(plantUmlSource);
-            } catch (final IOException e) {
-                LOGGER.error(e);
-            }
+    // The diagrams are written past the workspace, so it has to pick them up afterwards
+    private void refreshOutputFolder(final IProgressMonitor monitor) {
+        if (!this.outputFolder.isPlatformResource()) {
+            return;
+        }
+        final IResource folder = ResourcesPlugin.getWorkspace()
+            .getRoot()
+            .findMember(new Path(this.outputFolder.toPlatformString(true)));
+        if (folder == null) {
+            return;
+        }
+        try {
+            folder.refreshLocal(IResource.DEPTH_ONE, monitor);
+        } catch (final CoreException e) {
+            LOGGER.error(e);
+        }
+    }
+
+    private static void await(final Future<?> write) throws JobFailedException {
+        try {
+            write.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new JobFailedException(JOB_NAME + " was interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new JobFailedException(JOB_NAME + " failed to generate a diagram", e.getCause());
         }
     }
 
@@ -1,11 +1,22 @@
 package org.palladiosimulator.retriever.core.workflow;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.palladiosimulator.retriever.core.configuration.RetrieverBlackboardKeys;
+import org.palladiosimulator.retriever.core.configuration.RetrieverConfigurationImpl;
+import org.palladiosimulator.retriever.extraction.engine.DiscoverySpill;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryStream;
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule;
+import org.palladiosimulator.retriever.extraction.engine.ProfiledRule;
+import org.palladiosimulator.retriever.extraction.engine.RuleProfiler;
+import org.palladiosimulator.retriever.extraction.engine.StreamingRuleJob;
 import org.palladiosimulator.retriever.mocore.workflow.MoCoReJob;
 import org.palladiosimulator.retriever.services.Analyst;
 import org.palladiosimulator.retriever.services.Discoverer;
@@ -16,36 +27,90 @@ import org.palladiosimulator.somox.ast2seff.jobs.Ast2SeffJob;
 
 import de.uka.ipd.sdq.workflow.extension.AbstractExtendableJob;
 import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
 import de.uka.ipd.sdq.workflow.jobs.ParallelJob;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 
 public class RetrieverJob extends AbstractExtendableJob<RetrieverBlackboard> {
 
+    // Consumers that read parsed files, AST nodes, or bindings last
+    private static final String PCM_CREATION = "PCM creation";
+    private static final String ANALYSTS = "analysts";
+    private static final String SEFF_GENERATION = "SEFF generation";
+    private static final String SEFF_MERGE = "SEFF merge";
+
+    // The YAML discoverer also puts a mapper for each file on the blackboard
+    private static final String YAML_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.yaml";
+    private static final String YAML_MAPPERS_KEY = YAML_DISCOVERER_ID + ".mappers";
+
+    // Only set if rule invocations are profiled, so that rules run undecorated otherwise
+    private final RuleProfiler ruleProfiler;
+    // Null if discovered files stay on the heap
+    private final DiscoverySpill spill;
+
     public RetrieverJob(final RetrieverConfiguration configuration) {
         super.setBlackboard(new RetrieverBlackboard(new PCMDetector()));
 
-        super.addAll(this.createDiscovererJobs(configuration));
+        if ((configuration instanceof final RetrieverConfigurationImpl configurationImpl)
+                && configurationImpl.isProfilingRules()) {
+            this.ruleProfiler = new RuleProfiler();
+        } else {
+            this.ruleProfiler = null;
+        }
+
+        this.spill = this.createDiscoverySpill(configuration);
+
+        if ((configuration instanceof final RetrieverConfigurationImpl configurationImpl)
+                && configurationImpl.isStreamingDiscoveries()) {
+            final DiscoveryStream stream = new DiscoveryStream(Math.max(1, configurationImpl.getStreamCapacity()));
+            this.myBlackboard.addPartition(DiscoveryStream.PARTITION_KEY, stream);
+            super.add(this.createServiceGraphJob(configuration, stream));
+        } else if ((configuration instanceof final RetrieverConfigurationImpl configurationImpl)
+                && configurationImpl.isSchedulingByDependencies()) {
+            super.add(this.createServiceGraphJob(configuration, null));
+        } else {
+            super.addAll(this.createDiscovererJobs(configuration));
+
+            super.addAll(this.createRuleJobs(configuration));
+
+            super.addAll(this.createBuildRulesJob(configuration));
+        }
 
-        super.addAll(this.createRuleJobs(configuration));
+        if (this.ruleProfiler != null) {
+            super.add(new RuleProfileReportJob(this.getBlackboard(), this.ruleProfiler,
+                    configuration.getOutputFolder()));
+        }
 
-        super.addAll(this.createBuildRulesJob(configuration));
+        // Parsed files and AST nodes are released once their last consumer is done, so that they
+        // do not stay on the heap while the models are refined, persisted, and visualized
+        final PartitionLifecycle lifecycle = this.createPartitionLifecycle(configuration);
 
-        super.add(new RetrieverBlackboardInteractingJob(configuration, this.getBlackboard()));
+        super.add(lifecycle.track(PCM_CREATION, new RetrieverBlackboardInteractingJob(configuration,
+                this.getBlackboard())));
 
-        super.addAll(this.createAnalystJobs(configuration));
+        for (final ParallelJob analystJob : this.createAnalystJobs(configuration)) {
+            super.add(lifecycle.track(ANALYSTS, analystJob));
+        }
 
         // Generate service effect specifications based on AST nodes and merge them into repository
-        super.add(new Ast2SeffJob(this.getBlackboard(),
+        super.add(lifecycle.track(SEFF_GENERATION, new Ast2SeffJob(this.getBlackboard(),
                 RetrieverBlackboardKeys.RULE_ENGINE_BLACKBOARD_KEY_SEFF_ASSOCIATIONS,
-                RetrieverBlackboardKeys.RULE_ENGINE_AST2SEFF_OUTPUT_REPOSITORY));
-        super.add(new SeffMergerJob(this.myBlackboard, RetrieverBlackboardKeys.RULE_ENGINE_AST2SEFF_OUTPUT_REPOSITORY,
-                RetrieverBlackboardKeys.RULE_ENGINE_BLACKBOARD_KEY_REPOSITORY));
+                RetrieverBlackboardKeys.RULE_ENGINE_AST2SEFF_OUTPUT_REPOSITORY)));
+        super.add(lifecycle.track(SEFF_MERGE, new SeffMergerJob(this.myBlackboard,
+                RetrieverBlackboardKeys.RULE_ENGINE_AST2SEFF_OUTPUT_REPOSITORY,
+                RetrieverBlackboardKeys.RULE_ENGINE_BLACKBOARD_KEY_REPOSITORY)));
 
         // Refine model and create final repository, system, allocation, & resource environment
-        super.add(new MoCoReJob(this.getBlackboard(), RetrieverBlackboardKeys.RULE_ENGINE_BLACKBOARD_KEY_REPOSITORY,
+        final MoCoReJob moCoReJob = new MoCoReJob(this.getBlackboard(),
+                RetrieverBlackboardKeys.RULE_ENGINE_BLACKBOARD_KEY_REPOSITORY,
                 RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_REPOSITORY,
                 RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_SYSTEM,
                 RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_ALLOCATION,
-                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_RESOURCE_ENVIRONMENT));
+                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_RESOURCE_ENVIRONMENT);
+        if (configuration instanceof final RetrieverConfigurationImpl configurationImpl) {
+            moCoReJob.setAssigningStableIdentifiers(configurationImpl.isAssigningStableIdentifiers());
+        }
+        super.add(moCoReJob);
 
         // Merge data & failure types into output repository
         super.add(new TypeMergerJob(this.getBlackboard(), RetrieverBlackboardKeys.RULE_ENGINE_BLACKBOARD_KEY_REPOSITORY,
@@ -53,16 +118,110 @@ public class RetrieverJob extends AbstractExtendableJob<RetrieverBlackboard> {
 
         // Persist repository, system, allocation, & resource environment model from blackboard into
         // file system
-        super.add(new PersistenceJob(this.getBlackboard(), configuration.getInputFolder(),
+        final PersistenceJob persistenceJob;
+        if (configuration instanceof final RetrieverConfigurationImpl configurationImpl) {
+            persistenceJob = this.createPersistenceJob(configuration, configurationImpl.getPersistenceProfile());
+            persistenceJob.setSkippingUnchanged(configurationImpl.isSkippingUnchangedModels());
+            if (configurationImpl.isSkippingUnchangedModels() && !configurationImpl.isAssigningStableIdentifiers()) {
+                // Random identifiers differ in every run, so no model would ever be unchanged
+                this.logger.warn("Skipping unchanged models requires stable identifiers, all models are written");
+            }
+            persistenceJob.setFragmentingRepository(configurationImpl.isFragmentingRepository());
+        } else {
+            persistenceJob = this.createPersistenceJob(configuration, PersistenceProfile.DEFAULT);
+        }
+        super.add(persistenceJob);
+
+        final PlantUmlJob plantUmlJob = new PlantUmlJob(this.getBlackboard(), configuration.getOutputFolder(),
+                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_REPOSITORY,
+                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_SYSTEM,
+                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_ALLOCATION);
+        if (configuration instanceof final RetrieverConfigurationImpl configurationImpl) {
+            plantUmlJob.setSplittingComposites(configurationImpl.isSplittingDiagrams());
+            plantUmlJob.setOmittingComponentDiagram(configurationImpl.isOmittingComponentDiagram());
+        }
+        super.add(plantUmlJob);
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        try {
+            super.execute(monitor);
+        } finally {
+            // Usually released by the lifecycle already, but not if a job failed before
+            if (this.spill != null) {
+                this.spill.close();
+            }
+        }
+    }
+
+    private DiscoverySpill createDiscoverySpill(final RetrieverConfiguration configuration) {
+        if (!(configuration instanceof final RetrieverConfigurationImpl configurationImpl)
+                || (configurationImpl.getSpillCacheSize() <= 0)) {
+            return null;
+        }
+        try {
+            final DiscoverySpill spill = new DiscoverySpill(configurationImpl.getSpillCacheSize());
+            this.myBlackboard.addPartition(DiscoverySpill.PARTITION_KEY, spill);
+            return spill;
+        } catch (final IOException e) {
+            this.logger.warn("Could not create the spill directory, keeping discovered files on the heap", e);
+            return null;
+        }
+    }
+
+    private PersistenceJob createPersistenceJob(final RetrieverConfiguration configuration,
+            final PersistenceProfile profile) {
+        return new PersistenceJob(this.getBlackboard(), configuration.getInputFolder(),
                 configuration.getOutputFolder(), RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_REPOSITORY,
                 RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_SYSTEM,
                 RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_ALLOCATION,
-                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_RESOURCE_ENVIRONMENT));
+                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_RESOURCE_ENVIRONMENT, profile);
+    }
 
-        super.add(new PlantUmlJob(this.getBlackboard(), configuration.getOutputFolder(),
-                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_REPOSITORY,
-                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_SYSTEM,
-                RetrieverBlackboardKeys.RULE_ENGINE_MOCORE_OUTPUT_ALLOCATION));
+    private PartitionLifecycle createPartitionLifecycle(final RetrieverConfiguration configuration) {
+        final PartitionLifecycle lifecycle = new PartitionLifecycle(this.myBlackboard);
+
+        // Downgrade instead of dropping, the discovered paths are still valid
+        for (final Discoverer discoverer : configuration.getConfig(Discoverer.class)
+            .getSelected()) {
+            lifecycle.declare("files of " + discoverer.getID(),
+                    PartitionLifecycle.downgradeDiscoveredFiles(discoverer.getID()), PCM_CREATION, ANALYSTS,
+                    SEFF_GENERATION);
+            if (YAML_DISCOVERER_ID.equals(discoverer.getID())) {
+                lifecycle.declare("YAML mappers", PartitionLifecycle.downgradeDiscoveredFiles(YAML_MAPPERS_KEY),
+                        PCM_CREATION, ANALYSTS, SEFF_GENERATION);
+            }
+        }
+        if (this.spill != null) {
+            lifecycle.declare("spilled files", this::releaseSpill, PCM_CREATION, ANALYSTS, SEFF_GENERATION);
+        }
+        lifecycle.declare("PCM detector", blackboard -> ((PCMDetector) blackboard.getPCMDetector()).release(),
+                PCM_CREATION, ANALYSTS);
+        lifecycle.declare("system associations", PartitionLifecycle.clear(RetrieverBlackboard::getSystemAssociations),
+                PCM_CREATION, ANALYSTS);
+        lifecycle.declare("component locations",
+                PartitionLifecycle.clear(RetrieverBlackboard::getRepositoryComponentLocations), PCM_CREATION,
+                ANALYSTS);
+        lifecycle.declare("SEFF associations",
+                PartitionLifecycle.drop(RetrieverBlackboardKeys.RULE_ENGINE_BLACKBOARD_KEY_SEFF_ASSOCIATIONS)
+                    .andThen(PartitionLifecycle.clear(RetrieverBlackboard::getSeffAssociations)),
+                SEFF_GENERATION);
+        lifecycle.declare("generated SEFF repository",
+                PartitionLifecycle.drop(RetrieverBlackboardKeys.RULE_ENGINE_AST2SEFF_OUTPUT_REPOSITORY), SEFF_MERGE);
+
+        return lifecycle;
+    }
+
+    // Downgrades every map of the spill, including the YAML mappers, before deleting the spilled files
+    private void releaseSpill(final RetrieverBlackboard blackboard) {
+        for (final String discovererID : this.spill.getDiscovererIDs()) {
+            PartitionLifecycle.downgradeDiscoveredFiles(discovererID)
+                .accept(blackboard);
+        }
+        PartitionLifecycle.drop(DiscoverySpill.PARTITION_KEY)
+            .accept(blackboard);
+        this.spill.close();
     }
 
     private List<ParallelJob> createRuleJobs(final RetrieverConfiguration configuration) {
@@ -76,8 +235,8 @@ public class RetrieverJob extends AbstractExtendableJob<RetrieverBlackboard> {
                 if (rule.isBuildRule()) {
                     continue;
                 }
-                final IBlackboardInteractingJob<RetrieverBlackboard> ruleJob = rule.create(configuration,
-                        this.myBlackboard);
+                final IBlackboardInteractingJob<RetrieverBlackboard> ruleJob = this.profile(rule)
+                    .create(configuration, this.myBlackboard);
                 parentJob.add(ruleJob);
                 this.logger.info("Adding rule job \"" + ruleJob.getName() + "\"");
             }
@@ -98,8 +257,8 @@ public class RetrieverJob extends AbstractExtendableJob<RetrieverBlackboard> {
                 if (!rule.isBuildRule()) {
                     continue;
                 }
-                final IBlackboardInteractingJob<RetrieverBlackboard> ruleJob = rule.create(configuration,
-                        this.myBlackboard);
+                final IBlackboardInteractingJob<RetrieverBlackboard> ruleJob = this.profile(rule)
+                    .create(configuration, this.myBlackboard);
                 parentJob.add(ruleJob);
                 this.logger.info("Adding build rule job \"" + ruleJob.getName() + "\"");
             }
@@ -109,6 +268,84 @@ public class RetrieverJob extends AbstractExtendableJob<RetrieverBlackboard> {
         return jobs;
     }
 
+    // The stream is null if rules shall only start once their discoverers are done
+    private ServiceGraphJob createServiceGraphJob(final RetrieverConfiguration configuration,
+            final DiscoveryStream stream) {
+        final ServiceGraphJob graphJob = new ServiceGraphJob(this.myBlackboard);
+
+        final Set<String> discovererIDs = new HashSet<>();
+        for (final Collection<Discoverer> step : configuration.getConfig(Discoverer.class)
+            .getExecutionOrder()) {
+            for (final Discoverer discoverer : step) {
+                IBlackboardInteractingJob<RetrieverBlackboard> discovererJob = discoverer.create(configuration,
+                        this.myBlackboard);
+                if (stream != null) {
+                    discovererJob = stream.completing(discoverer.getID(), discovererJob);
+                }
+                graphJob.add(discoverer, discovererJob);
+                discovererIDs.add(discoverer.getID());
+                this.logger.info("Adding discoverer job \"" + discovererJob.getName() + "\"");
+            }
+        }
+
+        final List<Rule> rules = new ArrayList<>();
+        final List<Rule> buildRules = new ArrayList<>();
+        for (final Collection<Rule> step : configuration.getConfig(Rule.class)
+            .getExecutionOrder()) {
+            for (final Rule rule : step) {
+                if (rule.isBuildRule()) {
+                    buildRules.add(rule);
+                } else {
+                    rules.add(rule);
+                }
+            }
+        }
+        for (final Rule rule : rules) {
+            final Rule profiledRule = this.profile(rule);
+            final String streamedDiscovererID = StreamingRuleJob.isStreamable(rule) ? ((PhasedRule) rule)
+                .getFileInterest()
+                .getDiscovererID() : null;
+            if ((stream != null) && discovererIDs.contains(streamedDiscovererID)) {
+                // Consume the files while they are discovered instead of waiting for the discoverer.
+                // The rule still waits for all other discoverers it depends on.
+                final StreamingRuleJob ruleJob = new StreamingRuleJob((PhasedRule) profiledRule, this.myBlackboard,
+                        stream.subscribe(streamedDiscovererID));
+                graphJob.add(profiledRule, ruleJob);
+                graphJob.ignoreDependency(rule.getID(), streamedDiscovererID);
+                this.logger.info("Adding streaming rule job \"" + ruleJob.getName() + "\"");
+                continue;
+            }
+            final IBlackboardInteractingJob<RetrieverBlackboard> ruleJob = profiledRule.create(configuration,
+                    this.myBlackboard);
+            graphJob.add(profiledRule, ruleJob);
+            this.logger.info("Adding rule job \"" + ruleJob.getName() + "\"");
+        }
+        for (final Rule buildRule : buildRules) {
+            final Rule profiledRule = this.profile(buildRule);
+            final IBlackboardInteractingJob<RetrieverBlackboard> ruleJob = profiledRule.create(configuration,
+                    this.myBlackboard);
+            graphJob.add(profiledRule, ruleJob);
+            // Build rules still run after all other rules, as they do in steps. They also wait for
+            // all discoverers, since they select build files by name among the files of any of them.
+            for (final Rule rule : rules) {
+                graphJob.addDependency(buildRule.getID(), rule.getID());
+            }
+            for (final String discovererID : discovererIDs) {
+                graphJob.addDependency(buildRule.getID(), discovererID);
+            }
+            this.logger.info("Adding build rule job \"" + ruleJob.getName() + "\"");
+        }
+
+        return graphJob;
+    }
+
+    private Rule profile(final Rule rule) {
+        if (this.ruleProfiler == null) {
+            return rule;
+        }
+        return new ProfiledRule(rule, this.ruleProfiler);
+    }
+
     private List<ParallelJob> createDiscovererJobs(final RetrieverConfiguration configuration) {
         final List<ParallelJob> jobs = new ArrayList<>();
 
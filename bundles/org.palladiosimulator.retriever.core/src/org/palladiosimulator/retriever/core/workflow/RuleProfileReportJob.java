@@ -0,0 +1,53 @@
+package org.palladiosimulator.retriever.core.workflow;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.common.CommonPlugin;
+import org.eclipse.emf.common.util.URI;
+import org.palladiosimulator.retriever.extraction.engine.RuleProfiler;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+public class RuleProfileReportJob extends AbstractBlackboardInteractingJob<RetrieverBlackboard> {
+
+    private static final String JOB_NAME = "Retriever Rule Profile Report";
+    private static final Logger LOGGER = Logger.getLogger(RuleProfileReportJob.class);
+
+    private final RuleProfiler profiler;
+    private final String outputFolder;
+
+    public RuleProfileReportJob(final RetrieverBlackboard blackboard, final RuleProfiler profiler,
+            final URI outputFolder) {
+        super.setBlackboard(Objects.requireNonNull(blackboard));
+        this.profiler = Objects.requireNonNull(profiler);
+        this.outputFolder = CommonPlugin.asLocalURI(outputFolder)
+            .devicePath();
+    }
+
+    @Override
+    public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+        // No cleanup required.
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        try {
+            this.profiler.writeReport(Paths.get(this.outputFolder), RuleProfiler.DEFAULT_TOP_FILES);
+        } catch (final IOException e) {
+            LOGGER.error("Could not write the rule profile", e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return JOB_NAME;
+    }
+}
@@ -1,6 +1,10 @@
 package org.palladiosimulator.retriever.core.workflow;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -8,10 +12,12 @@ import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.util.EList;
 import org.palladiosimulator.pcm.repository.BasicComponent;
+import org.palladiosimulator.pcm.repository.Interface;
 import org.palladiosimulator.pcm.repository.OperationInterface;
 import org.palladiosimulator.pcm.repository.OperationProvidedRole;
 import org.palladiosimulator.pcm.repository.OperationRequiredRole;
 import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.ProvidedRole;
 import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.pcm.repository.RepositoryComponent;
 import org.palladiosimulator.pcm.seff.AbstractAction;
@@ -21,6 +27,7 @@ import org.palladiosimulator.pcm.seff.ExternalCallAction;
 import org.palladiosimulator.pcm.seff.ResourceDemandingBehaviour;
 import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
 import org.palladiosimulator.pcm.seff.ServiceEffectSpecification;
+import org.palladiosimulator.retriever.mocore.transformation.RequiredRoleIndex;
 
 import de.uka.ipd.sdq.workflow.blackboard.Blackboard;
 import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
@@ -53,6 +60,23 @@ public class SeffMergerJob implements IBlackboardInteractingJob<Blackboard<Objec
         final Repository destinationRepository = (Repository) this.blackboard
             .getPartition(this.destinationSeffRepositoryKey);
 
+        // Index destination repository by names
+        monitor.subTask("Indexing destination repository");
+        final Map<String, BasicComponent> destinationComponents = new HashMap<>();
+        for (final RepositoryComponent component : destinationRepository.getComponents__Repository()) {
+            if (component instanceof final BasicComponent basicComponent) {
+                destinationComponents.putIfAbsent(basicComponent.getEntityName(), basicComponent);
+            }
+        }
+        final Map<String, OperationSignature> destinationSignatures = new HashMap<>();
+        for (final Interface interFace : destinationRepository.getInterfaces__Repository()) {
+            if (interFace instanceof final OperationInterface operationInterface) {
+                for (final OperationSignature signature : operationInterface.getSignatures__OperationInterface()) {
+                    destinationSignatures.putIfAbsent(signature.getEntityName(), signature);
+                }
+            }
+        }
+
         // Move seffs from source to destination repository
         monitor.subTask("Merging ServiceEffectSpecificications from source with destination repository");
         for (final RepositoryComponent component : sourceRepository.getComponents__Repository()) {
@@ -64,20 +88,15 @@ public class SeffMergerJob implements IBlackboardInteractingJob<Blackboard<Objec
             // name in destination
             // repository. Otherwise, exception is thrown.
             final BasicComponent sourceComponent = (BasicComponent) component;
-            final Optional<BasicComponent> destinationComponentOption = destinationRepository
-                .getComponents__Repository()
-                .stream()
-                .filter(otherComponent -> otherComponent.getEntityName()
-                    .equals(sourceComponent.getEntityName()))
-                .filter(BasicComponent.class::isInstance)
-                .map(BasicComponent.class::cast)
-                .findFirst();
-
-            if (destinationComponentOption.isEmpty()) {
+            final BasicComponent destinationComponent = destinationComponents.get(sourceComponent.getEntityName());
+
+            if (destinationComponent == null) {
                 LOG.warn("Failed to find destination component " + sourceComponent.getEntityName() + "!");
                 continue;
             }
-            final BasicComponent destinationComponent = destinationComponentOption.get();
+            final RequiredRoleIndex requiredRoles = new RequiredRoleIndex(destinationComponent);
+            final Map<String, OperationSignature> providedSignatures = getProvidedSignatures(destinationComponent);
+            final Map<String, Deque<ServiceEffectSpecification>> destinationSeffs = getSeffs(destinationComponent);
 
             // Overwrite seffs within destination component
             final List<ServiceEffectSpecification> sourceSeffs = List
@@ -85,63 +104,45 @@ public class SeffMergerJob implements IBlackboardInteractingJob<Blackboard<Objec
             for (final ServiceEffectSpecification sourceSeff : sourceSeffs) {
                 // Retrieve destination signature for seff, throw if signature is not provided by
                 // destination component
-                final Optional<OperationSignature> destinationSignatureOption = destinationComponent
-                    .getProvidedRoles_InterfaceProvidingEntity()
-                    .stream()
-                    .filter(role -> role instanceof OperationProvidedRole)
-                    .map(role -> (OperationProvidedRole) role)
-                    .flatMap(role -> role.getProvidedInterface__OperationProvidedRole()
-                        .getSignatures__OperationInterface()
-                        .stream())
-                    .filter(signature -> signature.getEntityName()
-                        .equals(sourceSeff.getDescribedService__SEFF()
-                            .getEntityName()))
-                    .findFirst();
-
-                if (destinationSignatureOption.isEmpty()) {
-                    LOG.warn("Failed to find destination signature for " + sourceSeff.getDescribedService__SEFF()
-                        .getEntityName() + " in component " + destinationComponent.getEntityName() + "!");
+                final String signatureName = sourceSeff.getDescribedService__SEFF()
+                    .getEntityName();
+                final OperationSignature destinationSignature = providedSignatures.get(signatureName);
+
+                if (destinationSignature == null) {
+                    LOG.warn("Failed to find destination signature for " + signatureName + " in component "
+                            + destinationComponent.getEntityName() + "!");
                     continue;
                 }
-                final OperationSignature destinationSignature = destinationSignatureOption.get();
 
-                // Set component and signature of source seff to destination elements
+                // Set component and signature of source seff to destination elements, which appends
+                // the source seff to the seffs of the destination component
                 sourceSeff.setBasicComponent_ServiceEffectSpecification(destinationComponent);
                 sourceSeff.setDescribedService__SEFF(destinationSignature);
+                final Deque<ServiceEffectSpecification> namesakes = destinationSeffs.computeIfAbsent(signatureName,
+                        x -> new ArrayDeque<>());
+                namesakes.addLast(sourceSeff);
 
                 // Adapt external call actions to new repository -> Swap signatures and required
                 // roles
-                adaptExternalCallActions((ResourceDemandingSEFF) sourceSeff, destinationRepository,
-                        destinationComponent);
-
-                // Find optional already existing and conflicting seff in destination component
-                final Optional<ServiceEffectSpecification> optionalDestinationSeff = destinationComponent
-                    .getServiceEffectSpecifications__BasicComponent()
-                    .stream()
-                    .filter(destinationSeff -> destinationSeff.getDescribedService__SEFF()
-                        .getEntityName()
-                        .equals(sourceSeff.getDescribedService__SEFF()
-                            .getEntityName()))
-                    .findFirst();
-
-                // Delete conflicting seff in destination component
-                if (optionalDestinationSeff.isPresent()) {
-                    destinationComponent.getServiceEffectSpecifications__BasicComponent()
-                        .remove(optionalDestinationSeff.get());
-                }
+                adaptExternalCallActions((ResourceDemandingSEFF) sourceSeff, destinationSignatures, requiredRoles);
+
+                // Delete the first seff of the destination component describing the signature, i.e.
+                // an already existing and conflicting one
+                destinationComponent.getServiceEffectSpecifications__BasicComponent()
+                    .remove(namesakes.removeFirst());
             }
         }
         monitor.done();
     }
 
     private static void adaptExternalCallActions(final ResourceDemandingBehaviour sourceBehaviour,
-            final Repository destinationRepository, final BasicComponent destinationComponent) {
+            final Map<String, OperationSignature> destinationSignatures, final RequiredRoleIndex requiredRoles) {
         final EList<AbstractAction> behaviorSteps = sourceBehaviour.getSteps_Behaviour();
         for (final AbstractAction action : behaviorSteps) {
             if (action instanceof final BranchAction branchAction) {
                 for (final AbstractBranchTransition branch : branchAction.getBranches_Branch()) {
-                    adaptExternalCallActions(branch.getBranchBehaviour_BranchTransition(), destinationRepository,
-                            destinationComponent);
+                    adaptExternalCallActions(branch.getBranchBehaviour_BranchTransition(), destinationSignatures,
+                            requiredRoles);
                 }
                 continue;
             } else if (!(action instanceof ExternalCallAction)) {
@@ -152,31 +153,15 @@ public class SeffMergerJob implements IBlackboardInteractingJob<Blackboard<Objec
                 .getEntityName();
 
             // Fetch called signature from destination repository
-            final Optional<OperationSignature> calledSignatureOption = destinationRepository.getInterfaces__Repository()
-                .stream()
-                .filter(interFace -> interFace instanceof OperationInterface)
-                .flatMap(interFace -> ((OperationInterface) interFace).getSignatures__OperationInterface()
-                    .stream())
-                .filter(signature -> signature.getEntityName()
-                    .equals(calledSignatureEntityName))
-                .findFirst();
-
-            if (calledSignatureOption.isEmpty()) {
+            final OperationSignature calledSignature = destinationSignatures.get(calledSignatureEntityName);
+
+            if (calledSignature == null) {
                 LOG.warn("Failed to find called signature for " + calledSignatureEntityName + "!");
                 continue;
             }
-            final OperationSignature calledSignature = calledSignatureOption.get();
 
             // Fetch required role from destination repository
-            final Optional<OperationRequiredRole> requiredRoleOption = destinationComponent
-                .getRequiredRoles_InterfaceRequiringEntity()
-                .stream()
-                .filter(role -> role instanceof OperationRequiredRole)
-                .map(role -> (OperationRequiredRole) role)
-                .filter(role -> role.getRequiredInterface__OperationRequiredRole()
-                    .getSignatures__OperationInterface()
-                    .contains(calledSignature))
-                .findFirst();
+            final Optional<OperationRequiredRole> requiredRoleOption = requiredRoles.getRequiredRole(calledSignature);
 
             if (requiredRoleOption.isEmpty()) {
                 LOG.warn("Failed to find required role for " + calledSignature.getInterface__OperationSignature()
@@ -190,6 +175,31 @@ public class SeffMergerJob implements IBlackboardInteractingJob<Blackboard<Objec
         }
     }
 
+    // The first provided signature of the component per name
+    private static Map<String, OperationSignature> getProvidedSignatures(final BasicComponent component) {
+        final Map<String, OperationSignature> signatures = new HashMap<>();
+        for (final ProvidedRole role : component.getProvidedRoles_InterfaceProvidingEntity()) {
+            if (role instanceof final OperationProvidedRole operationRole) {
+                for (final OperationSignature signature : operationRole.getProvidedInterface__OperationProvidedRole()
+                    .getSignatures__OperationInterface()) {
+                    signatures.putIfAbsent(signature.getEntityName(), signature);
+                }
+            }
+        }
+        return signatures;
+    }
+
+    // The seffs of the component by the name of their signature, in order of the component's seffs
+    private static Map<String, Deque<ServiceEffectSpecification>> getSeffs(final BasicComponent component) {
+        final Map<String, Deque<ServiceEffectSpecification>> seffs = new HashMap<>();
+        for (final ServiceEffectSpecification seff : component.getServiceEffectSpecifications__BasicComponent()) {
+            seffs.computeIfAbsent(seff.getDescribedService__SEFF()
+                .getEntityName(), x -> new ArrayDeque<>())
+                .addLast(seff);
+        }
+        return seffs;
+    }
+
     @Override
     public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
         // No cleanup required for the job
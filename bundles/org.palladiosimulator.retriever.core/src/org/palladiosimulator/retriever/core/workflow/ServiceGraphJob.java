@@ -0,0 +1,258 @@
+package org.palladiosimulator.retriever.core.workflow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.retriever.services.Service;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Executes the jobs of several services on a bounded pool. Instead of running them in barrier
+ * separated steps, each job starts as soon as the jobs of all services it depends on are done. A
+ * service depends on its required services and on each service that lists it as dependent service.
+ * Services that are not part of the graph are ignored. A service requiring {@code null} depends on
+ * all other services that do not do so as well.
+ */
+public class ServiceGraphJob extends AbstractBlackboardInteractingJob<RetrieverBlackboard> {
+
+    private static final String JOB_NAME = "Retriever Service Graph";
+    private static final Logger LOGGER = Logger.getLogger(ServiceGraphJob.class);
+
+    private final int parallelism;
+    private final Map<String, Node> nodes;
+
+    public ServiceGraphJob(final RetrieverBlackboard blackboard) {
+        this(blackboard, Runtime.getRuntime()
+            .availableProcessors());
+    }
+
+    public ServiceGraphJob(final RetrieverBlackboard blackboard, final int parallelism) {
+        super.setBlackboard(Objects.requireNonNull(blackboard));
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("At least one job has to be able to run");
+        }
+        this.parallelism = parallelism;
+        this.nodes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds the job of a service to the graph. Jobs whose dependencies are done at the same time are
+     * started in the order they were added.
+     */
+    public void add(final Service service, final IBlackboardInteractingJob<RetrieverBlackboard> job) {
+        final Node node = new Node(service, Objects.requireNonNull(job));
+        if (this.nodes.putIfAbsent(service.getID(), node) != null) {
+            throw new IllegalArgumentException("Service " + service.getID() + " is already part of the graph");
+        }
+    }
+
+    /**
+     * Lets the job of a service additionally wait for the job of another service.
+     */
+    public void addDependency(final String serviceId, final String requiredServiceId) {
+        final Node node = this.nodes.get(serviceId);
+        if (node == null) {
+            throw new IllegalArgumentException("Service " + serviceId + " is not part of the graph");
+        }
+        node.extraDependencies.add(requiredServiceId);
+    }
+
+    /**
+     * Lets the job of a service start without waiting for the job of a service it requires.
+     */
+    public void ignoreDependency(final String serviceId, final String requiredServiceId) {
+        final Node node = this.nodes.get(serviceId);
+        if (node == null) {
+            throw new IllegalArgumentException("Service " + serviceId + " is not part of the graph");
+        }
+        node.ignoredDependencies.add(requiredServiceId);
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final Map<String, Set<String>> dependents = new HashMap<>();
+        final Map<String, Integer> pendingDependencies = new HashMap<>();
+        for (final String id : this.nodes.keySet()) {
+            dependents.put(id, new LinkedHashSet<>());
+        }
+        for (final Node node : this.nodes.values()) {
+            final Set<String> dependencies = this.getDependencies(node);
+            pendingDependencies.put(node.id, dependencies.size());
+            for (final String dependency : dependencies) {
+                dependents.get(dependency)
+                    .add(node.id);
+            }
+        }
+        this.checkAcyclic(dependents, pendingDependencies);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism,
+                Math.max(1, this.nodes.size())));
+        final CompletionService<String> completion = new ExecutorCompletionService<>(executor);
+        final List<Future<String>> running = new ArrayList<>();
+        try {
+            for (final Node node : this.nodes.values()) {
+                if (pendingDependencies.get(node.id) == 0) {
+                    running.add(completion.submit(() -> this.run(node, monitor)));
+                }
+            }
+
+            int remaining = this.nodes.size();
+            while (remaining > 0) {
+                final String finished = this.awaitNext(completion);
+                remaining--;
+                if ((monitor != null) && monitor.isCanceled()) {
+                    throw new UserCanceledException();
+                }
+                for (final String dependent : dependents.get(finished)) {
+                    final int pending = pendingDependencies.merge(dependent, -1, Integer::sum);
+                    if (pending == 0) {
+                        final Node node = this.nodes.get(dependent);
+                        running.add(completion.submit(() -> this.run(node, monitor)));
+                    }
+                }
+            }
+        } finally {
+            running.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    private String run(final Node node, final IProgressMonitor monitor)
+            throws JobFailedException, UserCanceledException {
+        LOGGER.info("Starting \"" + node.job.getName() + "\"");
+        node.job.execute(monitor);
+        return node.id;
+    }
+
+    private String awaitNext(final CompletionService<String> completion)
+            throws JobFailedException, UserCanceledException {
+        try {
+            return completion.take()
+                .get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new UserCanceledException();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof final JobFailedException jobFailedException) {
+                throw jobFailedException;
+            } else if (cause instanceof final UserCanceledException userCanceledException) {
+                throw userCanceledException;
+            }
+            throw new JobFailedException(JOB_NAME + " Failed", cause);
+        }
+    }
+
+    private Set<String> getDependencies(final Node node) {
+        final Set<String> dependencies = new LinkedHashSet<>();
+        for (final String required : node.service.getRequiredServices()) {
+            if ((required != null) && this.nodes.containsKey(required)) {
+                dependencies.add(required);
+            }
+        }
+        if (requiresAll(node.service)) {
+            for (final Node other : this.nodes.values()) {
+                if (!requiresAll(other.service)) {
+                    dependencies.add(other.id);
+                }
+            }
+        }
+        for (final String required : node.extraDependencies) {
+            if (this.nodes.containsKey(required)) {
+                dependencies.add(required);
+            }
+        }
+        for (final Node other : this.nodes.values()) {
+            if (other.service.getDependentServices()
+                .contains(node.id)) {
+                dependencies.add(other.id);
+            }
+        }
+        dependencies.remove(node.id);
+        dependencies.removeAll(node.ignoredDependencies);
+        return dependencies;
+    }
+
+    // Immutable sets do not support contains(null)
+    private static boolean requiresAll(final Service service) {
+        return service.getRequiredServices()
+            .stream()
+            .anyMatch(Objects::isNull);
+    }
+
+    private void checkAcyclic(final Map<String, Set<String>> dependents, final Map<String, Integer> dependencies)
+            throws JobFailedException {
+        final Map<String, Integer> pending = new HashMap<>(dependencies);
+        final Deque<String> ready = new ArrayDeque<>();
+        pending.forEach((id, count) -> {
+            if (count == 0) {
+                ready.add(id);
+            }
+        });
+        int ordered = 0;
+        while (!ready.isEmpty()) {
+            final String id = ready.poll();
+            ordered++;
+            for (final String dependent : dependents.get(id)) {
+                if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (ordered != this.nodes.size()) {
+            throw new JobFailedException(JOB_NAME + " Failed: the service dependencies contain a cycle");
+        }
+    }
+
+    @Override
+    public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+        for (final Node node : this.nodes.values()) {
+            node.job.cleanup(monitor);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return JOB_NAME;
+    }
+
+    private static final class Node {
+        private final String id;
+        private final Service service;
+        private final IBlackboardInteractingJob<RetrieverBlackboard> job;
+        private final Set<String> extraDependencies;
+        private final Set<String> ignoredDependencies;
+
+        private Node(final Service service, final IBlackboardInteractingJob<RetrieverBlackboard> job) {
+            this.id = service.getID();
+            this.service = service;
+            this.job = job;
+            this.extraDependencies = new LinkedHashSet<>();
+            this.ignoredDependencies = new HashSet<>();
+        }
+    }
+}
@@ -6,10 +6,8 @@ import java.io.Reader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -17,6 +15,8 @@ import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
+import org.palladiosimulator.retriever.extraction.engine.SpillCodec;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -45,7 +45,8 @@ public class CsvDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, List<CSVRecord>> csvs = new HashMap<>();
+                final DiscoveryPublisher<List<CSVRecord>> csvs = new DiscoveryPublisher<>(this.getBlackboard(),
+                        DISCOVERER_ID, SpillCodec.serializing(CsvDiscoverer.class.getClassLoader()));
                 Discoverer.find(root, ".csv", this.logger)
                     .forEach(p -> {
                         final List<CSVRecord> records = new LinkedList<>();
@@ -55,10 +56,9 @@ public class CsvDiscoverer implements Discoverer {
                         } catch (final IllegalStateException | IOException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
                         }
-                        csvs.put(p, records);
+                        csvs.publish(p, records);
                     });
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, csvs);
+                csvs.close();
             }
 
             @Override
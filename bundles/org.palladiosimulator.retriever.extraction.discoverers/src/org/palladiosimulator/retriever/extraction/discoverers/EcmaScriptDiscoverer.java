@@ -4,8 +4,6 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -15,6 +13,7 @@ import org.eclipse.emf.common.CommonPlugin;
 import org.openjdk.nashorn.api.scripting.NashornException;
 import org.openjdk.nashorn.api.tree.CompilationUnitTree;
 import org.openjdk.nashorn.api.tree.Parser;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -43,7 +42,8 @@ public class EcmaScriptDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, CompilationUnitTree> compilationUnits = new HashMap<>();
+                final DiscoveryPublisher<CompilationUnitTree> compilationUnits = new DiscoveryPublisher<>(
+                        this.getBlackboard(), DISCOVERER_ID);
                 Stream.concat(Discoverer.find(root, ".js", this.logger), Discoverer.find(root, ".ts", this.logger))
                     .forEach(p -> {
                         try {
@@ -51,13 +51,12 @@ public class EcmaScriptDiscoverer implements Discoverer {
                                 .parse(p.toFile(), d -> {
                                     System.out.println(d);
                                 });
-                            compilationUnits.put(p, compilationUnit);
+                            compilationUnits.publish(p, compilationUnit);
                         } catch (NashornException | IOException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
                         }
                     });
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, compilationUnits);
+                compilationUnits.close();
             }
 
             @Override
@@ -3,7 +3,7 @@ package org.palladiosimulator.retriever.extraction.discoverers;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -15,6 +15,8 @@ import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FileASTRequestor;
+import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -43,7 +45,8 @@ public class JavaDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, CompilationUnit> compilationUnits = new HashMap<>();
+                final DiscoveryPublisher<CompilationUnit> compilationUnits = new DiscoveryPublisher<>(
+                        this.getBlackboard(), DISCOVERER_ID);
                 final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
                 parser.setKind(ASTParser.K_COMPILATION_UNIT);
                 parser.setResolveBindings(true);
@@ -59,20 +62,25 @@ public class JavaDiscoverer implements Discoverer {
                 final String[] sourceFilePaths = Discoverer.find(root, ".java", this.logger)
                     .map(Path::toString)
                     .toArray(String[]::new);
+                // The units are only published once all of them are parsed. Consumers resolve
+                // bindings, and the binding environment must not be used while the parser resolves.
+                final Map<Path, CompilationUnit> parsedUnits = new LinkedHashMap<>();
                 try {
                     parser.setEnvironment(classpathEntries, new String[0], new String[0], true);
                     parser.createASTs(sourceFilePaths, new String[sourceFilePaths.length], new String[0],
                             new FileASTRequestor() {
                                 @Override
                                 public void acceptAST(final String sourceFilePath, final CompilationUnit ast) {
-                                    compilationUnits.put(Path.of(sourceFilePath), ast);
+                                    // Tells apart components with the same name in different modules
+                                    ast.setProperty(CompUnitOrName.SOURCE_PATH_PROPERTY, sourceFilePath);
+                                    parsedUnits.put(Path.of(sourceFilePath), ast);
                                 }
                             }, monitor);
                 } catch (IllegalArgumentException | IllegalStateException e) {
                     this.logger.error(String.format("No Java files in %s could be transposed.", root), e);
                 }
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, compilationUnits);
+                parsedUnits.forEach(compilationUnits::publish);
+                compilationUnits.close();
             }
 
             @Override
@@ -6,8 +6,6 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -16,6 +14,8 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
+import org.palladiosimulator.retriever.extraction.engine.SpillCodec;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -44,19 +44,20 @@ public class JsonDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, JSONObject> jsons = new HashMap<>();
+                final DiscoveryPublisher<JSONObject> jsons = new DiscoveryPublisher<>(this.getBlackboard(),
+                        DISCOVERER_ID, SpillCodec.utf8()
+                            .map(JSONObject::toString, JSONObject::new));
                 Discoverer.find(root, ".json", this.logger)
                     .forEach(p -> {
                         try (BufferedReader reader = new BufferedReader(new FileReader(p.toFile()))) {
                             final String jsonSource = reader.lines()
                                 .collect(Collectors.joining(System.lineSeparator()));
-                            jsons.put(p, new JSONObject(jsonSource));
+                            jsons.publish(p, new JSONObject(jsonSource));
                         } catch (ClassCastException | IOException | JSONException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
                         }
                     });
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, jsons);
+                jsons.close();
             }
 
             @Override
@@ -6,14 +6,14 @@ import java.io.Reader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
+import org.palladiosimulator.retriever.extraction.engine.SpillCodec;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -42,19 +42,19 @@ public class PropertiesDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, Object> propertyFiles = new HashMap<>();
+                final DiscoveryPublisher<Object> propertyFiles = new DiscoveryPublisher<>(this.getBlackboard(),
+                        DISCOVERER_ID, SpillCodec.serializing(PropertiesDiscoverer.class.getClassLoader()));
                 Discoverer.find(root, ".properties", this.logger)
                     .forEach(p -> {
                         try (Reader reader = new FileReader(p.toFile())) {
                             final Properties properties = new Properties();
                             properties.load(reader);
-                            propertyFiles.put(p, properties);
+                            propertyFiles.publish(p, properties);
                         } catch (final IOException | IllegalArgumentException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
                         }
                     });
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, propertyFiles);
+                propertyFiles.close();
             }
 
             @Override
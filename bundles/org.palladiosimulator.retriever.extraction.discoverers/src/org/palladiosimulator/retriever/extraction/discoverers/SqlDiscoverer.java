@@ -6,13 +6,12 @@ import java.io.Reader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -44,17 +43,17 @@ public class SqlDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, Statement> sqls = new HashMap<>();
+                final DiscoveryPublisher<Statement> sqls = new DiscoveryPublisher<>(this.getBlackboard(),
+                        DISCOVERER_ID);
                 Discoverer.find(root, ".sql", this.logger)
                     .forEach(p -> {
                         try (Reader reader = new FileReader(p.toFile())) {
-                            sqls.put(p, CCJSqlParserUtil.parse(reader));
+                            sqls.publish(p, CCJSqlParserUtil.parse(reader));
                         } catch (final IOException | JSQLParserException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
                         }
                     });
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, sqls);
+                sqls.close();
             }
 
             @Override
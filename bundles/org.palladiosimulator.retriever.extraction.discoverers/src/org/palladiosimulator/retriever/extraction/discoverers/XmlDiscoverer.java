@@ -6,8 +6,6 @@ import java.io.Reader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -16,6 +14,8 @@ import org.eclipse.emf.common.CommonPlugin;
 import org.jdom2.Document;
 import org.jdom2.JDOMException;
 import org.jdom2.input.SAXBuilder;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
+import org.palladiosimulator.retriever.extraction.engine.SpillCodec;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -44,18 +44,17 @@ public class XmlDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, Document> xmls = new HashMap<>();
+                final DiscoveryPublisher<Document> xmls = new DiscoveryPublisher<>(this.getBlackboard(),
+                        DISCOVERER_ID, SpillCodec.serializing(XmlDiscoverer.class.getClassLoader()));
                 Discoverer.find(root, ".xml", this.logger)
                     .forEach(p -> {
                         try (Reader reader = new FileReader(p.toFile())) {
-                            xmls.put(p, new SAXBuilder().build(reader));
+                            xmls.publish(p, new SAXBuilder().build(reader));
                         } catch (IOException | JDOMException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
                         }
                     });
-
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, xmls);
+                xmls.close();
             }
 
             @Override
@@ -7,9 +7,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -17,6 +15,8 @@ import java.util.stream.Stream;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
 import org.palladiosimulator.retriever.extraction.discoverers.wrappers.YamlMapper;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
+import org.palladiosimulator.retriever.extraction.engine.SpillCodec;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -48,24 +48,28 @@ public class YamlDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, Object> yamls = new HashMap<>();
-                final Map<Path, YamlMapper> mappers = new HashMap<>();
+                final SpillCodec<Iterable<Object>> contentCodec = SpillCodec
+                    .serializing(YamlDiscoverer.class.getClassLoader());
+                final DiscoveryPublisher<Object> yamls = new DiscoveryPublisher<>(this.getBlackboard(),
+                        DISCOVERER_ID, SpillCodec.serializing(YamlDiscoverer.class.getClassLoader()));
+                // A spilled mapper is rebuilt from its content, it indexes the content again on demand
+                final DiscoveryPublisher<YamlMapper> mappers = new DiscoveryPublisher<>(this.getBlackboard(),
+                        MAPPER_PARTITION_KEY, contentCodec.map(YamlMapper::getContent, YamlMapper::new));
                 Stream.concat(Discoverer.find(root, ".yml", this.logger), Discoverer.find(root, ".yaml", this.logger))
                     .forEach(p -> {
                         try (Reader reader = new FileReader(p.toFile())) {
                             final List<Object> yamlContents = new ArrayList<>();
                             new Yaml().loadAll(reader)
                                 .forEach(yamlContents::add);
-                            yamls.put(p, yamlContents);
-                            mappers.put(p, new YamlMapper(yamlContents));
+                            // The mapper has to be available when a rule receives the file
+                            mappers.publish(p, new YamlMapper(yamlContents));
+                            yamls.publish(p, yamlContents);
                         } catch (final IOException | YAMLException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
                         }
                     });
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, yamls);
-                this.getBlackboard()
-                    .putDiscoveredFiles(MAPPER_PARTITION_KEY, mappers);
+                mappers.close();
+                yamls.close();
             }
 
             @Override
@@ -1,18 +1,89 @@
 package org.palladiosimulator.retriever.extraction.discoverers.wrappers;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 public class YamlMapper implements Function<String, Optional<Object>> {
+    private static final String SEPARATOR = ".";
+
     private final Iterable<Object> subfiles;
+    private volatile Map<String, Object> index;
+    // Whether recursive documents were cut off, so that the index misses keys the walk finds
+    private boolean truncated;
 
     public YamlMapper(final Iterable<Object> content) {
         this.subfiles = content;
     }
 
+    public Iterable<Object> getContent() {
+        return this.subfiles;
+    }
+
     @Override
     public Optional<Object> apply(final String fullKey) {
+        // Keys without segments or with trailing separators are split differently, resolve them
+        // on the documents themselves
+        if (fullKey.isEmpty() || fullKey.endsWith(SEPARATOR)) {
+            return this.walk(fullKey);
+        }
+        final Object value = this.getIndex()
+            .get(fullKey);
+        if (value == null && this.truncated) {
+            return this.walk(fullKey);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Returns the flattened content, mapping every dotted key to its value in the first sub-file
+     * that contains it. The index is built on the first lookup.
+     */
+    private Map<String, Object> getIndex() {
+        Map<String, Object> currentIndex = this.index;
+        if (currentIndex == null) {
+            synchronized (this) {
+                currentIndex = this.index;
+                if (currentIndex == null) {
+                    currentIndex = new HashMap<>();
+                    final Set<Object> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+                    for (final Object subfile : this.subfiles) {
+                        this.flatten(null, subfile, currentIndex, ancestors);
+                    }
+                    this.index = currentIndex;
+                }
+            }
+        }
+        return currentIndex;
+    }
+
+    private void flatten(final String prefix, final Object yamlObject, final Map<String, Object> flattened,
+            final Set<Object> ancestors) {
+        // Anchors and aliases may make documents recursive
+        if (!(yamlObject instanceof final Map<?, ?> map)) {
+            return;
+        }
+        if (!ancestors.add(map)) {
+            this.truncated = true;
+            return;
+        }
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            // Keys containing the separator cannot be reached by a dotted key
+            if (!(entry.getKey() instanceof final String key) || key.contains(SEPARATOR) || entry.getValue() == null) {
+                continue;
+            }
+            final String fullKey = prefix == null ? key : prefix + SEPARATOR + key;
+            flattened.putIfAbsent(fullKey, entry.getValue());
+            this.flatten(fullKey, entry.getValue(), flattened, ancestors);
+        }
+        ancestors.remove(map);
+    }
+
+    private Optional<Object> walk(final String fullKey) {
         final String[] segments = fullKey.split("\\.");
 
         for (final Object subfile : this.subfiles) {
@@ -43,4 +114,4 @@ public class YamlMapper implements Function<String, Optional<Object>> {
         }
         return Optional.empty();
     }
-}
\ No newline at end of file
+}
@@ -5,9 +5,10 @@ import java.util.HashSet
 import org.eclipse.jdt.core.dom.CompilationUnit
 import java.util.Set
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
-import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.FileInterest
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule
 
-class DockerRules implements Rule {
+class DockerRules implements PhasedRule {
 
 	static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.docker"
 	static final String JAVA_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java"
@@ -28,6 +29,10 @@ class DockerRules implements Rule {
 		}
 	}
 
+	override getFileInterest() {
+		return FileInterest.fileName(DOCKER_FILE_NAME)
+	}
+
 	override isBuildRule() {
 		true
 	}
@@ -22,19 +22,20 @@ import org.openjdk.nashorn.api.tree.VariableTree
 import org.palladiosimulator.retriever.extraction.commonalities.RESTName
 import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName
 import org.palladiosimulator.retriever.extraction.rules.data.GatewayRoute
+import org.palladiosimulator.retriever.extraction.rules.data.GatewayRouteTable
+import org.palladiosimulator.retriever.extraction.rules.util.RESTHelper
 import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
-import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector
 
-class EcmaScriptRules implements Rule {
+class EcmaScriptRules implements PhasedRule {
 
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript"
 
 	public static final String ECMASCRIPT_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.ecmascript"
 	public static final String HOSTNAMES_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript.hostnames"
 	public static final String GATEWAY_ROUTES_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript.routes"
-	public static final String DONE_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript.done"
 
 	static final CompUnitOrName GATEWAY_NAME = new CompUnitOrName("Gateway")
 	static final String START_NONWORD_CHARS = "^[\\W]+"
@@ -46,33 +47,67 @@ class EcmaScriptRules implements Rule {
 	static final String VARIABLE_PREFIX = ":"
 	static final String BLANK = ""
 
-	override processRules(RetrieverBlackboard blackboard, Path path) {
-		if (blackboard.hasPartition(DONE_ID)) return
-
+	override processGlobally(RetrieverBlackboard blackboard, Set<Path> discoveredPaths) {
 		val compilationUnits = blackboard.getDiscoveredFiles(ECMASCRIPT_DISCOVERER_ID, typeof(CompilationUnitTree))
-		val compilationUnit = compilationUnits.get(path)
-		if (compilationUnit === null && !compilationUnits.empty) {
-			return
-		}
 
 		var gatewayRouteMap = blackboard.getPartition(GATEWAY_ROUTES_ID) as Map<Path, List<GatewayRoute>>
 		if (gatewayRouteMap === null) {
 			gatewayRouteMap = Map.of
 		}
-		var gatewayRoutes = List.of
+		var Map<Path, String> hostnameMap = Map.of
+		if (blackboard.hasPartition(HOSTNAMES_ID)) {
+			hostnameMap = blackboard.getPartition(HOSTNAMES_ID) as Map<Path, String>
+		}
+		val Map<Path, GatewayRouteTable> compiledRoutes = new HashMap()
+
+		// Without any scripts, require the routes of the first path's gateway
+		if (compilationUnits.empty) {
+			if (!discoveredPaths.empty) {
+				processPath(blackboard, discoveredPaths.iterator.next, null, gatewayRouteMap, compiledRoutes,
+					hostnameMap)
+			}
+			return
+		}
+
+		for (path : discoveredPaths) {
+			val compilationUnit = compilationUnits.get(path)
+			// Once all routes are required, there is nothing left to detect
+			if (compilationUnit !== null &&
+				!processPath(blackboard, path, compilationUnit, gatewayRouteMap, compiledRoutes, hostnameMap)) {
+				return
+			}
+		}
+	}
+
+	override isProcessingGlobally() {
+		return true
+	}
+
+	override isProcessingFiles() {
+		return false
+	}
+
+	/**
+	 * Detects the requests in the compilation unit, or requires all routes if there are none.
+	 * 
+	 * @return whether any requests were detected
+	 */
+	def processPath(RetrieverBlackboard blackboard, Path path, CompilationUnitTree compilationUnit,
+		Map<Path, List<GatewayRoute>> gatewayRouteMap, Map<Path, GatewayRouteTable> compiledRoutes,
+		Map<Path, String> hostnameMap) {
 		var Path mostSpecificGatewayPath = null
 		for (gatewayPath : gatewayRouteMap.keySet) {
 			if (gatewayPath !== null && path.startsWith(gatewayPath) &&
 				(mostSpecificGatewayPath === null || gatewayPath.startsWith(mostSpecificGatewayPath))) {
-				gatewayRoutes = gatewayRouteMap.get(gatewayPath)
 				mostSpecificGatewayPath = gatewayPath
 			}
 		}
+		val gatewayRoutes = mostSpecificGatewayPath === null
+				? GatewayRouteTable.EMPTY
+				: compiledRoutes.computeIfAbsent(mostSpecificGatewayPath) [ gatewayPath |
+					new GatewayRouteTable(gatewayRouteMap.get(gatewayPath))
+				]
 
-		var hostnameMap = Map.of 
-		if (blackboard.hasPartition(HOSTNAMES_ID)) {
-			hostnameMap = blackboard.getPartition(HOSTNAMES_ID) as Map<Path, String>
-		}
 		var hostname = "API-HOST"
 		var Path mostSpecificHostnamePath = null
 		for (hostnamePath : hostnameMap.keySet) {
@@ -82,10 +117,10 @@ class EcmaScriptRules implements Rule {
 				mostSpecificHostnamePath = hostnamePath
 			}
 		}
-		
+
 		var httpRequests = Map.of
 		val pcmDetector = blackboard.getPCMDetector as PCMDetector
-		if (!compilationUnits.empty) {
+		if (compilationUnit !== null) {
 			httpRequests = findAllHttpRequests(blackboard, compilationUnit)
 			for (key : httpRequests.keySet) {
 				for (url : httpRequests.get(key)) {
@@ -97,18 +132,19 @@ class EcmaScriptRules implements Rule {
 				}
 			}
 		}
-		
+
 		// Require all routes if no requests could be parsed
 		if (httpRequests.empty) {
-			for (route : gatewayRoutes) {
+			for (route : gatewayRoutes.routes) {
 				val mappedURL = new RESTName(route.targetHost, "/")
 				if (!mappedURL.isPartOf("/" + hostname)) {
 					pcmDetector.detectCompositeRequiredInterface(GATEWAY_NAME, mappedURL)
 				}
 				pcmDetector.detectProvidedOperation(GATEWAY_NAME, null, new RESTOperationName(hostname, "/"))
 			}
-			blackboard.addPartition(DONE_ID, true)
+			return false
 		}
+		return true
 	}
 
 	def findAllHttpRequests(RetrieverBlackboard blackboard, CompilationUnitTree unit) {
@@ -130,9 +166,7 @@ class EcmaScriptRules implements Rule {
 			}
 			var urlsWithWildcards = new HashSet()
 			for (url : resolvedUrls) {
-				val urlWithoutInteriorParameters = url.replaceAll(VARIABLE_PREFIX + ".+?/", "*/")
-				val urlWithoutParameters = urlWithoutInteriorParameters.replaceAll(VARIABLE_PREFIX + ".*", "*")
-				urlsWithWildcards.add(urlWithoutParameters)
+				urlsWithWildcards.add(RESTHelper.replaceVariablesWithWildcards(url, VARIABLE_PREFIX.charAt(0)))
 			}
 
 			normalizedRequests.put(source + key.replaceAll(START_NONWORD_CHARS, BLANK), urlsWithWildcards)
@@ -301,13 +335,8 @@ class EcmaScriptRules implements Rule {
 		return join
 	}
 
-	def mapURL(String host, String url, List<GatewayRoute> routes) {
-		for (route : routes) {
-			if (route.matches(url)) {
-				return route.applyTo(url)
-			}
-		}
-		return new RESTName(host, url)
+	def mapURL(String host, String url, GatewayRouteTable routes) {
+		return routes.map(host, url)
 	}
 
 	override isBuildRule() {
@@ -13,19 +13,20 @@ import java.util.ArrayList
 import org.eclipse.jdt.core.dom.CompilationUnit
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
-import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule
 
-class JaxRSDeploymentRules implements Rule {
+class JaxRSDeploymentRules implements PhasedRule {
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.jax_rs.deployment"
-	public static final String DONE_ID = "org.palladiosimulator.retriever.extraction.rules.jax_rs.deployment.done"
 	public static final String XML_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.xml"
 	public static final String JAVA_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java";
 	public static final String ECMASCRIPT_RULE_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript"
 	public static final String ECMASCRIPT_ROUTES_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript.routes"
 	public static final String ECMASCRIPT_HOSTNAMES_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript.hostnames"
 
-	override processRules(RetrieverBlackboard blackboard, Path path) {
-		if (blackboard.hasPartition(DONE_ID)) return
+	override processGlobally(RetrieverBlackboard blackboard, Set<Path> discoveredPaths) {
+		if(discoveredPaths.empty) return
+		// The routes are associated with the project of the first discovered path
+		val path = discoveredPaths.iterator.next
 		val xmls = blackboard.getDiscoveredFiles(XML_DISCOVERER_ID, typeof(Document))
 
 		var Map<Path, String> hostnames = new HashMap();
@@ -34,6 +35,7 @@ class JaxRSDeploymentRules implements Rule {
 		}
 
 		val List<GatewayRoute> routes = new ArrayList();
+		var Map<String, Path> nameToPath = null
 
 		for (xmlEntry : xmls.entrySet) {
 			val xmlPath = xmlEntry.key
@@ -63,16 +65,8 @@ class JaxRSDeploymentRules implements Rule {
 					routes.add(new GatewayRoute(servletMappings.get(servletName), servletName, true))
 				}
 
-				val nameToPath = new HashMap()
-				val compilationUnits = blackboard.getDiscoveredFiles(JAVA_DISCOVERER_ID, CompilationUnit)
-				for (entry : compilationUnits.entrySet) {
-					val compilationUnitPath = entry.key
-					val compilationUnit = entry.value
-					val types = compilationUnit.types
-					if (!types.empty) {
-						val name = (types.get(0) as AbstractTypeDeclaration).resolveBinding.qualifiedName
-						nameToPath.put(name, compilationUnitPath)
-					}
+				if (nameToPath === null) {
+					nameToPath = collectQualifiedNames(blackboard)
 				}
 				for (servlet : servlets.entrySet) {
 					val servletPath = nameToPath.get(servlet.key)
@@ -108,8 +102,29 @@ class JaxRSDeploymentRules implements Rule {
 		if (!blackboard.hasPartition(ECMASCRIPT_HOSTNAMES_ID)) {
 			blackboard.addPartition(ECMASCRIPT_HOSTNAMES_ID, hostnameMap)
 		}
-		
-		blackboard.addPartition(DONE_ID, true)
+	}
+
+	def collectQualifiedNames(RetrieverBlackboard blackboard) {
+		val Map<String, Path> nameToPath = new HashMap()
+		val compilationUnits = blackboard.getDiscoveredFiles(JAVA_DISCOVERER_ID, CompilationUnit)
+		for (entry : compilationUnits.entrySet) {
+			val compilationUnitPath = entry.key
+			val compilationUnit = entry.value
+			val types = compilationUnit.types
+			if (!types.empty) {
+				val name = (types.get(0) as AbstractTypeDeclaration).resolveBinding.qualifiedName
+				nameToPath.put(name, compilationUnitPath)
+			}
+		}
+		return nameToPath
+	}
+
+	override isProcessingGlobally() {
+		return true
+	}
+
+	override isProcessingFiles() {
+		return false
 	}
 
 	override isBuildRule() {
@@ -10,10 +10,11 @@ import java.util.Map
 import org.palladiosimulator.retriever.extraction.commonalities.HTTPMethod
 import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
-import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.FileInterest
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector
 
-class JaxRSRules implements Rule {
+class JaxRSRules implements PhasedRule {
 
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.jax_rs"
 
@@ -126,6 +127,11 @@ class JaxRSRules implements Rule {
 		}
 	}
 
+	override getFileInterest() {
+		// No annotation prefilter, units without JAX-RS annotations are still detected as components
+		return FileInterest.discoveredBy(JAVA_DISCOVERER_ID)
+	}
+
 	override isBuildRule() {
 		return false
 	}
@@ -5,9 +5,10 @@ import java.util.HashSet
 import org.eclipse.jdt.core.dom.CompilationUnit
 import java.util.Set
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
-import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.FileInterest
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule
 
-class MavenRules implements Rule {
+class MavenRules implements PhasedRule {
 
 	static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.maven"
 	static final String JAVA_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java";
@@ -29,6 +30,10 @@ class MavenRules implements Rule {
 		}
 	}
 
+	override getFileInterest() {
+		return FileInterest.fileName(MAVEN_FILE_NAME)
+	}
+
 	override isBuildRule() {
 		return true
 	}
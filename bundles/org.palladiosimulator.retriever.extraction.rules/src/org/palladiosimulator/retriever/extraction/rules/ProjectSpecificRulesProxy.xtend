@@ -1,55 +1,133 @@
 package org.palladiosimulator.retriever.extraction.rules
 
+import java.io.File
+import java.io.IOException
+import java.nio.charset.StandardCharsets
+import java.nio.file.FileSystems
+import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.attribute.FileTime
+import java.nio.file.attribute.PosixFilePermissions
+import java.security.MessageDigest
+import java.time.Duration
+import java.time.Instant
+import java.util.Comparator
+import java.util.HashSet
+import java.util.HexFormat
+import java.util.List
+import java.util.Map
 import java.util.Optional
 import java.util.Set
-import org.eclipse.xtend.core.compiler.batch.XtendBatchCompiler
-import java.net.URLClassLoader
-import java.io.File
-import java.util.HashSet
-import org.eclipse.xtend.core.XtendInjectorSingleton
+import java.util.stream.Collectors
 import javax.tools.ToolProvider
+import org.apache.log4j.Logger
 import org.eclipse.core.runtime.Platform
 import org.eclipse.emf.common.CommonPlugin
-import java.io.IOException
+import org.eclipse.xtend.core.XtendInjectorSingleton
+import org.eclipse.xtend.core.compiler.batch.XtendBatchCompiler
+import org.palladiosimulator.retriever.extraction.rules.util.InMemoryClassFiles
+import org.palladiosimulator.retriever.extraction.rules.util.InMemoryClassLoader
+import org.palladiosimulator.retriever.extraction.rules.util.InMemoryJavaSource
 import org.palladiosimulator.retriever.services.RetrieverConfiguration
-import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 
 class ProjectSpecificRulesProxy implements Rule {
+	static final Logger LOG = Logger.getLogger(ProjectSpecificRulesProxy)
 
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.project_specific"
 	public static final String LOADED_CLASS_NAME = "org.palladiosimulator.retriever.extraction.rules.ProjectSpecificRules"
 	public static final String RULE_PATH_KEY = "xtend_dir_path"
+	public static final String CACHE_DIRECTORY_NAME = "retriever-rule-cache"
+
+	static final String CLASS_FILE_EXTENSION = ".class"
+	// Written last, lists the classes of a complete cache entry
+	static final String COMPLETION_MARKER = "complete"
+	static final int MAX_CACHE_ENTRIES = 4
+	// Entries without a marker that are older than this are left over by crashed runs
+	static final Duration STALE_ENTRY_AGE = Duration.ofHours(1)
 
 	Optional<Rule> innerRule = Optional.empty;
 
 	override create(RetrieverConfiguration config, RetrieverBlackboard blackboard) {
 		val rulesDirectory = getConfiguredRulesDirectory(config)
+		val pluginJars = findPluginJars()
 
-		val xtendGenDirectory = new File(rulesDirectory.toString + "-xtend-gen")
-		if (!xtendGenDirectory.exists && !xtendGenDirectory.mkdirs) {
-			throw new IOException("Could not create intermediate compilation directory at " + xtendGenDirectory);
-		}
-
-		compileXtend(rulesDirectory, xtendGenDirectory)
-		compileJava(xtendGenDirectory)
-
-		val classDirectoryURL = xtendGenDirectory.toURI.toURL
-		val classLoader = new URLClassLoader(#[classDirectoryURL], class.classLoader)
-		val ruleInstance = try {
-				val loadedClass = classLoader.loadClass(LOADED_CLASS_NAME)
-				loadedClass.getConstructor().newInstance()
+		// Reuse the classes compiled by a previous run if neither the rules nor the platform changed
+		val cacheRoot = findCacheRoot()
+		val cacheDirectory = cacheRoot?.resolve(hash(rulesDirectory, pluginJars))
+		var ruleInstance = if(cacheDirectory !== null) loadCached(cacheDirectory)
+		if (ruleInstance === null) {
+			val classFiles = compileJava(compileXtend(rulesDirectory), pluginJars)
+			if (cacheDirectory !== null) {
+				store(classFiles, cacheDirectory)
+				evict(cacheRoot)
+			}
+			ruleInstance = try {
+				instantiate(new InMemoryClassLoader(classFiles, class.classLoader))
 			} catch (ClassNotFoundException exception) {
 				throw new IllegalArgumentException(
 					"Could not find project-specific rule. It must have the fully qualified name " + LOADED_CLASS_NAME,
 					exception)
 			}
+		}
 
-		innerRule = Optional.of(ruleInstance as Rule)
+		innerRule = Optional.of(ruleInstance)
 		innerRule.get().create(config, blackboard)
 	}
 
+	private def Rule instantiate(ClassLoader classLoader) {
+		classLoader.loadClass(LOADED_CLASS_NAME).getConstructor().newInstance() as Rule
+	}
+
+	/**
+	 * Returns the private cache directory of the current user, or null if there is none that is
+	 * safe to load classes from.
+	 */
+	def Path findCacheRoot() {
+		val cacheRoot = Path.of(System.getProperty("user.home"), ".cache", CACHE_DIRECTORY_NAME)
+		try {
+			Files.createDirectories(cacheRoot)
+			if (FileSystems.^default.supportedFileAttributeViews.contains("posix")) {
+				// Fails unless the directory belongs to the current user
+				Files.setPosixFilePermissions(cacheRoot, PosixFilePermissions.fromString("rwx------"))
+			}
+			return cacheRoot
+		} catch (IOException e) {
+			LOG.warn("Could not use " + cacheRoot + " to cache compiled project-specific rules", e)
+			return null
+		}
+	}
+
+	/**
+	 * Loads the rule from a complete cache entry. Returns null and removes the entry if it is
+	 * incomplete or cannot be loaded, so that the rules are compiled again.
+	 */
+	def Rule loadCached(Path cacheDirectory) {
+		if (!Files.isDirectory(cacheDirectory)) {
+			return null
+		}
+		val marker = cacheDirectory.resolve(COMPLETION_MARKER)
+		try {
+			// Read into memory, so that evicting the entry cannot break classes that are loaded later
+			val classFiles = <String, byte[]>newHashMap
+			for (className : Files.readAllLines(marker, StandardCharsets.UTF_8)) {
+				classFiles.put(className, Files.readAllBytes(cacheDirectory.resolve(toClassPath(className))))
+			}
+			val rule = instantiate(new InMemoryClassLoader(classFiles, class.classLoader))
+			// Marks the entry as recently used
+			Files.setLastModifiedTime(marker, FileTime.from(Instant.now))
+			return rule
+		} catch (Exception e) {
+			LOG.warn("Could not load cached project-specific rules from " + cacheDirectory + ", compiling them", e)
+		} catch (LinkageError e) {
+			LOG.warn("Could not load cached project-specific rules from " + cacheDirectory + ", compiling them", e)
+		}
+		delete(cacheDirectory)
+		return null
+	}
+
 	def getConfiguredRulesDirectory(RetrieverConfiguration config) {
 		val configuredValue = config.getConfig(Rule).getConfig(RULE_ID, RULE_PATH_KEY)
 		if (configuredValue !== null && !configuredValue.blank) {
@@ -61,64 +139,141 @@ class ProjectSpecificRulesProxy implements Rule {
 		throw new IllegalArgumentException("No path for project-specific rules is specified");
 	}
 
-	def compileXtend(File inputDirectory, File outputDirectory) {
-		val compiler = XtendInjectorSingleton.INJECTOR.getInstance(XtendBatchCompiler)
-		compiler.sourcePath = inputDirectory.toString
-		compiler.outputPath = outputDirectory.toString
-		compiler.currentClassLoader = class.classLoader
-		compiler.useCurrentClassLoaderAsParent = true
-		if (!compiler.compile()) {
-			throw new IllegalArgumentException("Could not compile xtend files located in " + inputDirectory)
+	/**
+	 * Returns the jars of the platform's plugins folder, which make up the compilation classpath.
+	 */
+	def List<File> findPluginJars() {
+		val pluginDirectory = new File(Platform.installLocation.URL.path).toPath.resolve("plugins").toFile
+		val files = pluginDirectory.listFiles
+		if (files === null) {
+			return List.of
 		}
+		return files.filter[file|file.isFile && file.name.endsWith(".jar")].sortBy[name].toList
 	}
 
-	def compileJava(File inOutDirectory) {
-		val sourcePath = inOutDirectory.toPath.resolve("org").resolve("palladiosimulator").resolve("retriever").resolve(
-			"extraction").resolve("rules").resolve("ProjectSpecificRules.java")
+	/**
+	 * Hashes the rule sources and the plugin set, identified by name, size and modification time.
+	 */
+	def hash(File rulesDirectory, List<File> pluginJars) {
+		val digest = MessageDigest.getInstance("SHA-256")
+		val rulesPath = rulesDirectory.toPath
+		val sources = try (val paths = Files.walk(rulesPath)) {
+				paths.filter[path|Files.isRegularFile(path)].sorted(Comparator.naturalOrder).collect(Collectors.toList)
+			}
+		for (source : sources) {
+			digest.update(rulesPath.relativize(source).toString.getBytes(StandardCharsets.UTF_8))
+			digest.update(Files.readAllBytes(source))
+		}
+		for (jar : pluginJars) {
+			digest.update((jar.name + ":" + jar.length + ":" + jar.lastModified).getBytes(StandardCharsets.UTF_8))
+		}
+		digest.update(System.getProperty("java.version").getBytes(StandardCharsets.UTF_8))
+		return HexFormat.of.formatHex(digest.digest)
+	}
 
-		val workingDirectory = new File(Platform.installLocation.URL.path).toPath
-		val jarpath = workingDirectory.resolve("plugins").resolve("*")
-		val classpath = buildClassPath(jarpath.toString)
+	/**
+	 * Translates the xtend files into java sources, which are kept in memory.
+	 */
+	def Map<String, String> compileXtend(File inputDirectory) {
+		// The batch compiler only writes to disk, so use a directory that is removed right away
+		val outputDirectory = Files.createTempDirectory("retriever-xtend-gen")
+		try {
+			val compiler = XtendInjectorSingleton.INJECTOR.getInstance(XtendBatchCompiler)
+			compiler.sourcePath = inputDirectory.toString
+			compiler.outputPath = outputDirectory.toString
+			compiler.currentClassLoader = class.classLoader
+			compiler.useCurrentClassLoaderAsParent = true
+			if (!compiler.compile()) {
+				throw new IllegalArgumentException("Could not compile xtend files located in " + inputDirectory)
+			}
+			try (val paths = Files.walk(outputDirectory)) {
+				return paths.filter[path|path.toString.endsWith(".java")].collect(
+					Collectors.toMap([path|outputDirectory.relativize(path).toString], [path|Files.readString(path)]))
+			}
+		} finally {
+			delete(outputDirectory)
+		}
+	}
+
+	def Map<String, byte[]> compileJava(Map<String, String> sources, List<File> pluginJars) {
+		val classpath = pluginJars.map[path].join(File.pathSeparator)
 
 		val compiler = ToolProvider.systemJavaCompiler
-		val fileManager = compiler.getStandardFileManager(null, null, null)
+		val fileManager = new InMemoryClassFiles(compiler.getStandardFileManager(null, null, null))
 		val compilerOptions = #["-classpath", classpath]
-		val sourceFile = fileManager.getJavaFileObjects(sourcePath)
-		val compilationTask = compiler.getTask(null, fileManager, null, compilerOptions, null, sourceFile)
+		val sourceFiles = sources.entrySet.map [ source |
+			new InMemoryJavaSource(source.key, source.value)
+		].toList
+		val compilationTask = compiler.getTask(null, fileManager, null, compilerOptions, null, sourceFiles)
 
-		// This call saves the compiled class files into the source directory.
 		if (!compilationTask.call()) {
-			throw new IllegalArgumentException("Could not compile java files generated from xtend files located in " +
-				inOutDirectory)
+			throw new IllegalArgumentException("Could not compile java files generated from xtend files")
 		}
+		return fileManager.classFiles
 	}
 
 	/**
-	 * This function builds a classpath from the passed Strings
-	 * 
-	 * @param paths classpath elements
-	 * @return returns the complete classpath with wildcards expanded
+	 * Writes the class files into the cache. The entry is written to a temporary directory and moved
+	 * into place once its completion marker is written, so that other runs never see a partial entry.
+	 * A failure only costs the next run a recompilation.
 	 */
-	def buildClassPath(String... paths) {
-		// Adapted from https://stackoverflow.com/a/22989029
-		val sb = new StringBuilder()
-		for (path : paths) {
-			if (path.endsWith("*")) {
-				val subPath = path.substring(0, path.length - 1)
-				val pathFile = new File(subPath)
-				for (file : pathFile.listFiles) {
-					if (file.isFile && file.name.endsWith(".jar")) {
-						sb.append(subPath)
-						sb.append(file.name)
-						sb.append(System.getProperty("path.separator"))
-					}
+	def store(Map<String, byte[]> classFiles, Path cacheDirectory) {
+		try {
+			Files.createDirectories(cacheDirectory.parent)
+			val temporaryDirectory = Files.createTempDirectory(cacheDirectory.parent, cacheDirectory.fileName.toString)
+			for (classFile : classFiles.entrySet) {
+				val classPath = temporaryDirectory.resolve(toClassPath(classFile.key))
+				Files.createDirectories(classPath.parent)
+				Files.write(classPath, classFile.value)
+			}
+			Files.write(temporaryDirectory.resolve(COMPLETION_MARKER), classFiles.keySet, StandardCharsets.UTF_8)
+			try {
+				Files.move(temporaryDirectory, cacheDirectory, StandardCopyOption.ATOMIC_MOVE)
+			} catch (IOException e) {
+				// Another run may have stored the same classes concurrently
+				delete(temporaryDirectory)
+			}
+		} catch (IOException e) {
+			LOG.warn("Could not cache compiled project-specific rules in " + cacheDirectory, e)
+		}
+	}
+
+	private static def toClassPath(String className) {
+		className.replace('.', '/') + CLASS_FILE_EXTENSION
+	}
+
+	/**
+	 * Keeps the most recently used complete entries of the cache and removes the others, as well as
+	 * entries that crashed runs left incomplete.
+	 */
+	def evict(Path cacheRoot) {
+		val complete = newArrayList
+		try (val entries = Files.list(cacheRoot)) {
+			for (entry : entries.filter[path|Files.isDirectory(path)].collect(Collectors.toList)) {
+				val marker = entry.resolve(COMPLETION_MARKER)
+				if (Files.isRegularFile(marker)) {
+					complete.add(marker)
+				} else if (Files.getLastModifiedTime(entry).toInstant.isBefore(Instant.now.minus(STALE_ENTRY_AGE))) {
+					delete(entry)
 				}
-			} else {
-				sb.append(path)
-				sb.append(System.getProperty("path.separator"))
 			}
+			val newestFirst = complete.sortBy[marker|Files.getLastModifiedTime(marker)].reverse
+			for (marker : newestFirst.drop(MAX_CACHE_ENTRIES)) {
+				delete(marker.parent)
+			}
+		} catch (IOException e) {
+			LOG.warn("Could not clean up the project-specific rule cache in " + cacheRoot, e)
+		}
+	}
+
+	private def delete(Path directory) {
+		try (val paths = Files.walk(directory)) {
+			for (path : paths.sorted(Comparator.reverseOrder).collect(Collectors.toList)) {
+				Files.deleteIfExists(path)
+			}
+		} catch (IOException e) {
+			LOG.warn("Could not delete " + directory, e)
 		}
-		return sb.toString
 	}
 
 	override isBuildRule() {
@@ -22,10 +22,11 @@ import org.palladiosimulator.retriever.extraction.rules.util.RESTHelper
 import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName
 import org.palladiosimulator.retriever.extraction.rules.util.ProjectHelper
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
-import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.FileInterest
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector
 
-class SpringRules implements Rule {
+class SpringRules implements PhasedRule {
 	static final Logger LOG = Logger.getLogger(SpringRules)
 
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.spring"
@@ -37,6 +38,10 @@ class SpringRules implements Rule {
 	public static final String ZUUL_RULE_ID = "org.palladiosimulator.retriever.extraction.rules.spring.zuul";
 	public static final String CLOUD_GATEWAY_RULE_ID = "org.palladiosimulator.retriever.extraction.rules.spring.cloudgateway";
 
+	// Only components are processed, i.e. annotated units and repositories
+	final FileInterest fileInterest = FileInterest.annotatedWith(JAVA_DISCOVERER_ID, "Service", "RestController",
+		"Controller", "FeignClient", "Repository", "Component").orUnitsMatching[unit|isRepository(unit)]
+
 	override processRules(RetrieverBlackboard blackboard, Path path) {
 		val unit = blackboard.getDiscoveredFiles(JAVA_DISCOVERER_ID, typeof(CompilationUnit)).get(path)
 		if(unit === null) return;
@@ -355,6 +360,10 @@ class SpringRules implements Rule {
 			isImplementingOrExtending(unit, "MongoRepository")
 	}
 
+	override getFileInterest() {
+		return fileInterest
+	}
+
 	override isBuildRule() {
 		return false
 	}
@@ -0,0 +1,103 @@
+package org.palladiosimulator.retriever.extraction.rules.data
+
+/**
+ * Ant-style matching on pre-split path segments, as used by Zuul and Spring Cloud Gateway routes.
+ * "**" matches any number of segments, "*" and "{variable}" match any characters within one
+ * segment, and "?" matches a single character.
+ */
+final class AntPathSegments {
+	public static final String ANY_PATH = "**"
+
+	static final char ANY_CHARACTERS = '*'
+	static final char ANY_CHARACTER = '?'
+	static final char VARIABLE_START = '{'
+	static final char VARIABLE_END = '}'
+
+	new() {
+		throw new IllegalAccessException()
+	}
+
+	static def boolean matches(String[] pattern, int patternIndex, String[] path, int pathIndex) {
+		if (patternIndex == pattern.length) {
+			return pathIndex == path.length
+		}
+		val patternSegment = pattern.get(patternIndex)
+		if (ANY_PATH == patternSegment) {
+			for (var i = pathIndex; i <= path.length; i++) {
+				if (matches(pattern, patternIndex + 1, path, i)) {
+					return true
+				}
+			}
+			return false
+		}
+		if (pathIndex == path.length || !matchesSegment(patternSegment, path.get(pathIndex))) {
+			return false
+		}
+		return matches(pattern, patternIndex + 1, path, pathIndex + 1)
+	}
+
+	/**
+	 * Whether the segment pattern matches any single segment, i.e. it is "*" or a lone variable.
+	 */
+	static def isAnySegment(String patternSegment) {
+		return patternSegment.length == 1 && patternSegment.charAt(0) == ANY_CHARACTERS ||
+			patternSegment.length > 1 && patternSegment.charAt(0) == VARIABLE_START &&
+				patternSegment.indexOf(VARIABLE_END) == patternSegment.length - 1
+	}
+
+	static def isLiteral(String patternSegment) {
+		return patternSegment.indexOf(ANY_CHARACTERS) == -1 && patternSegment.indexOf(ANY_CHARACTER) == -1 &&
+			patternSegment.indexOf(VARIABLE_START) == -1
+	}
+
+	static def boolean matchesSegment(String pattern, String segment) {
+		var patternIndex = 0
+		var segmentIndex = 0
+		var resumePatternIndex = -1
+		var resumeSegmentIndex = -1
+		while (segmentIndex < segment.length) {
+			val wildcardEnd = wildcardEnd(pattern, patternIndex)
+			if (wildcardEnd != -1) {
+				patternIndex = wildcardEnd
+				resumePatternIndex = wildcardEnd
+				resumeSegmentIndex = segmentIndex
+			} else if (patternIndex < pattern.length &&
+				(pattern.charAt(patternIndex) == ANY_CHARACTER ||
+					pattern.charAt(patternIndex) == segment.charAt(segmentIndex))) {
+				patternIndex++
+				segmentIndex++
+			} else if (resumePatternIndex != -1) {
+				// Let the last wildcard consume one more character
+				resumeSegmentIndex++
+				patternIndex = resumePatternIndex
+				segmentIndex = resumeSegmentIndex
+			} else {
+				return false
+			}
+		}
+		var wildcardEnd = wildcardEnd(pattern, patternIndex)
+		while (wildcardEnd != -1) {
+			patternIndex = wildcardEnd
+			wildcardEnd = wildcardEnd(pattern, patternIndex)
+		}
+		return patternIndex == pattern.length
+	}
+
+	// Returns the index after the wildcard starting at index, or -1 if there is none
+	private static def wildcardEnd(String pattern, int index) {
+		if (index >= pattern.length) {
+			return -1
+		}
+		val character = pattern.charAt(index)
+		if (character == ANY_CHARACTERS) {
+			return index + 1
+		}
+		if (character == VARIABLE_START) {
+			val end = pattern.indexOf(VARIABLE_END, index)
+			if (end != -1) {
+				return end + 1
+			}
+		}
+		return -1
+	}
+}
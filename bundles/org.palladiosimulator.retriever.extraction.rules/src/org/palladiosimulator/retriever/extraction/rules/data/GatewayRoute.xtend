@@ -4,44 +4,56 @@ import org.palladiosimulator.retriever.extraction.commonalities.RESTName
 
 class GatewayRoute {
 	static final String TRAILING_WILDCARD = "/**"
+	static final String SEPARATOR = "/"
 
-	String pathPattern
-	String targetHost
-	int stripPrefixLength
+	final String pathPattern
+	final String targetHost
+	final int stripPrefixLength
+	final String[] patternSegments
 
 	new(String path, String serviceId, boolean stripPrefix) {
 		this.pathPattern = path
 		this.targetHost = serviceId
 		this.stripPrefixLength = stripPrefix ? calculateStripPrefixLength(pathPattern) : 0
+		this.patternSegments = path === null ? null : toSegments(path)
 	}
 
 	new(String path, String serviceId, int stripPrefixLength) {
 		this.pathPattern = path
 		this.targetHost = serviceId
 		this.stripPrefixLength = stripPrefixLength
+		this.patternSegments = path === null ? null : toSegments(path)
 	}
 
 	def getPath() { pathPattern }
 
 	def getTargetHost() { targetHost }
 
+	package def getPatternSegments() { patternSegments }
+
 	def matches(String url) {
-		if (pathPattern.endsWith(TRAILING_WILDCARD)) {
-			val prefix = pathPattern.substring(0, pathPattern.length - TRAILING_WILDCARD.length)
-			return url.startsWith(prefix)
+		if (patternSegments === null) {
+			return false
 		}
-		return pathPattern.equals(url)
+		val urlSegments = toSegments(url)
+		return AntPathSegments.matches(patternSegments, 0, urlSegments, 0)
 	}
 
 	// Only well-defined if this.matches(url)
 	def RESTName applyTo(String url) {
-		val urlSegments = toSegments(url)
-		var newUrl = ""
-		if (stripPrefixLength < urlSegments.length) {
-			val newUrlSegments = urlSegments.subList(stripPrefixLength, urlSegments.length)
-			newUrl = toPath(newUrlSegments)
+		return applyTo(toSegments(url))
+	}
+
+	// Only well-defined if the segments match this route
+	package def RESTName applyTo(String[] urlSegments) {
+		if (stripPrefixLength >= urlSegments.length) {
+			return new RESTName(targetHost, "")
+		}
+		val newUrl = new StringBuilder()
+		for (var i = stripPrefixLength; i < urlSegments.length; i++) {
+			newUrl.append(SEPARATOR).append(urlSegments.get(i))
 		}
-		return new RESTName(targetHost, newUrl)
+		return new RESTName(targetHost, newUrl.toString)
 	}
 
 	private static def calculateStripPrefixLength(String pathPattern) {
@@ -52,16 +64,12 @@ class GatewayRoute {
 		}
 	}
 
-	private static def String[] toSegments(String path) {
-		val segments = path.split("/")
+	package static def String[] toSegments(String path) {
+		val segments = path.split(SEPARATOR)
 		if (segments.length > 0 && segments.get(0).empty) {
 			// Skip leading "/"
 			return segments.subList(1, segments.length)
 		}
 		return segments
 	}
-
-	private static def toPath(String[] segments) {
-		return "/" + segments.join('/')
-	}
 }
@@ -0,0 +1,134 @@
+package org.palladiosimulator.retriever.extraction.rules.data
+
+import java.util.ArrayList
+import java.util.HashMap
+import java.util.List
+import java.util.Map
+import org.palladiosimulator.retriever.extraction.commonalities.RESTName
+
+/**
+ * Routes compiled into a segment trie. Looking up a URL yields the same route as checking the
+ * routes one after another in their original order, but only walks the branches whose segments
+ * can still match.
+ */
+class GatewayRouteTable {
+	public static final GatewayRouteTable EMPTY = new GatewayRouteTable(List.of)
+
+	static final int NONE = Integer.MAX_VALUE
+
+	final List<GatewayRoute> routes
+	final Node root = new Node()
+
+	new(List<GatewayRoute> routes) {
+		this.routes = new ArrayList(routes)
+		for (var i = 0; i < this.routes.size; i++) {
+			insert(i)
+		}
+	}
+
+	def getRoutes() {
+		return routes
+	}
+
+	def isEmpty() {
+		return routes.empty
+	}
+
+	/**
+	 * Maps the URL onto the first matching route, or onto the host itself if no route matches.
+	 */
+	def RESTName map(String host, String url) {
+		val segments = GatewayRoute.toSegments(url)
+		val index = find(root, segments, 0, NONE)
+		if (index == NONE) {
+			return new RESTName(host, url)
+		}
+		return routes.get(index).applyTo(segments)
+	}
+
+	private def insert(int index) {
+		val patternSegments = routes.get(index).patternSegments
+		if (patternSegments === null) {
+			return
+		}
+		// Routes are inserted in order, so the first index reaching a node is its minimum
+		var node = root
+		if (node.minimum == NONE) {
+			node.minimum = index
+		}
+		for (segment : patternSegments) {
+			node = node.child(segment)
+			if (node.minimum == NONE) {
+				node.minimum = index
+			}
+		}
+		if (node.terminal == NONE) {
+			node.terminal = index
+		}
+	}
+
+	private static def int find(Node node, String[] segments, int position, int best) {
+		// No route below this node can precede the best match found so far
+		if (node.minimum >= best) {
+			return best
+		}
+		var result = best
+		if (node.anyPath !== null) {
+			for (var i = position; i <= segments.length; i++) {
+				result = find(node.anyPath, segments, i, result)
+			}
+		}
+		if (position == segments.length) {
+			return Math.min(result, node.terminal)
+		}
+		val segment = segments.get(position)
+		val literal = node.literals.get(segment)
+		if (literal !== null) {
+			result = find(literal, segments, position + 1, result)
+		}
+		if (node.anySegment !== null) {
+			result = find(node.anySegment, segments, position + 1, result)
+		}
+		for (pattern : node.patterns) {
+			if (AntPathSegments.matchesSegment(pattern.key, segment)) {
+				result = find(pattern.value, segments, position + 1, result)
+			}
+		}
+		return result
+	}
+
+	static class Node {
+		package final Map<String, Node> literals = new HashMap()
+		package final List<Pair<String, Node>> patterns = new ArrayList()
+		package Node anySegment
+		package Node anyPath
+		package int terminal = NONE
+		package int minimum = NONE
+
+		package def Node child(String segment) {
+			if (AntPathSegments.ANY_PATH == segment) {
+				if (anyPath === null) {
+					anyPath = new Node()
+				}
+				return anyPath
+			}
+			if (AntPathSegments.isAnySegment(segment)) {
+				if (anySegment === null) {
+					anySegment = new Node()
+				}
+				return anySegment
+			}
+			if (AntPathSegments.isLiteral(segment)) {
+				return literals.computeIfAbsent(segment)[new Node()]
+			}
+			for (pattern : patterns) {
+				if (pattern.key == segment) {
+					return pattern.value
+				}
+			}
+			val node = new Node()
+			patterns.add(segment -> node)
+			return node
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package org.palladiosimulator.retriever.extraction.rules.util
+
+import java.io.ByteArrayOutputStream
+import java.net.URI
+import java.util.LinkedHashMap
+import java.util.Map
+import javax.tools.FileObject
+import javax.tools.ForwardingJavaFileManager
+import javax.tools.JavaFileManager.Location
+import javax.tools.JavaFileObject.Kind
+import javax.tools.SimpleJavaFileObject
+import javax.tools.StandardJavaFileManager
+
+/**
+ * File manager that keeps the class files written by the compiler in memory.
+ */
+class InMemoryClassFiles extends ForwardingJavaFileManager<StandardJavaFileManager> {
+	final Map<String, ByteArrayOutputStream> classFiles = new LinkedHashMap()
+
+	new(StandardJavaFileManager fileManager) {
+		super(fileManager)
+	}
+
+	override getJavaFileForOutput(Location location, String className, Kind kind, FileObject sibling) {
+		val output = new ByteArrayOutputStream()
+		classFiles.put(className, output)
+		val uri = URI.create("bytes:///" + className.replace('.', '/') + kind.extension)
+		return new SimpleJavaFileObject(uri, kind) {
+			override openOutputStream() {
+				return output
+			}
+		}
+	}
+
+	/**
+	 * Returns the compiled classes, keyed by their binary names.
+	 */
+	def Map<String, byte[]> getClassFiles() {
+		val Map<String, byte[]> result = new LinkedHashMap()
+		for (entry : classFiles.entrySet) {
+			result.put(entry.key, entry.value.toByteArray)
+		}
+		return result
+	}
+}
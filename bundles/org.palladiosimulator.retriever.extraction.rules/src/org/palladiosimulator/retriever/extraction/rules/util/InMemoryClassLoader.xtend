@@ -0,0 +1,23 @@
+package org.palladiosimulator.retriever.extraction.rules.util
+
+import java.util.Map
+
+/**
+ * Defines classes from class files held in memory.
+ */
+class InMemoryClassLoader extends ClassLoader {
+	final Map<String, byte[]> classFiles
+
+	new(Map<String, byte[]> classFiles, ClassLoader parent) {
+		super(parent)
+		this.classFiles = classFiles
+	}
+
+	override protected findClass(String name) throws ClassNotFoundException {
+		val classFile = classFiles.get(name)
+		if (classFile === null) {
+			throw new ClassNotFoundException(name)
+		}
+		return defineClass(name, classFile, 0, classFile.length)
+	}
+}
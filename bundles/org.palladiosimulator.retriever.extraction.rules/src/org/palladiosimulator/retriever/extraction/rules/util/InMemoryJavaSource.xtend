@@ -0,0 +1,21 @@
+package org.palladiosimulator.retriever.extraction.rules.util
+
+import java.net.URI
+import javax.tools.JavaFileObject.Kind
+import javax.tools.SimpleJavaFileObject
+
+/**
+ * Java source file held in memory.
+ */
+class InMemoryJavaSource extends SimpleJavaFileObject {
+	final String content
+
+	new(String path, String content) {
+		super(URI.create("string:///" + path.replace('\\', '/')), Kind.SOURCE)
+		this.content = content
+	}
+
+	override getCharContent(boolean ignoreEncodingErrors) {
+		return content
+	}
+}
@@ -1,11 +1,91 @@
 package org.palladiosimulator.retriever.extraction.rules.util
 
 class RESTHelper {
+	static final char SLASH = '/'
+	static final char WILDCARD = '*'
+	static final char ARGUMENT_START = '{'
+	static final char ARGUMENT_END = '}'
+	static final char OPTIONAL_START = '['
+
+	/**
+	 * Replaces path arguments with a wildcard, drops trailing wildcards and slashes as well as
+	 * those in front of an optional part, and collapses repeated slashes. The result always
+	 * starts with a slash and is interned, so identical mappings share a single instance.
+	 */
 	def static replaceArgumentsWithWildcards(String methodName) {
-		var newName = methodName.replaceAll("\\{.*\\}", "*").replaceAll("[\\*\\/]*$", "").replaceAll("[\\*\\/]*\\[",
-			"[")
-		newName = "/" + newName
-		newName = newName.replaceAll("/+", "/")
-		return newName
+		// Everything from the first argument start to the last argument end becomes one wildcard
+		val argumentStart = methodName.indexOf(ARGUMENT_START)
+		val argumentEnd = methodName.lastIndexOf(ARGUMENT_END)
+		val hasArguments = argumentStart != -1 && argumentEnd > argumentStart
+		val replacedStart = hasArguments ? argumentStart : -1
+		val offset = hasArguments ? argumentEnd - argumentStart : 0
+		var length = methodName.length - offset
+
+		// Drop trailing wildcards and slashes
+		while (length > 0 && isWildcardOrSlash(charAt(methodName, length - 1, replacedStart, offset))) {
+			length--
+		}
+
+		val newName = new StringBuilder(length + 1)
+		newName.append(SLASH)
+		var wildcardsAndSlashesStart = -1
+		for (var i = 0; i < length; i++) {
+			val character = charAt(methodName, i, replacedStart, offset)
+			if (isWildcardOrSlash(character)) {
+				if (wildcardsAndSlashesStart == -1) {
+					wildcardsAndSlashesStart = newName.length
+				}
+				if (character != SLASH || newName.charAt(newName.length - 1) != SLASH) {
+					newName.append(character)
+				}
+			} else {
+				if (character == OPTIONAL_START && wildcardsAndSlashesStart != -1) {
+					newName.length = wildcardsAndSlashesStart
+				}
+				wildcardsAndSlashesStart = -1
+				newName.append(character)
+			}
+		}
+		return newName.toString.intern
+	}
+
+	/**
+	 * Replaces variables, i.e. segments starting with the variable prefix, with a wildcard. A
+	 * variable without a later slash swallows the rest of the URL. The result is interned.
+	 */
+	def static replaceVariablesWithWildcards(String url, char variablePrefix) {
+		var variableStart = url.indexOf(variablePrefix)
+		if (variableStart == -1) {
+			return url.intern
+		}
+		val newUrl = new StringBuilder(url.length)
+		var copiedUntil = 0
+		while (variableStart != -1) {
+			newUrl.append(url, copiedUntil, variableStart)
+			newUrl.append(WILDCARD)
+			// A variable name consists of at least one character
+			val variableEnd = url.indexOf(SLASH, variableStart + 2)
+			if (variableEnd == -1) {
+				return newUrl.toString.intern
+			}
+			newUrl.append(SLASH)
+			copiedUntil = variableEnd + 1
+			variableStart = url.indexOf(variablePrefix, copiedUntil)
+		}
+		newUrl.append(url, copiedUntil, url.length)
+		return newUrl.toString.intern
+	}
+
+	private def static char charAt(String name, int index, int replacedStart, int offset) {
+		if (index < replacedStart) {
+			return name.charAt(index)
+		} else if (index == replacedStart) {
+			return WILDCARD
+		}
+		return name.charAt(index + offset)
+	}
+
+	private def static isWildcardOrSlash(char character) {
+		return character == WILDCARD || character == SLASH
 	}
-}
\ No newline at end of file
+}
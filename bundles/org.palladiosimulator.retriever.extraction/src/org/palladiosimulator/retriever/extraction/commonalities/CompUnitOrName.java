@@ -1,5 +1,6 @@
 package org.palladiosimulator.retriever.extraction.commonalities;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -8,27 +9,47 @@ import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 
+/**
+ * Identifies a component either by its compilation unit or by its name. A unit is identified by its
+ * source path, which discoverers store under {@link #SOURCE_PATH_PROPERTY}, and the qualified name
+ * of its first type. The same type may be declared in several modules, and the name is not even
+ * qualified if bindings are not resolved. Units without a source path are only equal to
+ * themselves. The compilation unit itself is only referenced weakly, so that it can be collected
+ * once the blackboard no longer holds the discovered files.
+ */
 public class CompUnitOrName {
+    public static final String SOURCE_PATH_PROPERTY = CompUnitOrName.class.getName() + ".sourcePath";
+    private static final String IDENTITY_PROPERTY = CompUnitOrName.class.getName() + ".identity";
 
-    private final Optional<CompilationUnit> compilationUnit;
+    private final WeakReference<CompilationUnit> compilationUnit;
     private final String name;
+    // The source path or an identity token of the unit, null for names
+    private final Object unitKey;
 
     public CompUnitOrName(final String name) {
-        this.compilationUnit = Optional.empty();
+        this.compilationUnit = null;
         this.name = name;
+        this.unitKey = null;
     }
 
     public CompUnitOrName(final CompilationUnit compilationUnit) {
-        this.compilationUnit = Optional.of(compilationUnit);
+        this.compilationUnit = new WeakReference<>(Objects.requireNonNull(compilationUnit));
         this.name = toName(compilationUnit);
+        this.unitKey = toUnitKey(compilationUnit);
     }
 
     public boolean isUnit() {
-        return this.compilationUnit.isPresent();
+        return this.compilationUnit != null;
     }
 
+    /**
+     * The compilation unit, if this is a unit and the unit is still held by the blackboard.
+     */
     public Optional<CompilationUnit> compilationUnit() {
-        return this.compilationUnit;
+        if (this.compilationUnit == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.compilationUnit.get());
     }
 
     public String name() {
@@ -50,9 +71,25 @@ public class CompUnitOrName {
         return binding.getQualifiedName();
     }
 
+    private static Object toUnitKey(final CompilationUnit compilationUnit) {
+        // Rules may identify the same unit concurrently
+        synchronized (compilationUnit) {
+            final Object sourcePath = compilationUnit.getProperty(SOURCE_PATH_PROPERTY);
+            if (sourcePath != null) {
+                return sourcePath;
+            }
+            Object identity = compilationUnit.getProperty(IDENTITY_PROPERTY);
+            if (identity == null) {
+                identity = new Object();
+                compilationUnit.setProperty(IDENTITY_PROPERTY, identity);
+            }
+            return identity;
+        }
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(this.compilationUnit, this.name);
+        return Objects.hash(this.isUnit(), this.name, this.unitKey);
     }
 
     @Override
@@ -64,7 +101,8 @@ public class CompUnitOrName {
             return false;
         }
         final CompUnitOrName other = (CompUnitOrName) obj;
-        return Objects.equals(this.compilationUnit, other.compilationUnit) && Objects.equals(this.name, other.name);
+        return (this.isUnit() == other.isUnit()) && Objects.equals(this.name, other.name)
+                && Objects.equals(this.unitKey, other.unitKey);
     }
     
     @Override
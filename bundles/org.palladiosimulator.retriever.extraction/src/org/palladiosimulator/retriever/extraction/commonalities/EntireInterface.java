@@ -9,21 +9,21 @@ import java.util.Set;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 
 public class EntireInterface implements OperationInterface {
-    private final Optional<ITypeBinding> binding;
+    private final Optional<TypeDescriptor> type;
     private final Name name;
 
     public EntireInterface(final Name name) {
-        this.binding = Optional.empty();
+        this.type = Optional.empty();
         this.name = name;
     }
 
     public EntireInterface(final ITypeBinding binding, final Name name) {
-        this.binding = Optional.of(binding);
+        this.type = Optional.of(TypeDescriptor.of(binding));
         this.name = name;
     }
 
-    public Optional<ITypeBinding> getBinding() {
-        return this.binding;
+    public Optional<TypeDescriptor> getType() {
+        return this.type;
     }
 
     @Override
@@ -44,7 +44,7 @@ public class EntireInterface implements OperationInterface {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.binding, this.name);
+        return Objects.hash(this.type, this.name);
     }
 
     @Override
@@ -56,7 +56,7 @@ public class EntireInterface implements OperationInterface {
             return false;
         }
         final EntireInterface other = (EntireInterface) obj;
-        return Objects.equals(this.binding, other.binding) && Objects.equals(this.name, other.name);
+        return Objects.equals(this.type, other.type) && Objects.equals(this.name, other.name);
     }
 
     @Override
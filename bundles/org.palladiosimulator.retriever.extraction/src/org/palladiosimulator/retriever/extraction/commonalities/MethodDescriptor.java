@@ -0,0 +1,35 @@
+package org.palladiosimulator.retriever.extraction.commonalities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * The parts of a method binding that are needed after rule execution. The declaration of the method
+ * can be found again through its binding key, see
+ * {@link org.eclipse.jdt.core.dom.CompilationUnit#findDeclaringNode(String)}.
+ */
+public record MethodDescriptor(String key, String name, String declaringType, List<TypeDescriptor> parameterTypes,
+        List<String> parameterNames, TypeDescriptor returnType) {
+
+    public MethodDescriptor {
+        parameterTypes = List.copyOf(parameterTypes);
+        parameterNames = List.copyOf(parameterNames);
+    }
+
+    public static MethodDescriptor of(final IMethodBinding binding) {
+        if (binding == null) {
+            return null;
+        }
+        final List<TypeDescriptor> parameterTypes = new ArrayList<>();
+        for (final ITypeBinding parameterType : binding.getParameterTypes()) {
+            parameterTypes.add(TypeDescriptor.of(parameterType));
+        }
+        final ITypeBinding declaringClass = binding.getDeclaringClass();
+        return new MethodDescriptor(binding.getKey(), binding.getName(),
+                (declaringClass == null) ? null : declaringClass.getQualifiedName(), parameterTypes,
+                List.of(binding.getParameterNames()), TypeDescriptor.of(binding.getReturnType()));
+    }
+}
@@ -7,16 +7,20 @@ import java.util.Set;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 
 public class Operation implements OperationInterface {
-    private final IMethodBinding binding;
+    private final MethodDescriptor method;
     private final OperationName name;
 
+    /**
+     * Only keeps a descriptor of the binding, so that the operation does not keep the JDT binding
+     * environment reachable.
+     */
     public Operation(final IMethodBinding binding, final OperationName name) {
-        this.binding = binding;
+        this.method = MethodDescriptor.of(binding);
         this.name = name;
     }
 
-    public IMethodBinding getBinding() {
-        return this.binding;
+    public MethodDescriptor getMethod() {
+        return this.method;
     }
 
     @Override
@@ -40,7 +44,7 @@ public class Operation implements OperationInterface {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.binding, this.name);
+        return Objects.hash(this.method, this.name);
     }
 
     @Override
@@ -52,7 +56,7 @@ public class Operation implements OperationInterface {
             return false;
         }
         final Operation other = (Operation) obj;
-        return Objects.equals(this.binding, other.binding) && Objects.equals(this.name, other.name);
+        return Objects.equals(this.method, other.method) && Objects.equals(this.name, other.name);
     }
 
     @Override
@@ -0,0 +1,53 @@
+package org.palladiosimulator.retriever.extraction.commonalities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * The parts of a type binding that are needed after rule execution. Unlike the binding itself, a
+ * descriptor does not keep the JDT binding environment reachable.
+ */
+public record TypeDescriptor(String key, String qualifiedName, boolean primitive, int dimensions,
+        boolean collection, List<TypeDescriptor> typeArguments) {
+
+    private static final String COLLECTION = "java.util.Collection";
+
+    public TypeDescriptor {
+        typeArguments = List.copyOf(typeArguments);
+    }
+
+    public static TypeDescriptor of(final ITypeBinding binding) {
+        if (binding == null) {
+            return null;
+        }
+        final List<TypeDescriptor> typeArguments = new ArrayList<>();
+        for (final ITypeBinding typeArgument : binding.getTypeArguments()) {
+            typeArguments.add(of(typeArgument));
+        }
+        return new TypeDescriptor(binding.getKey(), binding.getQualifiedName(), binding.isPrimitive(),
+                binding.getDimensions(), isCollection(binding), typeArguments);
+    }
+
+    private static boolean isCollection(final ITypeBinding binding) {
+        final List<ITypeBinding> refs = new ArrayList<>();
+
+        if (binding.isClass()) {
+            refs.addAll(List.of(binding.getInterfaces()));
+        } else if (binding.isInterface()) {
+            if (COLLECTION.equals(binding.getQualifiedName())) {
+                return true;
+            }
+            refs.addAll(List.of(binding.getInterfaces()));
+        }
+
+        for (final ITypeBinding ref : refs) {
+            if (COLLECTION.equals(ref.getQualifiedName())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
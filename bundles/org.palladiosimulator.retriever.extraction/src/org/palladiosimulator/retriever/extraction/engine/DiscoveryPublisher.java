@@ -0,0 +1,64 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+/**
+ * Collects the files of a discoverer and puts them on the blackboard. If the blackboard carries a
+ * {@link DiscoveryStream}, the files are on the blackboard from the start and each one is passed to
+ * the stream as soon as it is published. Otherwise, they are put on the blackboard at once when the
+ * publisher is closed. Publishers that know how to encode their files spill them to disk if the
+ * blackboard carries a {@link DiscoverySpill}.
+ *
+ * @param <T>
+ *            the type of the discovered files
+ */
+public final class DiscoveryPublisher<T> {
+    private final RetrieverBlackboard blackboard;
+    private final String discovererID;
+    private final DiscoveryStream stream;
+    private final Map<Path, T> files;
+
+    public DiscoveryPublisher(final RetrieverBlackboard blackboard, final String discovererID) {
+        this(blackboard, discovererID, null);
+    }
+
+    public DiscoveryPublisher(final RetrieverBlackboard blackboard, final String discovererID,
+            final SpillCodec<T> codec) {
+        this.blackboard = Objects.requireNonNull(blackboard);
+        this.discovererID = Objects.requireNonNull(discovererID);
+        this.stream = DiscoveryStream.of(blackboard)
+            .orElse(null);
+        final DiscoverySpill spill = DiscoverySpill.of(blackboard)
+            .orElse(null);
+        if ((spill != null) && (codec != null)) {
+            // Spilling maps are synchronized, so rules may read them while streaming as well
+            this.files = spill.createMap(this.discovererID, codec);
+            if (this.stream != null) {
+                this.blackboard.putDiscoveredFiles(this.discovererID, this.files);
+            }
+        } else if (this.stream == null) {
+            this.files = new HashMap<>();
+        } else {
+            // Rules read the files while the discoverer is still adding to them
+            this.files = new ConcurrentHashMap<>();
+            this.blackboard.putDiscoveredFiles(this.discovererID, this.files);
+        }
+    }
+
+    public void publish(final Path path, final T file) {
+        this.files.put(path, file);
+        if (this.stream != null) {
+            this.stream.publish(this.discovererID, path);
+        }
+    }
+
+    public void close() {
+        this.blackboard.putDiscoveredFiles(this.discovererID, this.files);
+    }
+}
@@ -0,0 +1,101 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+/**
+ * Keeps discovered files on disk instead of on the heap. Discoverers spill their files if the spill
+ * is on the blackboard under {@link #PARTITION_KEY} and they know how to encode them, see
+ * {@link DiscoveryPublisher}. Rules read the spilled files through the usual discovered files of
+ * the blackboard.
+ */
+public class DiscoverySpill {
+    public static final String PARTITION_KEY = "org.palladiosimulator.retriever.extraction.engine.discovery_spill";
+    private static final Logger LOG = Logger.getLogger(DiscoverySpill.class);
+
+    private final Path directory;
+    private final int cacheSize;
+    private final SegmentStore store;
+    private final Map<String, SpillingMap<?>> maps;
+    private boolean closed;
+
+    /**
+     * Spills to a new temporary directory.
+     *
+     * @param cacheSize
+     *            the number of decoded files each discoverer keeps on the heap
+     */
+    public DiscoverySpill(final int cacheSize) throws IOException {
+        this(Files.createTempDirectory("retriever-spill"), cacheSize);
+    }
+
+    public DiscoverySpill(final Path directory, final int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("The cache size must not be negative");
+        }
+        this.directory = Objects.requireNonNull(directory);
+        this.cacheSize = cacheSize;
+        this.store = new SegmentStore(directory, SegmentStore.DEFAULT_SEGMENT_SIZE);
+        this.maps = new LinkedHashMap<>();
+    }
+
+    public static Optional<DiscoverySpill> of(final RetrieverBlackboard blackboard) {
+        if (!blackboard.hasPartition(PARTITION_KEY)) {
+            return Optional.empty();
+        }
+        return Optional.of((DiscoverySpill) blackboard.getPartition(PARTITION_KEY));
+    }
+
+    /**
+     * Creates the map holding the spilled files of a discoverer.
+     */
+    public synchronized <T> SpillingMap<T> createMap(final String discovererID, final SpillCodec<T> codec) {
+        final SpillingMap<T> map = new SpillingMap<>(this.store, codec, this.cacheSize);
+        this.maps.put(Objects.requireNonNull(discovererID), map);
+        return map;
+    }
+
+    /**
+     * The IDs under which maps were created, i.e. the discovered files that have to be released
+     * before the spill is closed.
+     */
+    public synchronized Set<String> getDiscovererIDs() {
+        return Set.copyOf(this.maps.keySet());
+    }
+
+    /**
+     * Logs how often the spilled files of each discoverer were read from the cache and from disk.
+     */
+    public synchronized void report() {
+        this.maps.forEach((discovererID, map) -> LOG.info(String.format("Spilled files of %s: %d cache hits, %d misses",
+                discovererID, map.getHits(), map.getMisses())));
+    }
+
+    /**
+     * Reports and deletes the spilled files. They must not be read anymore afterwards. Closing a
+     * closed spill does nothing.
+     */
+    public synchronized void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.report();
+        this.maps.clear();
+        try {
+            this.store.close();
+            Files.deleteIfExists(this.directory);
+        } catch (final IOException e) {
+            LOG.warn("Could not delete the spilled files in " + this.directory, e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Hands discovered files from the discoverers to the rules while discovery is still running. Each
+ * file published by a discoverer is passed to all subscriptions for that discoverer, and once the
+ * discoverer is done, its subscriptions receive the end of the stream. Discoverers only stream if
+ * the stream is on the blackboard under {@link #PARTITION_KEY}.
+ */
+public class DiscoveryStream {
+    public static final String PARTITION_KEY = "org.palladiosimulator.retriever.extraction.engine.discovery_stream";
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final Map<String, List<Subscription>> subscriptions;
+    private final Set<String> completed;
+
+    public DiscoveryStream() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DiscoveryStream(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The stream has to be able to hold at least one file");
+        }
+        this.capacity = capacity;
+        this.subscriptions = new HashMap<>();
+        this.completed = new HashSet<>();
+    }
+
+    public static Optional<DiscoveryStream> of(final RetrieverBlackboard blackboard) {
+        if (!blackboard.hasPartition(PARTITION_KEY)) {
+            return Optional.empty();
+        }
+        return Optional.of((DiscoveryStream) blackboard.getPartition(PARTITION_KEY));
+    }
+
+    /**
+     * Subscribes to the files of a discoverer. Subscriptions have to be made before the discoverer
+     * starts, files published earlier are not passed on.
+     */
+    public synchronized Subscription subscribe(final String discovererID) {
+        final Subscription subscription = new Subscription(this.capacity);
+        if (this.completed.contains(discovererID)) {
+            subscription.end();
+        }
+        this.subscriptions.computeIfAbsent(Objects.requireNonNull(discovererID), id -> new ArrayList<>())
+            .add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Passes a discovered file to the subscriptions for its discoverer. Blocks while an active
+     * subscription is full.
+     */
+    public void publish(final String discovererID, final Path path) {
+        final List<Subscription> receivers;
+        synchronized (this) {
+            receivers = List.copyOf(this.subscriptions.getOrDefault(discovererID, List.of()));
+        }
+        try {
+            for (final Subscription receiver : receivers) {
+                receiver.offer(path);
+            }
+        } catch (final InterruptedException e) {
+            // The subscribers pick up the file after the end of the stream
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+    /**
+     * Ends the stream for the subscriptions for the discoverer.
+     */
+    public void complete(final String discovererID) {
+        final List<Subscription> receivers;
+        synchronized (this) {
+            this.completed.add(discovererID);
+            receivers = List.copyOf(this.subscriptions.getOrDefault(discovererID, List.of()));
+        }
+        receivers.forEach(Subscription::end);
+    }
+
+    /**
+     * Wraps the job of a discoverer so that the stream ends for its subscriptions once the job is
+     * done, even if it failed.
+     */
+    public IBlackboardInteractingJob<RetrieverBlackboard> completing(final String discovererID,
+            final IBlackboardInteractingJob<RetrieverBlackboard> job) {
+        return new CompletingJob(discovererID, job);
+    }
+
+    /**
+     * The files of a single discoverer, in the order they were published. Publishing blocks while an
+     * activated subscription holds its capacity. Until a subscription is activated, its consumer
+     * may wait for other jobs, so it must not block the discoverer. If more files than its capacity
+     * are published before, the subscription overflows: it drops the buffered files, ignores further
+     * ones, and only signals the end of the stream. The consumer then has to pick up the files
+     * after the discoverer is done.
+     */
+    public static final class Subscription {
+        private final int capacity;
+        private final Deque<Path> paths;
+        private boolean active;
+        private boolean ended;
+        private boolean overflowed;
+
+        private Subscription(final int capacity) {
+            this.capacity = capacity;
+            this.paths = new ArrayDeque<>();
+        }
+
+        public synchronized void activate() {
+            this.active = true;
+        }
+
+        /**
+         * Returns the next published file, waiting for it if necessary, or null once the stream has
+         * ended.
+         */
+        public synchronized Path take() throws InterruptedException {
+            while (this.paths.isEmpty() && !this.ended) {
+                this.wait();
+            }
+            final Path path = this.paths.poll();
+            this.notifyAll();
+            return path;
+        }
+
+        /**
+         * Whether files were dropped because more than the capacity were published before the
+         * subscription was activated.
+         */
+        public synchronized boolean isOverflowed() {
+            return this.overflowed;
+        }
+
+        private synchronized void offer(final Path path) throws InterruptedException {
+            while (this.active && !this.ended && !this.overflowed && (this.paths.size() >= this.capacity)) {
+                this.wait();
+            }
+            if (this.overflowed) {
+                return;
+            }
+            if (!this.active && (this.paths.size() >= this.capacity)) {
+                this.overflowed = true;
+                this.paths.clear();
+                return;
+            }
+            this.paths.add(path);
+            this.notifyAll();
+        }
+
+        private synchronized void end() {
+            this.ended = true;
+            this.notifyAll();
+        }
+    }
+
+    private class CompletingJob implements IBlackboardInteractingJob<RetrieverBlackboard> {
+        private final String discovererID;
+        private final IBlackboardInteractingJob<RetrieverBlackboard> job;
+
+        CompletingJob(final String discovererID, final IBlackboardInteractingJob<RetrieverBlackboard> job) {
+            this.discovererID = Objects.requireNonNull(discovererID);
+            this.job = Objects.requireNonNull(job);
+        }
+
+        @Override
+        public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+            try {
+                this.job.execute(monitor);
+            } finally {
+                DiscoveryStream.this.complete(this.discovererID);
+            }
+        }
+
+        @Override
+        public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+            this.job.cleanup(monitor);
+        }
+
+        @Override
+        public String getName() {
+            return this.job.getName();
+        }
+
+        @Override
+        public void setBlackboard(final RetrieverBlackboard blackboard) {
+            this.job.setBlackboard(blackboard);
+        }
+    }
+}
@@ -114,7 +114,8 @@ public class DockerParser {
         final Map<String, Set<CompilationUnit>> serviceToCompMapping = new HashMap<>();
 
         components.forEach(compUnitOrName -> {
-            if (!compUnitOrName.isUnit()) {
+            if (compUnitOrName.compilationUnit()
+                .isEmpty()) {
                 return;
             }
             final CompilationUnit comp = compUnitOrName.compilationUnit()
@@ -0,0 +1,155 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+/**
+ * Declares which discovered files the per-file phase of a {@link PhasedRule} cares about. Files
+ * can be selected by the discoverer that found them, by a glob on their file name, or by an
+ * annotation on their Java types.
+ */
+public final class FileInterest {
+    public static final FileInterest ALL = new FileInterest(null, null, null);
+
+    private final String discovererID;
+    private final PathMatcher fileNameMatcher;
+    private final Predicate<CompilationUnit> unitFilter;
+
+    private FileInterest(final String discovererID, final PathMatcher fileNameMatcher,
+            final Predicate<CompilationUnit> unitFilter) {
+        this.discovererID = discovererID;
+        this.fileNameMatcher = fileNameMatcher;
+        this.unitFilter = unitFilter;
+    }
+
+    /**
+     * Selects the files found by the discoverer.
+     */
+    public static FileInterest discoveredBy(final String discovererID) {
+        return new FileInterest(Objects.requireNonNull(discovererID), null, null);
+    }
+
+    /**
+     * Selects the files whose name matches the glob, e.g. "pom.xml" or "*.gradle".
+     */
+    public static FileInterest fileName(final String glob) {
+        return new FileInterest(null, FileSystems.getDefault()
+            .getPathMatcher("glob:" + glob), null);
+    }
+
+    /**
+     * Selects the Java compilation units found by the discoverer that declare a type annotated with
+     * any of the names. Annotations are compared by their names as written, without resolving
+     * bindings.
+     */
+    public static FileInterest annotatedWith(final String javaDiscovererID, final String... annotationNames) {
+        final String[] names = annotationNames.clone();
+        return new FileInterest(Objects.requireNonNull(javaDiscovererID), null,
+                unit -> RuleHelper.isUnitAnnotatedWithName(unit, names));
+    }
+
+    /**
+     * Additionally selects the compilation units of an annotation interest that match the
+     * predicate, e.g. those that implement a certain interface instead of being annotated.
+     */
+    public FileInterest orUnitsMatching(final Predicate<CompilationUnit> predicate) {
+        if (this.unitFilter == null) {
+            throw new IllegalStateException("Only annotation interests can select further units");
+        }
+        return new FileInterest(this.discovererID, this.fileNameMatcher, this.unitFilter.or(predicate));
+    }
+
+    /**
+     * The discoverer whose files this interest is bound to, or null if it looks at all discovered
+     * paths.
+     */
+    public String getDiscovererID() {
+        return this.discovererID;
+    }
+
+    /**
+     * Whether this interest selects a single discovered path.
+     */
+    public boolean selects(final RetrieverBlackboard blackboard, final Path path) {
+        if (this.discovererID == null) {
+            return this.matches(path);
+        }
+        final Map<Path, Object> discoveredFiles = blackboard.getDiscoveredFiles(this.discovererID, Object.class);
+        if ((discoveredFiles == null) || !discoveredFiles.containsKey(path)) {
+            return false;
+        }
+        return this.matches(path) && this.accepts(discoveredFiles.get(path));
+    }
+
+    /**
+     * Returns the discovered paths this interest selects. Interests bound to a discoverer only
+     * iterate the files of that discoverer, in the order of its files. Other interests keep the
+     * order of the discovered paths.
+     */
+    public Collection<Path> select(final RetrieverBlackboard blackboard, final Set<Path> discoveredPaths) {
+        if ((this.discovererID == null) && (this.fileNameMatcher == null)) {
+            return discoveredPaths;
+        }
+
+        final List<Path> selected = new ArrayList<>();
+        if (this.discovererID == null) {
+            for (final Path path : discoveredPaths) {
+                if (this.matches(path)) {
+                    selected.add(path);
+                }
+            }
+            return selected;
+        }
+
+        final Map<Path, Object> discoveredFiles = blackboard.getDiscoveredFiles(this.discovererID, Object.class);
+        if (discoveredFiles == null) {
+            return List.of();
+        }
+        if (this.unitFilter == null) {
+            for (final Path path : discoveredFiles.keySet()) {
+                if (this.matches(path)) {
+                    selected.add(path);
+                }
+            }
+            return selected;
+        }
+        // Iterates the entries, so that each file is fetched only once
+        for (final Map.Entry<Path, Object> file : discoveredFiles.entrySet()) {
+            if (this.matches(file.getKey()) && this.accepts(file.getValue())) {
+                selected.add(file.getKey());
+            }
+        }
+        return selected;
+    }
+
+    private boolean matches(final Path path) {
+        if (path == null) {
+            return false;
+        }
+        if (this.fileNameMatcher != null) {
+            final Path fileName = path.getFileName();
+            if (fileName == null || !this.fileNameMatcher.matches(fileName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean accepts(final Object file) {
+        if (this.unitFilter == null) {
+            return true;
+        }
+        return (file instanceof final CompilationUnit unit) && this.unitFilter.test(unit);
+    }
+}
@@ -6,12 +6,14 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
@@ -45,8 +47,8 @@ public class PCMDetector {
 
     private final Map<CompUnitOrName, ComponentBuilder> components = new ConcurrentHashMap<>();
     private final Map<String, CompositeBuilder> composites = new ConcurrentHashMap<>();
-    private final ProvisionsBuilder compositeProvisions = new ProvisionsBuilder();
-    private final RequirementsBuilder compositeRequirements = new RequirementsBuilder();
+    private ProvisionsBuilder compositeProvisions = new ProvisionsBuilder();
+    private RequirementsBuilder compositeRequirements = new RequirementsBuilder();
     private final Map<CompUnitOrName, List<String>> weakComponents = new ConcurrentHashMap<>();
     private final Map<CompUnitOrName, String> separatingIdentifiers = new ConcurrentHashMap<>();
     private final Set<String> blacklist = new HashSet<>();
@@ -56,13 +58,13 @@ public class PCMDetector {
         // On the other hand, it is still fit as a unique identifier,
         // since types cannot be declared multiple times.
 
-        if (!unit.isUnit()) {
+        final Optional<CompilationUnit> compilationUnit = unit.compilationUnit();
+        if (compilationUnit.isEmpty()) {
             return unit.name();
         }
 
         final List<String> names = new ArrayList<>();
-        for (final Object type : unit.compilationUnit()
-            .get()
+        for (final Object type : compilationUnit.get()
             .types()) {
             if (type instanceof AbstractTypeDeclaration) {
                 String fullTypeName = ((AbstractTypeDeclaration) type).getName()
@@ -78,12 +80,12 @@ public class PCMDetector {
     }
 
     public void detectComponent(final CompUnitOrName unit) {
-        if (!unit.isUnit()) {
+        final Optional<CompilationUnit> compilationUnit = unit.compilationUnit();
+        if (compilationUnit.isEmpty()) {
             tryAddComponent(unit);
             return;
         }
-        for (final Object type : unit.compilationUnit()
-            .get()
+        for (final Object type : compilationUnit.get()
             .types()) {
             if (type instanceof TypeDeclaration && tryAddComponent(unit)) {
                 final ITypeBinding binding = ((TypeDeclaration) type).resolveBinding();
@@ -355,6 +357,19 @@ public class PCMDetector {
                 this.compositeRequirements);
     }
 
+    /**
+     * Drops all detected elements. The compilation units and bindings they refer to can be collected
+     * afterwards, so this must only be called once the PCM instance has been created.
+     */
+    public void release() {
+        this.components.clear();
+        this.composites.clear();
+        this.compositeProvisions = new ProvisionsBuilder();
+        this.compositeRequirements = new RequirementsBuilder();
+        this.weakComponents.clear();
+        this.separatingIdentifiers.clear();
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder(142);
@@ -12,8 +12,6 @@ import java.util.Set;
 import org.apache.log4j.Logger;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.dom.IMethodBinding;
-import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.palladiosimulator.generator.fluent.repository.api.Repo;
 import org.palladiosimulator.generator.fluent.repository.factory.FluentRepositoryFactory;
 import org.palladiosimulator.generator.fluent.repository.structure.components.BasicComponentCreator;
@@ -34,9 +32,11 @@ import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
 import org.palladiosimulator.retriever.extraction.commonalities.Component;
 import org.palladiosimulator.retriever.extraction.commonalities.Composite;
+import org.palladiosimulator.retriever.extraction.commonalities.MethodDescriptor;
 import org.palladiosimulator.retriever.extraction.commonalities.Operation;
 import org.palladiosimulator.retriever.extraction.commonalities.OperationInterface;
 import org.palladiosimulator.retriever.extraction.commonalities.PCMDetectionResult;
+import org.palladiosimulator.retriever.extraction.commonalities.TypeDescriptor;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
 
 // Class to create a pcm instance out of all results from the detector class
@@ -263,24 +263,25 @@ public class PCMInstanceCreator {
                 OperationSignatureCreator signature = this.create.newOperationSignature()
                     .withName(pcmOperationName);
 
-                final IMethodBinding method = operation.getBinding();
+                final MethodDescriptor method = operation.getMethod();
 
                 if (method != null) {
                     // parameter type
-                    ITypeBinding[] parameterTypes = method.getParameterTypes();
-                    String[] parameterNames = method.getParameterNames();
-                    for (int i = 0; i < parameterTypes.length; i++) {
-                        final ITypeBinding parameter = parameterTypes[i];
+                    final List<TypeDescriptor> parameterTypes = method.parameterTypes();
+                    final List<String> parameterNames = method.parameterNames();
+                    for (int i = 0; i < parameterTypes.size(); i++) {
+                        final TypeDescriptor parameter = parameterTypes.get(i);
                         // If a constructor is detected, its parameter names might not be included.
-                        final String parameterName = i < parameterNames.length ? parameterNames[i] : "parameter" + i;
+                        final String parameterName = i < parameterNames.size() ? parameterNames.get(i)
+                                : "parameter" + i;
                         signature = this.handleSignatureDataType(signature, parameterName, parameter,
-                                parameter.getDimensions(), false);
+                                parameter.dimensions(), false);
                     }
 
                     // Return type: Cast Method Return Type to Variable
                     // OrdinaryParameterImpl is sufficient since return types cannot be varargs.
-                    final ITypeBinding returned = method.getReturnType();
-                    signature = this.handleSignatureDataType(signature, "", returned, returned.getDimensions(), true);
+                    final TypeDescriptor returned = method.returnType();
+                    signature = this.handleSignatureDataType(signature, "", returned, returned.dimensions(), true);
                 }
 
                 pcmInterface.withOperationSignature(signature);
@@ -313,11 +314,15 @@ public class PCMInstanceCreator {
         return pcmName + "$" + registry.get(name);
     }
 
-    private Optional<ASTNode> getDeclaration(final IMethodBinding binding) {
+    // Resolves the declaration again, the operations only keep the key of the binding
+    private Optional<ASTNode> getDeclaration(final MethodDescriptor method) {
+        if (method == null) {
+            return Optional.empty();
+        }
         return this.blackboard.getDiscoveredFiles(JAVA_DISCOVERER_ID, CompilationUnit.class)
             .values()
             .stream()
-            .map(unit -> unit.findDeclaringNode(binding))
+            .map(unit -> unit.findDeclaringNode(method.key()))
             .filter(node -> node != null)
             .findAny();
     }
@@ -346,8 +351,7 @@ public class PCMInstanceCreator {
                 .stream()
                 .flatMap(Collection::stream)
                 .forEach(operation -> {
-                    final IMethodBinding method = operation.getBinding();
-                    final Optional<ASTNode> declaration = this.getDeclaration(method);
+                    final Optional<ASTNode> declaration = this.getDeclaration(operation.getMethod());
                     if (declaration.isPresent()) {
                         pcmComp.withServiceEffectSpecification(this.blackboard.getSeffAssociation(declaration.get()));
                     }
@@ -398,8 +402,8 @@ public class PCMInstanceCreator {
         return result;
     }
 
-    private static Primitive convertPrimitive(final ITypeBinding primT) {
-        switch (primT.getQualifiedName()) {
+    private static Primitive convertPrimitive(final TypeDescriptor primT) {
+        switch (primT.qualifiedName()) {
         case "boolean":
             return Primitive.BOOLEAN;
         case "byte":
@@ -424,7 +428,7 @@ public class PCMInstanceCreator {
     }
 
     private OperationSignatureCreator handleSignatureDataType(final OperationSignatureCreator signature,
-            final String varName, final ITypeBinding variable, final int varDimensions, final boolean asReturnType) {
+            final String varName, final TypeDescriptor variable, final int varDimensions, final boolean asReturnType) {
 
         // Parameter is a collection (extends Collection, is an array or a vararg)
         final DataType collectionType = this.handleCollectionType(variable, varDimensions);
@@ -445,7 +449,7 @@ public class PCMInstanceCreator {
         }
 
         // Check if type is void (not part of pcm primitives)
-        if ("void".equals(variable.getQualifiedName()) && asReturnType) {
+        if ("void".equals(variable.qualifiedName()) && asReturnType) {
             if (!this.create.containsDataType("Void")) {
                 this.repository.addToRepository(this.create.newCompositeDataType()
                     .withName("Void"));
@@ -465,7 +469,7 @@ public class PCMInstanceCreator {
         return null;
     }
 
-    private DataType handleCollectionType(final ITypeBinding ref, final int dimensions) {
+    private DataType handleCollectionType(final TypeDescriptor ref, final int dimensions) {
         // Base for the name of the collection data type
         String typeName = wrapName(ref);
 
@@ -473,7 +477,7 @@ public class PCMInstanceCreator {
         String collectionTypeName = null;
 
         if (dimensions != 0) {
-            if (ref.isPrimitive()) {
+            if (ref.primitive()) {
                 typeName = convertPrimitive(ref).name();
             }
             collectionTypeName = typeName;
@@ -483,11 +487,13 @@ public class PCMInstanceCreator {
             }
 
             collectionType = this.createCollectionWithTypeArg(collectionTypeName, ref, dimensions - 1);
-        } else if (isCollectionType(ref) && (ref.getTypeArguments().length > 0)) {
+        } else if (ref.collection() && !ref.typeArguments()
+            .isEmpty()) {
             // TODO: I do not think this works properly for deeper collection types (e.g.
             // List<String>[]), especially the naming.
             typeName = wrapName(ref);
-            final ITypeBinding typeArg = ref.getTypeArguments()[0];
+            final TypeDescriptor typeArg = ref.typeArguments()
+                .get(0);
             final String argumentTypeName = wrapName(typeArg);
             collectionTypeName = typeName + "<" + argumentTypeName + ">";
 
@@ -497,7 +503,7 @@ public class PCMInstanceCreator {
                 return this.existingCollectionDataTypes.get(collectionTypeName);
             }
 
-            collectionType = this.createCollectionWithTypeArg(collectionTypeName, typeArg, typeArg.getDimensions());
+            collectionType = this.createCollectionWithTypeArg(collectionTypeName, typeArg, typeArg.dimensions());
         }
         if (collectionType != null) {
             this.existingCollectionDataTypes.put(collectionTypeName, collectionType);
@@ -506,8 +512,8 @@ public class PCMInstanceCreator {
         return collectionType;
     }
 
-    private CollectionDataType createCollectionWithTypeArg(final String collectionTypeName, final ITypeBinding typeArg,
-            final int typeArgDimensions) {
+    private CollectionDataType createCollectionWithTypeArg(final String collectionTypeName,
+            final TypeDescriptor typeArg, final int typeArgDimensions) {
         // Type argument is primitive
         final Primitive primitiveArg = handlePrimitive(typeArg);
         if (primitiveArg != null) {
@@ -530,40 +536,18 @@ public class PCMInstanceCreator {
         return null;
     }
 
-    private static boolean isCollectionType(final ITypeBinding varClassifier) {
-
-        final List<ITypeBinding> refs = new ArrayList<>();
-
-        if (varClassifier.isClass()) {
-            refs.addAll(List.of(varClassifier.getInterfaces()));
-        } else if (varClassifier.isInterface()) {
-            if ("java.util.Collection".equals(varClassifier.getQualifiedName())) {
-                return true;
-            }
-            refs.addAll(List.of(varClassifier.getInterfaces()));
-        }
-
-        for (final ITypeBinding ref : refs) {
-            if ("java.util.Collection".equals(ref.getQualifiedName())) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private static Primitive handlePrimitive(final ITypeBinding variable) {
-        if (variable.isPrimitive()) {
+    private static Primitive handlePrimitive(final TypeDescriptor variable) {
+        if (variable.primitive()) {
             return convertPrimitive(variable);
         }
         // Parameter is String, which counts for PCM as Primitive
-        if ("java.lang.String".equals(variable.getQualifiedName())) {
+        if ("java.lang.String".equals(variable.qualifiedName())) {
             return Primitive.STRING;
         }
         return null;
     }
 
-    private DataType handleCompositeType(final ITypeBinding ref) {
+    private DataType handleCompositeType(final TypeDescriptor ref) {
         final String classifierName = wrapName(ref);
 
         if (!this.existingDataTypesMap.containsKey(classifierName)) {
@@ -577,8 +561,8 @@ public class PCMInstanceCreator {
         return this.create.fetchOfCompositeDataType(classifierName);
     }
 
-    private static String wrapName(final ITypeBinding name) {
-        return wrapName(name.getQualifiedName());
+    private static String wrapName(final TypeDescriptor name) {
+        return wrapName(name.qualifiedName());
     }
 
     private static String wrapName(final String name) {
@@ -0,0 +1,65 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.Rule;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+
+/**
+ * A rule that is executed in two phases. The global phase is invoked once per run with all
+ * discovered paths, the per-file phase afterwards for each path matching the rule's
+ * {@link FileInterest}. Rules that only work on the whole project do not have to guard themselves
+ * against repeated invocations.
+ */
+public interface PhasedRule extends Rule {
+
+    /**
+     * Whether {@link #processGlobally(RetrieverBlackboard, Set)} has to be invoked. Rules that
+     * implement the global phase have to return true.
+     */
+    default boolean isProcessingGlobally() {
+        return false;
+    }
+
+    /**
+     * Processes the whole project once, before any per-file processing. Only invoked if
+     * {@link #isProcessingGlobally()}.
+     *
+     * @param blackboard
+     *            the Retriever blackboard
+     * @param discoveredPaths
+     *            all paths discovered during this run
+     */
+    default void processGlobally(final RetrieverBlackboard blackboard, final Set<Path> discoveredPaths) {
+    }
+
+    /**
+     * Whether {@link #processRules(RetrieverBlackboard, Path)} has to be invoked for each
+     * discovered path after the global phase.
+     */
+    default boolean isProcessingFiles() {
+        return true;
+    }
+
+    /**
+     * The files {@link #processRules(RetrieverBlackboard, Path)} is invoked for. Other discovered
+     * paths are skipped without invoking the rule.
+     */
+    default FileInterest getFileInterest() {
+        return FileInterest.ALL;
+    }
+
+    @Override
+    default void processRules(final RetrieverBlackboard blackboard, final Path path) {
+    }
+
+    @Override
+    default IBlackboardInteractingJob<RetrieverBlackboard> create(final RetrieverConfiguration configuration,
+            final RetrieverBlackboard blackboard) {
+        return new RuleJob(this, blackboard);
+    }
+}
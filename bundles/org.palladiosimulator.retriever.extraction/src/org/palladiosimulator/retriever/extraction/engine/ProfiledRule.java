@@ -0,0 +1,157 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.Rule;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Decorates a rule so that each of its invocations is recorded by a {@link RuleProfiler}. Rules
+ * that create their own jobs instead of the default one are recorded per job.
+ */
+public class ProfiledRule implements PhasedRule {
+
+    private final Rule rule;
+    private final RuleProfiler profiler;
+
+    public ProfiledRule(final Rule rule, final RuleProfiler profiler) {
+        this.rule = Objects.requireNonNull(rule);
+        this.profiler = Objects.requireNonNull(profiler);
+    }
+
+    @Override
+    public boolean isProcessingGlobally() {
+        if (this.rule instanceof final PhasedRule phasedRule) {
+            return phasedRule.isProcessingGlobally();
+        }
+        return false;
+    }
+
+    @Override
+    public void processGlobally(final RetrieverBlackboard blackboard, final Set<Path> discoveredPaths) {
+        if (this.rule instanceof final PhasedRule phasedRule) {
+            this.profiler.profile(this.getID(), null, () -> phasedRule.processGlobally(blackboard, discoveredPaths));
+        }
+    }
+
+    @Override
+    public boolean isProcessingFiles() {
+        if (this.rule instanceof final PhasedRule phasedRule) {
+            return phasedRule.isProcessingFiles();
+        }
+        return true;
+    }
+
+    @Override
+    public FileInterest getFileInterest() {
+        if (this.rule instanceof final PhasedRule phasedRule) {
+            return phasedRule.getFileInterest();
+        }
+        return FileInterest.ALL;
+    }
+
+    @Override
+    public void processRules(final RetrieverBlackboard blackboard, final Path path) {
+        this.profiler.profile(this.getID(), path, () -> this.rule.processRules(blackboard, path));
+    }
+
+    @Override
+    public IBlackboardInteractingJob<RetrieverBlackboard> create(final RetrieverConfiguration configuration,
+            final RetrieverBlackboard blackboard) {
+        if (this.hasDefaultJob()) {
+            return new RuleJob(this, blackboard);
+        }
+        return new ProfiledJob(this.rule.create(configuration, blackboard));
+    }
+
+    @Override
+    public boolean isBuildRule() {
+        return this.rule.isBuildRule();
+    }
+
+    @Override
+    public String getID() {
+        return this.rule.getID();
+    }
+
+    @Override
+    public String getName() {
+        return this.rule.getName();
+    }
+
+    @Override
+    public Set<String> getConfigurationKeys() {
+        return this.rule.getConfigurationKeys();
+    }
+
+    @Override
+    public Set<String> getRequiredServices() {
+        return this.rule.getRequiredServices();
+    }
+
+    @Override
+    public Set<String> getDependentServices() {
+        return this.rule.getDependentServices();
+    }
+
+    // Whether the rule's job only invokes its phases, so that each invocation can be recorded
+    private boolean hasDefaultJob() {
+        try {
+            final Class<?> declaringClass = this.rule.getClass()
+                .getMethod("create", RetrieverConfiguration.class, RetrieverBlackboard.class)
+                .getDeclaringClass();
+            return declaringClass == Rule.class || declaringClass == PhasedRule.class;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private class ProfiledJob implements IBlackboardInteractingJob<RetrieverBlackboard> {
+        private final IBlackboardInteractingJob<RetrieverBlackboard> job;
+
+        ProfiledJob(final IBlackboardInteractingJob<RetrieverBlackboard> job) {
+            this.job = job;
+        }
+
+        @Override
+        public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+            final Exception[] failure = new Exception[1];
+            ProfiledRule.this.profiler.profile(ProfiledRule.this.getID(), null, () -> {
+                try {
+                    this.job.execute(monitor);
+                } catch (JobFailedException | UserCanceledException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] instanceof final JobFailedException e) {
+                throw e;
+            } else if (failure[0] instanceof final UserCanceledException e) {
+                throw e;
+            }
+        }
+
+        @Override
+        public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+            this.job.cleanup(monitor);
+        }
+
+        @Override
+        public String getName() {
+            return this.job.getName();
+        }
+
+        @Override
+        public void setBlackboard(final RetrieverBlackboard blackboard) {
+            this.job.setBlackboard(blackboard);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Executes a {@link PhasedRule}: its global phase once, then its per-file phase for each
+ * discovered path the rule is interested in.
+ */
+public class RuleJob extends AbstractBlackboardInteractingJob<RetrieverBlackboard> {
+
+    private final PhasedRule rule;
+
+    public RuleJob(final PhasedRule rule, final RetrieverBlackboard blackboard) {
+        super.setBlackboard(Objects.requireNonNull(blackboard));
+        this.rule = Objects.requireNonNull(rule);
+    }
+
+    @Override
+    public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final RetrieverBlackboard blackboard = this.getBlackboard();
+        final Set<Path> discoveredPaths = blackboard.getDiscoveredPaths();
+
+        if (this.rule.isProcessingGlobally()) {
+            this.rule.processGlobally(blackboard, discoveredPaths);
+        }
+
+        if (!this.rule.isProcessingFiles()) {
+            return;
+        }
+        for (final Path path : this.rule.getFileInterest()
+            .select(blackboard, discoveredPaths)) {
+            if (monitor != null && monitor.isCanceled()) {
+                throw new UserCanceledException();
+            }
+            this.rule.processRules(blackboard, path);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return this.rule.getName() + " Job";
+    }
+}
@@ -0,0 +1,222 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records wall time, CPU time and allocated bytes of rule invocations and writes them as a report.
+ * CPU time and allocated bytes are measured on the invoking thread and reported as -1 if the JVM
+ * does not support measuring them.
+ */
+public class RuleProfiler {
+    public static final String JSON_REPORT_NAME = "ruleProfile.json";
+    public static final String CSV_REPORT_NAME = "ruleProfile.csv";
+    public static final int DEFAULT_TOP_FILES = 25;
+
+    // Stands in for the path of invocations not bound to a single file
+    private static final String NO_PATH = "";
+    private static final long UNSUPPORTED = -1;
+
+    private final ThreadMXBean threadBean;
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+    private final ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+
+    public RuleProfiler() {
+        this.threadBean = ManagementFactory.getThreadMXBean();
+        this.cpuTimeSupported = this.threadBean.isCurrentThreadCpuTimeSupported();
+        if (this.cpuTimeSupported && !this.threadBean.isThreadCpuTimeEnabled()) {
+            this.threadBean.setThreadCpuTimeEnabled(true);
+        }
+        this.allocatedBytesSupported = isAllocatedBytesSupported(this.threadBean);
+    }
+
+    /**
+     * Runs the invocation and records its costs for the rule and path.
+     *
+     * @param ruleId
+     *            the ID of the invoked rule
+     * @param path
+     *            the processed path, or {@code null} if the invocation concerns the whole project
+     */
+    public void profile(final String ruleId, final Path path, final Runnable invocation) {
+        final long cpuStart = this.currentCpuTime();
+        final long allocatedStart = this.currentAllocatedBytes();
+        final long wallStart = System.nanoTime();
+        try {
+            invocation.run();
+        } finally {
+            final long wallTime = System.nanoTime() - wallStart;
+            final long cpuTime = this.cpuTimeSupported ? this.currentCpuTime() - cpuStart : UNSUPPORTED;
+            final long allocatedBytes = this.allocatedBytesSupported
+                    ? this.currentAllocatedBytes() - allocatedStart
+                    : UNSUPPORTED;
+            this.samples.add(new Sample(ruleId, path == null ? NO_PATH : path.toString(), wallTime, cpuTime,
+                    allocatedBytes));
+        }
+    }
+
+    public List<Sample> getSamples() {
+        return List.copyOf(this.samples);
+    }
+
+    /**
+     * Sums up the samples per rule, ordered by descending wall time.
+     */
+    public List<Sample> getRuleTotals() {
+        final Map<String, long[]> totals = new LinkedHashMap<>();
+        for (final Sample sample : this.samples) {
+            final long[] total = totals.computeIfAbsent(sample.ruleId(), x -> new long[4]);
+            total[0] += sample.wallTime();
+            total[1] = add(total[1], sample.cpuTime());
+            total[2] = add(total[2], sample.allocatedBytes());
+            total[3]++;
+        }
+        final List<Sample> ruleTotals = new ArrayList<>();
+        for (final Map.Entry<String, long[]> entry : totals.entrySet()) {
+            final long[] total = entry.getValue();
+            ruleTotals.add(new Sample(entry.getKey(), NO_PATH, total[0], total[1], total[2], total[3]));
+        }
+        ruleTotals.sort(Sample.SLOWEST_FIRST);
+        return ruleTotals;
+    }
+
+    /**
+     * Writes the per-rule totals and the slowest files as JSON, and all samples ordered by
+     * descending wall time as CSV, into the folder. Invocations that are not bound to a single file
+     * do not count as files.
+     */
+    public void writeReport(final Path folder, final int topFiles) throws IOException {
+        final List<Sample> sortedSamples = new ArrayList<>(this.samples);
+        sortedSamples.sort(Sample.SLOWEST_FIRST);
+        final List<Sample> slowestFiles = sortedSamples.stream()
+            .filter(sample -> !NO_PATH.equals(sample.path()))
+            .limit(topFiles)
+            .toList();
+
+        Files.createDirectories(folder);
+        try (Writer writer = Files.newBufferedWriter(folder.resolve(JSON_REPORT_NAME), StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"rules\": [");
+            writeJson(writer, this.getRuleTotals());
+            writer.write("],\n  \"slowestFiles\": [");
+            writeJson(writer, slowestFiles);
+            writer.write("]\n}\n");
+        }
+        try (Writer writer = Files.newBufferedWriter(folder.resolve(CSV_REPORT_NAME), StandardCharsets.UTF_8)) {
+            writer.write("rule,path,wallNanos,cpuNanos,allocatedBytes\n");
+            for (final Sample sample : sortedSamples) {
+                writer.write(escapeCsv(sample.ruleId()) + "," + escapeCsv(sample.path()) + "," + sample.wallTime()
+                        + "," + sample.cpuTime() + "," + sample.allocatedBytes() + "\n");
+            }
+        }
+    }
+
+    private long currentCpuTime() {
+        return this.cpuTimeSupported ? this.threadBean.getCurrentThreadCpuTime() : UNSUPPORTED;
+    }
+
+    // Only invoked if the extended bean is available, which the bundle imports optionally
+    private long currentAllocatedBytes() {
+        if (!this.allocatedBytesSupported) {
+            return UNSUPPORTED;
+        }
+        return ((com.sun.management.ThreadMXBean) this.threadBean).getThreadAllocatedBytes(Thread.currentThread()
+            .getId());
+    }
+
+    private static boolean isAllocatedBytesSupported(final ThreadMXBean threadBean) {
+        try {
+            if (!(threadBean instanceof final com.sun.management.ThreadMXBean extendedBean)
+                    || !extendedBean.isThreadAllocatedMemorySupported()) {
+                return false;
+            }
+            if (!extendedBean.isThreadAllocatedMemoryEnabled()) {
+                extendedBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return true;
+        } catch (final LinkageError e) {
+            // The JVM does not provide the extended bean
+            return false;
+        }
+    }
+
+    private static long add(final long total, final long value) {
+        if (total == UNSUPPORTED || value == UNSUPPORTED) {
+            return UNSUPPORTED;
+        }
+        return total + value;
+    }
+
+    private static void writeJson(final Writer writer, final List<Sample> samples) throws IOException {
+        String separator = "\n    ";
+        for (final Sample sample : samples) {
+            writer.write(separator);
+            writer.write("{\"rule\": " + escapeJson(sample.ruleId()));
+            if (!sample.path()
+                .isEmpty()) {
+                writer.write(", \"path\": " + escapeJson(sample.path()));
+            }
+            writer.write(", \"invocations\": " + sample.invocations() + ", \"wallNanos\": " + sample.wallTime()
+                    + ", \"cpuNanos\": " + sample.cpuTime() + ", \"allocatedBytes\": " + sample.allocatedBytes()
+                    + "}");
+            separator = ",\n    ";
+        }
+        if (!samples.isEmpty()) {
+            writer.write("\n  ");
+        }
+    }
+
+    private static String escapeJson(final String value) {
+        final StringBuilder escaped = new StringBuilder(value.length() + 2);
+        escaped.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            if (character == '"' || character == '\\') {
+                escaped.append('\\')
+                    .append(character);
+            } else if (character < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) character));
+            } else {
+                escaped.append(character);
+            }
+        }
+        return escaped.append('"')
+            .toString();
+    }
+
+    private static String escapeCsv(final String value) {
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * The costs of one or more invocations of a rule. The path is empty for invocations that are
+     * not bound to a single file and for totals.
+     */
+    public record Sample(String ruleId, String path, long wallTime, long cpuTime, long allocatedBytes,
+            long invocations) {
+
+        private static final Comparator<Sample> SLOWEST_FIRST = Comparator.comparingLong(Sample::wallTime)
+            .reversed()
+            .thenComparing(Sample::ruleId)
+            .thenComparing(Sample::path);
+
+        public Sample(final String ruleId, final String path, final long wallTime, final long cpuTime,
+                final long allocatedBytes) {
+            this(ruleId, path, wallTime, cpuTime, allocatedBytes, 1);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends byte arrays to segment files. Stored arrays are never moved or freed, the segments are
+ * deleted at once when the store is closed. The segments are not memory-mapped: a mapping can only
+ * be released by the garbage collector, and files that are still mapped cannot be deleted on every
+ * platform.
+ */
+final class SegmentStore {
+    static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<RandomAccessFile> segments;
+    private final List<Path> segmentFiles;
+    private int position;
+    private boolean closed;
+
+    SegmentStore(final Path directory, final int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.segments = new ArrayList<>();
+        this.segmentFiles = new ArrayList<>();
+    }
+
+    synchronized Location append(final byte[] bytes) throws IOException {
+        this.checkOpen();
+        if (this.segments.isEmpty() || ((this.segmentSize - this.position) < bytes.length)) {
+            // Arrays larger than a segment get a segment of their own
+            this.open();
+        }
+        final int segment = this.segments.size() - 1;
+        final RandomAccessFile file = this.segments.get(segment);
+        file.seek(this.position);
+        file.write(bytes);
+        final Location location = new Location(segment, this.position, bytes.length);
+        this.position += bytes.length;
+        return location;
+    }
+
+    synchronized byte[] read(final Location location) throws IOException {
+        this.checkOpen();
+        final RandomAccessFile file = this.segments.get(location.segment());
+        final byte[] bytes = new byte[location.length()];
+        file.seek(location.offset());
+        file.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Closes and deletes the segment files. Locations handed out before must not be read anymore.
+     * Closing a closed store does nothing.
+     */
+    synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        IOException failure = null;
+        for (final RandomAccessFile segment : this.segments) {
+            try {
+                segment.close();
+            } catch (final IOException e) {
+                failure = e;
+            }
+        }
+        this.segments.clear();
+        for (final Path file : this.segmentFiles) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                failure = e;
+            }
+        }
+        this.segmentFiles.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("The segment store in " + this.directory + " is closed");
+        }
+    }
+
+    private void open() throws IOException {
+        final Path file = Files.createFile(this.directory.resolve("segment-" + this.segmentFiles.size()));
+        this.segmentFiles.add(file);
+        this.segments.add(new RandomAccessFile(file.toFile(), "rw"));
+        this.position = 0;
+    }
+
+    record Location(int segment, int offset, int length) {
+    }
+}
@@ -0,0 +1,106 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Converts discovered files to bytes and back, so that they can be spilled to disk.
+ *
+ * @param <T>
+ *            the type of the discovered files
+ */
+public interface SpillCodec<T> {
+
+    byte[] encode(T value) throws IOException;
+
+    T decode(byte[] bytes) throws IOException;
+
+    /**
+     * Derives a codec for another type that can be converted to and from the type of this codec.
+     */
+    default <U> SpillCodec<U> map(final Function<U, T> to, final Function<T, U> from) {
+        final SpillCodec<T> codec = this;
+        return new SpillCodec<>() {
+            @Override
+            public byte[] encode(final U value) throws IOException {
+                return codec.encode(to.apply(value));
+            }
+
+            @Override
+            public U decode(final byte[] bytes) throws IOException {
+                return from.apply(codec.decode(bytes));
+            }
+        };
+    }
+
+    static SpillCodec<String> utf8() {
+        return new SpillCodec<>() {
+            @Override
+            public byte[] encode(final String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(final byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * A codec using Java serialization. Files that are not serializable fail to encode.
+     *
+     * @param classLoader
+     *            resolves the classes of decoded files, it has to see the bundle that parsed them
+     */
+    static <T> SpillCodec<T> serializing(final ClassLoader classLoader) {
+        return new SpillCodec<>() {
+            @Override
+            public byte[] encode(final T value) throws IOException {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                    output.writeObject(value);
+                }
+                return bytes.toByteArray();
+            }
+
+            @Override
+            public T decode(final byte[] bytes) throws IOException {
+                try (ObjectInputStream input = new BundleObjectInputStream(new ByteArrayInputStream(bytes),
+                        classLoader)) {
+                    @SuppressWarnings("unchecked")
+                    final T value = (T) input.readObject();
+                    return value;
+                } catch (final ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+    }
+
+    final class BundleObjectInputStream extends ObjectInputStream {
+        private final ClassLoader classLoader;
+
+        private BundleObjectInputStream(final InputStream input, final ClassLoader classLoader) throws IOException {
+            super(input);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass description)
+                throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(description.getName(), false, this.classLoader);
+            } catch (final ClassNotFoundException e) {
+                return super.resolveClass(description);
+            }
+        }
+    }
+}
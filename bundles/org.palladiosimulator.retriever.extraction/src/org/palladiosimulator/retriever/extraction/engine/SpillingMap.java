@@ -0,0 +1,197 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Discovered files that are kept on disk instead of on the heap. Each file is encoded once when it
+ * is put and decoded again whenever it is read, except for the most recently used ones, which are
+ * cached. Files that cannot be encoded stay on the heap.
+ *
+ * @param <T>
+ *            the type of the discovered files
+ */
+public final class SpillingMap<T> extends AbstractMap<Path, T> {
+    private static final Logger LOG = Logger.getLogger(SpillingMap.class);
+
+    private final SegmentStore store;
+    private final SpillCodec<T> codec;
+    private final Map<Path, SegmentStore.Location> locations;
+    private final Map<Path, T> heapFiles;
+    private final Map<Path, T> cache;
+    private long hits;
+    private long misses;
+
+    SpillingMap(final SegmentStore store, final SpillCodec<T> codec, final int cacheSize) {
+        this.store = Objects.requireNonNull(store);
+        this.codec = Objects.requireNonNull(codec);
+        this.locations = new LinkedHashMap<>();
+        this.heapFiles = new HashMap<>();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Path, T> eldest) {
+                return this.size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized T put(final Path path, final T file) {
+        final T previous = this.get(path);
+        this.cache.remove(path);
+        this.heapFiles.remove(path);
+        try {
+            this.locations.put(path, (file == null) ? null : this.store.append(this.codec.encode(file)));
+            this.cache.put(path, file);
+        } catch (final IOException e) {
+            LOG.warn("Could not spill " + path + ", keeping it on the heap", e);
+            this.locations.put(path, null);
+            this.heapFiles.put(path, file);
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized T get(final Object path) {
+        if (!this.locations.containsKey(path)) {
+            return null;
+        }
+        final T cached = this.cache.get(path);
+        if (cached != null) {
+            this.hits++;
+            return cached;
+        }
+        final SegmentStore.Location location = this.locations.get(path);
+        if (location == null) {
+            return this.heapFiles.get(path);
+        }
+        this.misses++;
+        try {
+            final T file = this.codec.decode(this.store.read(location));
+            this.cache.put((Path) path, file);
+            return file;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not read spilled file " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized boolean containsKey(final Object path) {
+        return this.locations.containsKey(path);
+    }
+
+    @Override
+    public synchronized T remove(final Object path) {
+        final T previous = this.get(path);
+        this.locations.remove(path);
+        this.heapFiles.remove(path);
+        this.cache.remove(path);
+        return previous;
+    }
+
+    @Override
+    public synchronized int size() {
+        return this.locations.size();
+    }
+
+    /**
+     * Iterates over a snapshot of the paths, files are only decoded when their value is read.
+     */
+    @Override
+    public Set<Map.Entry<Path, T>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Path, T>> iterator() {
+                final Iterator<Path> paths;
+                synchronized (SpillingMap.this) {
+                    paths = List.copyOf(SpillingMap.this.locations.keySet())
+                        .iterator();
+                }
+                return new Iterator<>() {
+                    private Path current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return paths.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<Path, T> next() {
+                        this.current = paths.next();
+                        return new SpilledEntry(this.current);
+                    }
+
+                    @Override
+                    public void remove() {
+                        SpillingMap.this.remove(this.current);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return SpillingMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * The number of reads that were served from the cache.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * The number of reads that had to decode the file from disk.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    private final class SpilledEntry implements Map.Entry<Path, T> {
+        private final Path path;
+
+        private SpilledEntry(final Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public Path getKey() {
+            return this.path;
+        }
+
+        @Override
+        public T getValue() {
+            return SpillingMap.this.get(this.path);
+        }
+
+        @Override
+        public T setValue(final T value) {
+            return SpillingMap.this.put(this.path, value);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return (other instanceof final Map.Entry<?, ?> entry) && this.path.equals(entry.getKey())
+                    && Objects.equals(this.getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.path.hashCode() ^ Objects.hashCode(this.getValue());
+        }
+    }
+}
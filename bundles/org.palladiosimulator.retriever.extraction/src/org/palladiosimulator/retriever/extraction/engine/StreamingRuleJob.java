@@ -0,0 +1,95 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.retriever.services.Rule;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Executes the per-file phase of a {@link PhasedRule} on the files of a {@link DiscoveryStream}
+ * while they are still being discovered. After the end of the stream, the rule processes the files
+ * of its interest that it has not seen yet, e.g. those of discoverers that do not stream or those
+ * dropped by an overflowed subscription.
+ */
+public class StreamingRuleJob extends AbstractBlackboardInteractingJob<RetrieverBlackboard> {
+
+    private final PhasedRule rule;
+    private final DiscoveryStream.Subscription subscription;
+
+    public StreamingRuleJob(final PhasedRule rule, final RetrieverBlackboard blackboard,
+            final DiscoveryStream.Subscription subscription) {
+        super.setBlackboard(Objects.requireNonNull(blackboard));
+        this.rule = Objects.requireNonNull(rule);
+        this.subscription = Objects.requireNonNull(subscription);
+    }
+
+    /**
+     * Whether the rule can process files as they are discovered. That is the case for non-build
+     * rules that only process the files of a single discoverer and have no global phase, which
+     * would need all discovered paths.
+     */
+    public static boolean isStreamable(final Rule rule) {
+        return (rule instanceof final PhasedRule phasedRule) && !rule.isBuildRule()
+                && phasedRule.isProcessingFiles() && !phasedRule.isProcessingGlobally()
+                && (phasedRule.getFileInterest()
+                    .getDiscovererID() != null);
+    }
+
+    @Override
+    public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final RetrieverBlackboard blackboard = this.getBlackboard();
+        final FileInterest interest = this.rule.getFileInterest();
+        final Set<Path> processedPaths = new HashSet<>();
+
+        this.subscription.activate();
+        try {
+            Path path = this.subscription.take();
+            while (path != null) {
+                checkCanceled(monitor);
+                if (interest.selects(blackboard, path) && processedPaths.add(path)) {
+                    this.rule.processRules(blackboard, path);
+                }
+                path = this.subscription.take();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new UserCanceledException();
+        }
+        if (this.subscription.isOverflowed()) {
+            this.logger.warn("\"" + this.getName() + "\" could not buffer the files published before it started,"
+                    + " processing them after discovery instead. Consider a larger stream capacity.");
+        }
+
+        for (final Path path : interest.select(blackboard, blackboard.getDiscoveredPaths())) {
+            if (processedPaths.add(path)) {
+                checkCanceled(monitor);
+                this.rule.processRules(blackboard, path);
+            }
+        }
+    }
+
+    private static void checkCanceled(final IProgressMonitor monitor) throws UserCanceledException {
+        if (monitor != null && monitor.isCanceled()) {
+            throw new UserCanceledException();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return this.rule.getName() + " Streaming Job";
+    }
+}
@@ -1,9 +1,15 @@
 package org.palladiosimulator.retriever.mocore.discovery;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.palladiosimulator.pcm.core.composition.AssemblyConnector;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
@@ -12,6 +18,7 @@ import org.palladiosimulator.pcm.core.composition.ProvidedDelegationConnector;
 import org.palladiosimulator.pcm.core.composition.RequiredDelegationConnector;
 import org.palladiosimulator.pcm.repository.BasicComponent;
 import org.palladiosimulator.pcm.repository.CompositeComponent;
+import org.palladiosimulator.pcm.repository.OperationInterface;
 import org.palladiosimulator.pcm.repository.OperationProvidedRole;
 import org.palladiosimulator.pcm.repository.OperationRequiredRole;
 import org.palladiosimulator.pcm.repository.OperationSignature;
@@ -37,247 +44,244 @@ import org.palladiosimulator.retriever.mocore.surrogate.relation.ServiceEffectSp
 import org.palladiosimulator.retriever.mocore.surrogate.relation.SignatureProvisionRelation;
 
 import tools.mdsd.mocore.framework.discovery.Discoverer;
+import tools.mdsd.mocore.framework.surrogate.Replaceable;
 
 /**
  * A decompositor able to extract model-elements and model-relations from a {@link Repository PCM
  * repository}.
  */
 public class RepositoryDecompositor implements Decompositor<Repository> {
+    // The discovery types in the order of the discoverers returned by decompose
+    private static final List<Class<? extends Replaceable>> DISCOVERY_TYPES = List.of(AtomicComponent.class,
+            Composite.class, CompositionRelation.class, SignatureProvisionRelation.class,
+            InterfaceProvisionRelation.class, InterfaceRequirementRelation.class,
+            ServiceEffectSpecificationRelation.class, ComponentAssemblyRelation.class,
+            CompositeProvisionDelegationRelation.class, CompositeRequirementDelegationRelation.class);
+
     @Override
     public Collection<Discoverer<?>> decompose(final Repository repository) {
-        // Fetch components, interface provisions and requirements, signatures, and service effect
-        // specifications
-        final Set<AtomicComponent> atomicComponents = new HashSet<>();
-        final Set<Composite> composites = new HashSet<>();
-        final Set<CompositionRelation> compositions = new HashSet<>();
-        final Set<InterfaceProvisionRelation> interfaceProvisions = new HashSet<>();
-        final Set<InterfaceRequirementRelation> interfaceRequirements = new HashSet<>();
-        final Set<SignatureProvisionRelation> signatureProvisions = new HashSet<>();
-        final Set<ServiceEffectSpecificationRelation> seffProvisions = new HashSet<>();
-        final Set<ComponentAssemblyRelation> componentAssemblies = new HashSet<>();
-        final Set<CompositeProvisionDelegationRelation> provisionDelegations = new HashSet<>();
-        final Set<CompositeRequirementDelegationRelation> requirementDelegations = new HashSet<>();
-
-        for (final RepositoryComponent repositoryComponent : repository.getComponents__Repository()) {
-            Component<?> component;
-            if (repositoryComponent instanceof BasicComponent) {
-                final AtomicComponent atomicComponent = new AtomicComponent((BasicComponent) repositoryComponent,
-                        false);
-                atomicComponents.add(atomicComponent);
-                component = atomicComponent;
+        final Map<Class<?>, Set<Replaceable>> discoveries = new LinkedHashMap<>();
+        DISCOVERY_TYPES.forEach(type -> discoveries.put(type, new LinkedHashSet<>()));
+        this.stream(repository)
+            .forEachOrdered(discovery -> discoveries.get(discovery.getClass())
+                .add(discovery));
 
-                // Basic component specific behavior
-                // Fetch service effect specifications from basic component
-                for (final org.palladiosimulator.pcm.seff.ServiceEffectSpecification seff : atomicComponent.getValue()
-                    .getServiceEffectSpecifications__BasicComponent()) {
-                    if (seff instanceof ResourceDemandingSEFF) {
-                        if (seff.getDescribedService__SEFF() instanceof OperationSignature) {
-                            final ServiceEffectSpecification seffWrapper = new ServiceEffectSpecification(
-                                    (ResourceDemandingSEFF) seff, false);
-                            final OperationSignature operationSignature = (OperationSignature) seff
-                                .getDescribedService__SEFF();
-                            final Signature signature = new Signature(operationSignature, false);
-                            final Interface interFace = new Interface(
-                                    operationSignature.getInterface__OperationSignature(), false);
-                            final SignatureProvisionRelation signatureProvision = new SignatureProvisionRelation(
-                                    signature, interFace, false);
-                            final InterfaceProvisionRelation interfaceProvision = new InterfaceProvisionRelation(
-                                    component, interFace, false);
-                            final ComponentSignatureProvisionRelation componentSignatureProvision = new ComponentSignatureProvisionRelation(
-                                    interfaceProvision, signatureProvision, false);
-                            seffProvisions.add(new ServiceEffectSpecificationRelation(componentSignatureProvision,
-                                    seffWrapper, false));
-                        }
-                    }
-                }
-            } else if (repositoryComponent instanceof CompositeComponent) {
-                final Composite composite = new Composite((CompositeComponent) repositoryComponent, false);
-                composites.add(composite);
-                component = composite;
+        final List<Discoverer<?>> discoverers = new ArrayList<>();
+        for (final Class<? extends Replaceable> type : DISCOVERY_TYPES) {
+            discoverers.add(createDiscoverer(type, discoveries.get(type)));
+        }
+        return discoverers;
+    }
 
-                // Composite specific behavior
-                // Create composition relations for each composite
-                for (final AssemblyContext assemblyContext : composite.getValue()
-                    .getAssemblyContexts__ComposedStructure()) {
-                    final RepositoryComponent encapsulatedComponent = assemblyContext
-                        .getEncapsulatedComponent__AssemblyContext();
+    /**
+     * Extracts the model-elements and model-relations of a repository lazily. All components come
+     * first, so that relations between components do not imply placeholders for components that
+     * are discovered later. The relations follow one component at a time. Each discovery is
+     * contained once, even if several components share it, e.g. the signature provisions of a
+     * common interface. Wrappers are shared between all discoveries of the stream, so every PCM
+     * element is wrapped exactly once.
+     *
+     * @param repository
+     *            the repository to decompose
+     * @return an ordered stream of the extracted elements and relations
+     */
+    public Stream<Replaceable> stream(final Repository repository) {
+        final Decomposition decomposition = new Decomposition();
+        final List<RepositoryComponent> components = repository.getComponents__Repository();
+        final Stream<Replaceable> elements = components.stream()
+            .<Replaceable> map(decomposition::getGenericWrapperFor)
+            .filter(Objects::nonNull);
+        final Stream<Replaceable> relations = components.stream()
+            .flatMap(component -> decomposition.decomposeRelations(component)
+                .stream());
+        // Remembers the discoveries streamed so far, which is at most the decomposition that
+        // decompose collects
+        return Stream.concat(elements, relations)
+            .distinct();
+    }
 
-                    // Create appropriate wrapper for child component
-                    final Component<?> childWrapper = this.getGenericWrapperFor(encapsulatedComponent);
-                    if (childWrapper == null) {
-                        // Ignore child that cannot be wrapped
-                        continue;
-                    }
+    @SuppressWarnings("unchecked")
+    private static <T extends Replaceable> Discoverer<T> createDiscoverer(final Class<T> type,
+            final Set<Replaceable> discoveries) {
+        return new SimpleDiscoverer<>((Set<T>) (Set<?>) discoveries, type);
+    }
 
-                    // Create composition for composite & child
-                    final CompositionRelation composition = new CompositionRelation(composite, childWrapper, false);
-                    compositions.add(composition);
-                }
+    /**
+     * The state of a single decomposition. Wrappers are cached by the identity of the wrapped EMF
+     * object, because EMF objects do not override equals.
+     */
+    private static final class Decomposition {
+        private final Map<Object, Replaceable> wrappers = new IdentityHashMap<>();
 
-                // Process connectors of composite component
-                for (final Connector connector : composite.getValue()
-                    .getConnectors__ComposedStructure()) {
-                    if (connector instanceof AssemblyConnector) {
-                        final AssemblyConnector assemblyConnector = (AssemblyConnector) connector;
+        private List<Replaceable> decomposeRelations(final RepositoryComponent repositoryComponent) {
+            final List<Replaceable> discoveries = new ArrayList<>();
+            final Component<?> component = this.getGenericWrapperFor(repositoryComponent);
+            if (component == null) {
+                // Ignore repository components that are neither basic nor composite
+                return discoveries;
+            }
 
-                        // Wrap provider and consumer component
-                        final Component<?> provider = this
-                            .getGenericWrapperFor(assemblyConnector.getProvidingAssemblyContext_AssemblyConnector()
-                                .getEncapsulatedComponent__AssemblyContext());
-                        final Component<?> consumer = this
-                            .getGenericWrapperFor(assemblyConnector.getRequiringAssemblyContext_AssemblyConnector()
-                                .getEncapsulatedComponent__AssemblyContext());
+            if (component instanceof final AtomicComponent atomicComponent) {
+                this.decomposeAtomicComponent(atomicComponent, discoveries);
+            } else if (component instanceof final Composite composite) {
+                this.decomposeComposite(composite, discoveries);
+            }
 
-                        // Wrap role interfaces
-                        final Interface providedInterface = new Interface(
-                                assemblyConnector.getProvidedRole_AssemblyConnector()
-                                    .getProvidedInterface__OperationProvidedRole(),
-                                false);
-                        final Interface requiredInterface = new Interface(
-                                assemblyConnector.getRequiredRole_AssemblyConnector()
-                                    .getRequiredInterface__OperationRequiredRole(),
-                                false);
+            // Behavior for generic repository components
+            // Transform provided roles into interface provision relations
+            for (final ProvidedRole providedRole : repositoryComponent.getProvidedRoles_InterfaceProvidingEntity()) {
+                if (providedRole instanceof final OperationProvidedRole operationProvidedRole) {
+                    final Interface providerInterface = this
+                        .getInterface(operationProvidedRole.getProvidedInterface__OperationProvidedRole());
+                    discoveries.add(new InterfaceProvisionRelation(component, providerInterface, false));
+                    this.addSignatureProvisions(providerInterface, discoveries);
+                }
+            }
 
-                        // Create interface relations & component assembly relation
-                        final InterfaceProvisionRelation provisionRelation = new InterfaceProvisionRelation(provider,
-                                providedInterface, false);
-                        final InterfaceRequirementRelation requirementRelation = new InterfaceRequirementRelation(
-                                consumer, requiredInterface, false);
-                        final ComponentAssemblyRelation assemblyRelation = new ComponentAssemblyRelation(
-                                provisionRelation, requirementRelation, false);
+            // Transform required roles into interface requirement relations
+            for (final RequiredRole requiredRole : repositoryComponent.getRequiredRoles_InterfaceRequiringEntity()) {
+                if (requiredRole instanceof final OperationRequiredRole operationRequiredRole) {
+                    final Interface consumerInterface = this
+                        .getInterface(operationRequiredRole.getRequiredInterface__OperationRequiredRole());
+                    discoveries.add(new InterfaceRequirementRelation(component, consumerInterface, false));
+                    this.addSignatureProvisions(consumerInterface, discoveries);
+                }
+            }
+            return discoveries;
+        }
 
-                        // Add assembly to discoverer
-                        componentAssemblies.add(assemblyRelation);
-                    } else if (connector instanceof ProvidedDelegationConnector) {
-                        final ProvidedDelegationConnector providedDelegationConnector = (ProvidedDelegationConnector) connector;
+        private void decomposeAtomicComponent(final AtomicComponent component, final List<Replaceable> discoveries) {
+            // Fetch service effect specifications from basic component
+            for (final org.palladiosimulator.pcm.seff.ServiceEffectSpecification seff : component.getValue()
+                .getServiceEffectSpecifications__BasicComponent()) {
+                if (seff instanceof final ResourceDemandingSEFF resourceDemandingSeff
+                        && seff.getDescribedService__SEFF() instanceof final OperationSignature operationSignature) {
+                    final ServiceEffectSpecification seffWrapper = new ServiceEffectSpecification(
+                            resourceDemandingSeff, false);
+                    final Interface interFace = this
+                        .getInterface(operationSignature.getInterface__OperationSignature());
+                    final SignatureProvisionRelation signatureProvision = new SignatureProvisionRelation(
+                            this.getSignature(operationSignature), interFace, false);
+                    final InterfaceProvisionRelation interfaceProvision = new InterfaceProvisionRelation(component,
+                            interFace, false);
+                    final ComponentSignatureProvisionRelation componentSignatureProvision = new ComponentSignatureProvisionRelation(
+                            interfaceProvision, signatureProvision, false);
+                    discoveries.add(
+                            new ServiceEffectSpecificationRelation(componentSignatureProvision, seffWrapper, false));
+                }
+            }
+        }
 
-                        // Wrap the providing component & the inner and outer role's interfaces
-                        final Component<?> connectorComponent = this.getGenericWrapperFor(
-                                providedDelegationConnector.getAssemblyContext_ProvidedDelegationConnector()
-                                    .getEncapsulatedComponent__AssemblyContext());
-                        final Interface innerInterface = new Interface(
-                                providedDelegationConnector.getInnerProvidedRole_ProvidedDelegationConnector()
-                                    .getProvidedInterface__OperationProvidedRole(),
-                                false);
-                        final Interface outerInterface = new Interface(
-                                providedDelegationConnector.getOuterProvidedRole_ProvidedDelegationConnector()
-                                    .getProvidedInterface__OperationProvidedRole(),
-                                false);
+        private void decomposeComposite(final Composite composite, final List<Replaceable> discoveries) {
+            // Create composition relations for each composite
+            for (final AssemblyContext assemblyContext : composite.getValue()
+                .getAssemblyContexts__ComposedStructure()) {
+                // Create appropriate wrapper for child component
+                final Component<?> childWrapper = this
+                    .getGenericWrapperFor(assemblyContext.getEncapsulatedComponent__AssemblyContext());
+                if (childWrapper == null) {
+                    // Ignore child that cannot be wrapped
+                    continue;
+                }
+                discoveries.add(new CompositionRelation(composite, childWrapper, false));
+            }
 
-                        // Create interface relations
-                        final InterfaceProvisionRelation innerInterfaceRelation = new InterfaceProvisionRelation(
-                                connectorComponent, innerInterface, false);
-                        final InterfaceProvisionRelation outerInterfaceRelation = new InterfaceProvisionRelation(
-                                composite, outerInterface, false);
-                        final CompositeProvisionDelegationRelation delegationRelation = new CompositeProvisionDelegationRelation(
-                                outerInterfaceRelation, innerInterfaceRelation, false);
+            // Process connectors of composite component
+            for (final Connector connector : composite.getValue()
+                .getConnectors__ComposedStructure()) {
+                if (connector instanceof final AssemblyConnector assemblyConnector) {
+                    // Wrap provider and consumer component
+                    final Component<?> provider = this
+                        .getGenericWrapperFor(assemblyConnector.getProvidingAssemblyContext_AssemblyConnector()
+                            .getEncapsulatedComponent__AssemblyContext());
+                    final Component<?> consumer = this
+                        .getGenericWrapperFor(assemblyConnector.getRequiringAssemblyContext_AssemblyConnector()
+                            .getEncapsulatedComponent__AssemblyContext());
 
-                        // Add delegation relation to discoverer
-                        provisionDelegations.add(delegationRelation);
-                    } else if (connector instanceof RequiredDelegationConnector) {
-                        final RequiredDelegationConnector requiredDelegationConnector = (RequiredDelegationConnector) connector;
+                    // Wrap role interfaces
+                    final Interface providedInterface = this.getInterface(assemblyConnector
+                        .getProvidedRole_AssemblyConnector()
+                        .getProvidedInterface__OperationProvidedRole());
+                    final Interface requiredInterface = this.getInterface(assemblyConnector
+                        .getRequiredRole_AssemblyConnector()
+                        .getRequiredInterface__OperationRequiredRole());
 
-                        // Wrap the requiring component & the inner and outer role's interfaces
-                        final Component<?> connectorComponent = this.getGenericWrapperFor(
-                                requiredDelegationConnector.getAssemblyContext_RequiredDelegationConnector()
-                                    .getEncapsulatedComponent__AssemblyContext());
-                        final Interface innerInterface = new Interface(
-                                requiredDelegationConnector.getInnerRequiredRole_RequiredDelegationConnector()
-                                    .getRequiredInterface__OperationRequiredRole(),
-                                false);
-                        final Interface outerInterface = new Interface(
-                                requiredDelegationConnector.getOuterRequiredRole_RequiredDelegationConnector()
-                                    .getRequiredInterface__OperationRequiredRole(),
-                                false);
+                    // Create interface relations & component assembly relation
+                    final InterfaceProvisionRelation provisionRelation = new InterfaceProvisionRelation(provider,
+                            providedInterface, false);
+                    final InterfaceRequirementRelation requirementRelation = new InterfaceRequirementRelation(
+                            consumer, requiredInterface, false);
+                    discoveries.add(new ComponentAssemblyRelation(provisionRelation, requirementRelation, false));
+                } else if (connector instanceof final ProvidedDelegationConnector providedDelegationConnector) {
+                    // Wrap the providing component & the inner and outer role's interfaces
+                    final Component<?> connectorComponent = this.getGenericWrapperFor(
+                            providedDelegationConnector.getAssemblyContext_ProvidedDelegationConnector()
+                                .getEncapsulatedComponent__AssemblyContext());
+                    final Interface innerInterface = this.getInterface(
+                            providedDelegationConnector.getInnerProvidedRole_ProvidedDelegationConnector()
+                                .getProvidedInterface__OperationProvidedRole());
+                    final Interface outerInterface = this.getInterface(
+                            providedDelegationConnector.getOuterProvidedRole_ProvidedDelegationConnector()
+                                .getProvidedInterface__OperationProvidedRole());
 
-                        // Create interface relations & delegation relation
-                        final InterfaceRequirementRelation innerInterfaceRelation = new InterfaceRequirementRelation(
-                                connectorComponent, innerInterface, false);
-                        final InterfaceRequirementRelation outerInterfaceRelation = new InterfaceRequirementRelation(
-                                composite, outerInterface, false);
-                        final CompositeRequirementDelegationRelation delegationRelation = new CompositeRequirementDelegationRelation(
-                                outerInterfaceRelation, innerInterfaceRelation, false);
+                    // Create interface relations & delegation relation
+                    final InterfaceProvisionRelation innerInterfaceRelation = new InterfaceProvisionRelation(
+                            connectorComponent, innerInterface, false);
+                    final InterfaceProvisionRelation outerInterfaceRelation = new InterfaceProvisionRelation(
+                            composite, outerInterface, false);
+                    discoveries.add(new CompositeProvisionDelegationRelation(outerInterfaceRelation,
+                            innerInterfaceRelation, false));
+                } else if (connector instanceof final RequiredDelegationConnector requiredDelegationConnector) {
+                    // Wrap the requiring component & the inner and outer role's interfaces
+                    final Component<?> connectorComponent = this.getGenericWrapperFor(
+                            requiredDelegationConnector.getAssemblyContext_RequiredDelegationConnector()
+                                .getEncapsulatedComponent__AssemblyContext());
+                    final Interface innerInterface = this.getInterface(
+                            requiredDelegationConnector.getInnerRequiredRole_RequiredDelegationConnector()
+                                .getRequiredInterface__OperationRequiredRole());
+                    final Interface outerInterface = this.getInterface(
+                            requiredDelegationConnector.getOuterRequiredRole_RequiredDelegationConnector()
+                                .getRequiredInterface__OperationRequiredRole());
 
-                        // Add delegation relation to discoverer
-                        requirementDelegations.add(delegationRelation);
-                    }
+                    // Create interface relations & delegation relation
+                    final InterfaceRequirementRelation innerInterfaceRelation = new InterfaceRequirementRelation(
+                            connectorComponent, innerInterface, false);
+                    final InterfaceRequirementRelation outerInterfaceRelation = new InterfaceRequirementRelation(
+                            composite, outerInterface, false);
+                    discoveries.add(new CompositeRequirementDelegationRelation(outerInterfaceRelation,
+                            innerInterfaceRelation, false));
                 }
-            } else {
-                // Ignore repository components that are neither basic nor composite
-                continue;
             }
+        }
 
-            // Behavior for generic repository components
-            // Transform provided roles into interface provision relations
-            for (final ProvidedRole providedRole : repositoryComponent.getProvidedRoles_InterfaceProvidingEntity()) {
-                if (providedRole instanceof OperationProvidedRole) {
-                    final OperationProvidedRole operationProvidedRole = (OperationProvidedRole) providedRole;
-                    final Interface providerInterface = new Interface(
-                            operationProvidedRole.getProvidedInterface__OperationProvidedRole(), false);
-                    interfaceProvisions.add(new InterfaceProvisionRelation(component, providerInterface, false));
-
-                    // Create signature provisions for provider interface
-                    for (final OperationSignature operationSignature : providerInterface.getValue()
-                        .getSignatures__OperationInterface()) {
-                        final Signature signatureWrapper = new Signature(operationSignature, false);
-                        signatureProvisions
-                            .add(new SignatureProvisionRelation(signatureWrapper, providerInterface, false));
-                    }
-                }
+        private void addSignatureProvisions(final Interface interFace, final List<Replaceable> discoveries) {
+            for (final OperationSignature operationSignature : interFace.getValue()
+                .getSignatures__OperationInterface()) {
+                discoveries
+                    .add(new SignatureProvisionRelation(this.getSignature(operationSignature), interFace, false));
             }
+        }
 
-            // Transform required roles into interface requirement relations
-            for (final RequiredRole requiredRole : repositoryComponent.getRequiredRoles_InterfaceRequiringEntity()) {
-                if (requiredRole instanceof OperationRequiredRole) {
-                    final OperationRequiredRole operationRequiredRole = (OperationRequiredRole) requiredRole;
-                    final Interface consumerInterface = new Interface(
-                            operationRequiredRole.getRequiredInterface__OperationRequiredRole(), false);
-                    interfaceRequirements.add(new InterfaceRequirementRelation(component, consumerInterface, false));
-
-                    // Create signature provisions for consumer interface
-                    for (final OperationSignature operationSignature : consumerInterface.getValue()
-                        .getSignatures__OperationInterface()) {
-                        final Signature signatureWrapper = new Signature(operationSignature, false);
-                        signatureProvisions
-                            .add(new SignatureProvisionRelation(signatureWrapper, consumerInterface, false));
-                    }
-                }
+        private Component<?> getGenericWrapperFor(final RepositoryComponent repositoryComponent) {
+            // Ignore components that are neither basic nor composite
+            if (repositoryComponent instanceof final BasicComponent basicComponent) {
+                return (Component<?>) this.wrappers.computeIfAbsent(basicComponent,
+                        key -> new AtomicComponent(basicComponent, false));
+            } else if (repositoryComponent instanceof final CompositeComponent compositeComponent) {
+                return (Component<?>) this.wrappers.computeIfAbsent(compositeComponent,
+                        key -> new Composite(compositeComponent, false));
             }
+            return null;
         }
 
-        final SimpleDiscoverer<AtomicComponent> atomicComponentDiscoverer = new SimpleDiscoverer<>(atomicComponents,
-                AtomicComponent.class);
-        final SimpleDiscoverer<Composite> compositeDiscoverer = new SimpleDiscoverer<>(composites, Composite.class);
-        final SimpleDiscoverer<CompositionRelation> compositionDiscoverer = new SimpleDiscoverer<>(compositions,
-                CompositionRelation.class);
-        final SimpleDiscoverer<SignatureProvisionRelation> signatureProvisionDiscoverer = new SimpleDiscoverer<>(
-                signatureProvisions, SignatureProvisionRelation.class);
-        final SimpleDiscoverer<InterfaceProvisionRelation> interfaceProvisionDiscoverer = new SimpleDiscoverer<>(
-                interfaceProvisions, InterfaceProvisionRelation.class);
-        final SimpleDiscoverer<InterfaceRequirementRelation> interfaceRequirementDiscoverer = new SimpleDiscoverer<>(
-                interfaceRequirements, InterfaceRequirementRelation.class);
-        final SimpleDiscoverer<ServiceEffectSpecificationRelation> seffProvisionDiscoverer = new SimpleDiscoverer<>(
-                seffProvisions, ServiceEffectSpecificationRelation.class);
-        final SimpleDiscoverer<ComponentAssemblyRelation> assemblyDiscoverer = new SimpleDiscoverer<>(
-                componentAssemblies, ComponentAssemblyRelation.class);
-        final SimpleDiscoverer<CompositeProvisionDelegationRelation> provisionDelegationDiscoverer = new SimpleDiscoverer<>(
-                provisionDelegations, CompositeProvisionDelegationRelation.class);
-        final SimpleDiscoverer<CompositeRequirementDelegationRelation> requirementDelegationDiscoverer = new SimpleDiscoverer<>(
-                requirementDelegations, CompositeRequirementDelegationRelation.class);
-        return List.of(atomicComponentDiscoverer, compositeDiscoverer, compositionDiscoverer,
-                signatureProvisionDiscoverer, interfaceProvisionDiscoverer, interfaceRequirementDiscoverer,
-                seffProvisionDiscoverer, assemblyDiscoverer, provisionDelegationDiscoverer,
-                requirementDelegationDiscoverer);
-    }
+        private Interface getInterface(final OperationInterface operationInterface) {
+            return (Interface) this.wrappers.computeIfAbsent(operationInterface,
+                    key -> new Interface(operationInterface, false));
+        }
 
-    private Component<?> getGenericWrapperFor(final RepositoryComponent repositoryComponent) {
-        // Ignore components that are neither basic nor composite
-        Component<?> wrapper = null;
-        if (repositoryComponent instanceof BasicComponent) {
-            wrapper = new AtomicComponent((BasicComponent) repositoryComponent, false);
-        } else if (repositoryComponent instanceof CompositeComponent) {
-            wrapper = new Composite((CompositeComponent) repositoryComponent, false);
+        private Signature getSignature(final OperationSignature operationSignature) {
+            return (Signature) this.wrappers.computeIfAbsent(operationSignature,
+                    key -> new Signature(operationSignature, false));
         }
-        return wrapper;
     }
 }
@@ -1,5 +1,17 @@
 package org.palladiosimulator.retriever.mocore.orchestration;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.palladiosimulator.retriever.mocore.processor.element.AtomicComponentProcessor;
 import org.palladiosimulator.retriever.mocore.processor.element.CompositeProcessor;
 import org.palladiosimulator.retriever.mocore.processor.element.DeploymentProcessor;
@@ -21,24 +33,142 @@ import org.palladiosimulator.retriever.mocore.processor.relation.ServiceEffectSp
 import org.palladiosimulator.retriever.mocore.processor.relation.SignatureProvisionRelationProcessor;
 import org.palladiosimulator.retriever.mocore.surrogate.PcmSurrogate;
 
+import tools.mdsd.mocore.framework.discovery.Discoverer;
 import tools.mdsd.mocore.framework.orchestration.Orchestrator;
+import tools.mdsd.mocore.framework.processor.Processor;
+import tools.mdsd.mocore.framework.surrogate.Relation;
+import tools.mdsd.mocore.framework.surrogate.Replaceable;
 
 public class PcmOrchestrator extends Orchestrator<PcmSurrogate> {
-    @SuppressWarnings("unchecked")
+    private final Map<Class<?>, Processor<PcmSurrogate, ?>> processors;
+    // Processable types, relations before elements, each in the order of their processors
+    private final List<Class<?>> processingOrder;
+
     public PcmOrchestrator(final PcmSurrogate model) {
-        super(model, new SignatureProcessor(model), new InterfaceProcessor(model), new DeploymentProcessor(model),
-                new LinkResourceSpecificationProcessor(model), new ServiceEffectSpecificationProcessor(model),
-                new SignatureProvisionRelationProcessor(model), new InterfaceProvisionRelationProcessor(model),
-                new InterfaceRequirementRelationProcessor(model), new ComponentAssemblyRelationProcessor(model),
-                new ComponentAllocationRelationProcessor(model), new DeploymentDeploymentRelationProcessor(model),
-                new LinkResourceSpecificationRelationProcessor(model),
+        this(model, List.of(new SignatureProcessor(model), new InterfaceProcessor(model),
+                new DeploymentProcessor(model), new LinkResourceSpecificationProcessor(model),
+                new ServiceEffectSpecificationProcessor(model), new SignatureProvisionRelationProcessor(model),
+                new InterfaceProvisionRelationProcessor(model), new InterfaceRequirementRelationProcessor(model),
+                new ComponentAssemblyRelationProcessor(model), new ComponentAllocationRelationProcessor(model),
+                new DeploymentDeploymentRelationProcessor(model), new LinkResourceSpecificationRelationProcessor(model),
                 new ServiceEffectSpecificationRelationProcessor(model), new AtomicComponentProcessor(model),
                 new ComponentSignatureProvisionRelationProcessor(model), new CompositeProcessor(model),
                 new CompositionRelationProcessor(model), new CompositeRequirementDelegationRelationProcessor(model),
-                new CompositeProvisionDelegationRelationProcessor(model));
+                new CompositeProvisionDelegationRelationProcessor(model)));
     }
 
     public PcmOrchestrator() {
         this(new PcmSurrogate());
     }
+
+    @SuppressWarnings("unchecked")
+    private PcmOrchestrator(final PcmSurrogate model, final List<Processor<PcmSurrogate, ?>> processors) {
+        super(model, processors.toArray(new Processor[0]));
+        this.processors = new HashMap<>();
+        final List<Class<?>> relationTypes = new ArrayList<>();
+        final List<Class<?>> elementTypes = new ArrayList<>();
+        for (final Processor<PcmSurrogate, ?> processor : processors) {
+            final Class<?> type = processor.getProcessableType();
+            this.processors.put(type, processor);
+            if (Relation.class.isAssignableFrom(type)) {
+                relationTypes.add(type);
+            } else {
+                elementTypes.add(type);
+            }
+        }
+        this.processingOrder = new ArrayList<>(relationTypes);
+        this.processingOrder.addAll(elementTypes);
+    }
+
+    /**
+     * Processes the discoveries of all discoverers as one batch. The discoveries are grouped by
+     * type, and equal ones are processed once. Implications are only processed after all
+     * discoveries of the batch, without those equal to a discovery or to another implication.
+     * Relation types are processed before element types: an element processor implies placeholders
+     * for the relations of the element that are not in the model yet, which later discoveries
+     * would have to replace.
+     *
+     * @param discoverers
+     *            the discoverers providing the discoveries
+     */
+    public void processDiscoverers(final Collection<Discoverer<?>> discoverers) {
+        final Map<Class<?>, Set<Replaceable>> discoveriesByType = new HashMap<>();
+        for (final Discoverer<?> discoverer : discoverers) {
+            for (final Replaceable discovery : discoverer.getDiscoveries()) {
+                discoveriesByType.computeIfAbsent(discovery.getClass(), type -> new LinkedHashSet<>())
+                    .add(discovery);
+            }
+        }
+
+        final Set<Replaceable> processed = new HashSet<>();
+        final Set<Replaceable> implications = new LinkedHashSet<>();
+        for (final Class<?> type : this.processingOrder) {
+            final Processor<PcmSurrogate, ?> processor = this.processors.get(type);
+            for (final Replaceable discovery : discoveriesByType.getOrDefault(type, Set.of())) {
+                process(processor, discovery);
+                processed.add(discovery);
+                implications.addAll(processor.getImplications());
+            }
+            discoveriesByType.remove(type);
+        }
+
+        // Types without a processor are left to the default handling
+        for (final Set<Replaceable> discoveries : discoveriesByType.values()) {
+            discoveries.forEach(this::processDiscovery);
+        }
+
+        for (final Replaceable implication : implications) {
+            if (!processed.contains(implication)) {
+                this.processQueued(implication);
+            }
+        }
+    }
+
+    /**
+     * Processes discoveries one by one as they are produced, e.g. by
+     * {@link org.palladiosimulator.retriever.mocore.discovery.RepositoryDecompositor#stream
+     * RepositoryDecompositor.stream}. Unlike {@link #processDiscoverers(Collection)}, no discovery
+     * has to be held back until all of them are known. Elements should precede the relations between them, so that
+     * the relations do not imply placeholders. Implications that are already waiting to be
+     * processed are not queued again.
+     *
+     * @param discoveries
+     *            the discoveries in the order they shall be processed
+     */
+    public void processDiscoveries(final Stream<? extends Replaceable> discoveries) {
+        discoveries.forEachOrdered(this::processQueued);
+    }
+
+    // Processes the discovery and its implications depth-first, like processDiscovery
+    private void processQueued(final Replaceable discovery) {
+        final Deque<Replaceable> pending = new ArrayDeque<>();
+        final Set<Replaceable> queued = new HashSet<>();
+        pending.push(discovery);
+        queued.add(discovery);
+        while (!pending.isEmpty()) {
+            final Replaceable current = pending.pop();
+            queued.remove(current);
+            final Processor<PcmSurrogate, ?> processor = this.processors.get(current.getClass());
+            if (processor == null) {
+                this.processDiscovery(current);
+                continue;
+            }
+            process(processor, current);
+
+            // Push in reverse, so that the implications are processed in their original order
+            final List<Replaceable> implications = new ArrayList<>(processor.getImplications());
+            for (int i = implications.size() - 1; i >= 0; i--) {
+                final Replaceable implication = implications.get(i);
+                if (queued.add(implication)) {
+                    pending.push(implication);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Replaceable> void process(final Processor<PcmSurrogate, T> processor,
+            final Replaceable discovery) {
+        processor.process((T) discovery);
+    }
 }
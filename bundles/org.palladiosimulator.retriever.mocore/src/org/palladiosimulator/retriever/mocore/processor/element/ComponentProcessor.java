@@ -17,9 +17,7 @@ public abstract class ComponentProcessor<T extends Component<?>> extends Process
     @Override
     protected void refine(final T discovery) {
         final List<ComponentAllocationRelation> deploymentRelations = this.getModel()
-            .getByType(ComponentAllocationRelation.class);
-        deploymentRelations.removeIf(relation -> !relation.getSource()
-            .equals(discovery));
+            .relationsFrom(discovery, ComponentAllocationRelation.class);
 
         if (deploymentRelations.isEmpty()) {
             final Deployment deployment = Deployment.getUniquePlaceholder();
@@ -19,9 +19,7 @@ public class InterfaceProcessor extends Processor<PcmSurrogate, Interface> {
     @Override
     protected void refine(final Interface discovery) {
         final List<InterfaceProvisionRelation> providesRelations = this.getModel()
-            .getByType(InterfaceProvisionRelation.class);
-        providesRelations.removeIf(relation -> !relation.getDestination()
-            .equals(discovery));
+            .relationsTo(discovery, InterfaceProvisionRelation.class);
 
         // Rule: Each interface has to be provided by a component.
         // -> If no provision relation exists yet, add a placeholder provider and relation to the
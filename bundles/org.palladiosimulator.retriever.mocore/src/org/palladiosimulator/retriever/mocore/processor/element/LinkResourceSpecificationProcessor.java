@@ -1,7 +1,6 @@
 package org.palladiosimulator.retriever.mocore.processor.element;
 
 import java.util.List;
-import java.util.Objects;
 
 import org.palladiosimulator.retriever.mocore.surrogate.PcmSurrogate;
 import org.palladiosimulator.retriever.mocore.surrogate.element.Deployment;
@@ -19,8 +18,7 @@ public class LinkResourceSpecificationProcessor extends Processor<PcmSurrogate,
     @Override
     protected void refine(final LinkResourceSpecification discovery) {
         final List<LinkResourceSpecificationRelation> relations = this.getModel()
-            .getByType(LinkResourceSpecificationRelation.class);
-        relations.removeIf(relation -> !Objects.equals(relation.getSource(), discovery));
+            .relationsFrom(discovery, LinkResourceSpecificationRelation.class);
 
         if (relations.isEmpty()) {
             final Deployment sourcePlaceholder = Deployment.getUniquePlaceholder();
@@ -18,9 +18,7 @@ public class SignatureProcessor extends Processor<PcmSurrogate, Signature> {
     protected void refine(final Signature discovery) {
         // Add providing interface for signature if none exists
         final List<SignatureProvisionRelation> interfaceRelations = this.getModel()
-            .getByType(SignatureProvisionRelation.class);
-        interfaceRelations.removeIf(relation -> !relation.getSource()
-            .equals(discovery));
+            .relationsFrom(discovery, SignatureProvisionRelation.class);
         if (interfaceRelations.isEmpty()) {
             final Interface interfaceElement = Interface.getUniquePlaceholder();
             final SignatureProvisionRelation relation = new SignatureProvisionRelation(discovery, interfaceElement,
@@ -1,7 +1,9 @@
 package org.palladiosimulator.retriever.mocore.processor.relation;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.palladiosimulator.retriever.mocore.surrogate.PcmSurrogate;
@@ -11,6 +13,7 @@ import org.palladiosimulator.retriever.mocore.surrogate.element.Interface;
 import org.palladiosimulator.retriever.mocore.surrogate.relation.ComponentAllocationRelation;
 import org.palladiosimulator.retriever.mocore.surrogate.relation.ComponentAssemblyRelation;
 import org.palladiosimulator.retriever.mocore.surrogate.relation.DeploymentDeploymentRelation;
+import org.palladiosimulator.retriever.mocore.surrogate.relation.InterfaceProvisionRelation;
 
 import tools.mdsd.mocore.framework.processor.RelationProcessor;
 
@@ -59,12 +62,9 @@ public class ComponentAssemblyRelationProcessor extends RelationProcessor<PcmSur
         }
 
         // Remove component assembly fully-placeholder relation (non-direct & non-indirect)
-        final List<ComponentAssemblyRelation> assemblies = this.getModel()
-            .getByType(ComponentAssemblyRelation.class);
-        assemblies.removeIf(assembly -> !assembly.getSource()
-            .isPlaceholder()
-                || !assembly.getDestination()
-                    .isPlaceholder());
+        final Set<Deployment> assembledContainers = new LinkedHashSet<>(providerAllocations);
+        assembledContainers.addAll(consumerAllocations);
+        final Set<ComponentAssemblyRelation> assemblies = this.getPlaceholderAssemblies(assembledContainers);
         for (final ComponentAssemblyRelation placeholderAssembly : assemblies) {
             if (discovery.equals(placeholderAssembly)) {
                 continue;
@@ -108,12 +108,34 @@ public class ComponentAssemblyRelationProcessor extends RelationProcessor<PcmSur
         super.refine(discovery);
     }
 
+    // Only fully-placeholder assemblies provided by a component within one of the containers can
+    // be parallel or inverse to an assembly between these containers
+    private Set<ComponentAssemblyRelation> getPlaceholderAssemblies(final Set<Deployment> containers) {
+        final Set<ComponentAssemblyRelation> assemblies = new LinkedHashSet<>();
+        for (final Deployment container : containers) {
+            for (final ComponentAllocationRelation allocation : this.getModel()
+                .relationsTo(container, ComponentAllocationRelation.class)) {
+                for (final InterfaceProvisionRelation provision : this.getModel()
+                    .relationsFrom(allocation.getSource(), InterfaceProvisionRelation.class)) {
+                    for (final ComponentAssemblyRelation assembly : this.getModel()
+                        .relationsFrom(provision, ComponentAssemblyRelation.class)) {
+                        if (assembly.getSource()
+                            .isPlaceholder()
+                                && assembly.getDestination()
+                                    .isPlaceholder()) {
+                            assemblies.add(assembly);
+                        }
+                    }
+                }
+            }
+        }
+        return assemblies;
+    }
+
     private List<Deployment> getAllocatedContainers(final Component<?> component) {
-        final List<ComponentAllocationRelation> allocations = this.getModel()
-            .getByType(ComponentAllocationRelation.class);
-        return allocations.stream()
-            .filter(allocation -> allocation.getSource()
-                .equals(component))
+        return this.getModel()
+            .relationsFrom(component, ComponentAllocationRelation.class)
+            .stream()
             .map(ComponentAllocationRelation::getDestination)
             .collect(Collectors.toList());
     }
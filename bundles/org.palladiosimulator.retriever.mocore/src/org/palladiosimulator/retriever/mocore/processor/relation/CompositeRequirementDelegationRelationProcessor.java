@@ -25,8 +25,7 @@ public class CompositeRequirementDelegationRelationProcessor
 
         // Check if the sub-component is part of the composite already
         final List<CompositionRelation> compositions = this.getModel()
-            .getByType(CompositionRelation.class);
-        compositions.removeIf(relation -> !discoveryComposite.equals(relation.getSource()));
+            .relationsFrom(discoveryComposite, CompositionRelation.class);
         compositions.removeIf(relation -> !discoveryChild.equals(relation.getDestination()));
         if (compositions.isEmpty()) {
             final CompositionRelation composition = new CompositionRelation(discoveryComposite, discoveryChild, true);
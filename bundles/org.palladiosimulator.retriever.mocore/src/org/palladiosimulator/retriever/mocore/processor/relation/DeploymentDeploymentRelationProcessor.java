@@ -1,7 +1,6 @@
 package org.palladiosimulator.retriever.mocore.processor.relation;
 
 import java.util.List;
-import java.util.Objects;
 
 import org.palladiosimulator.retriever.mocore.surrogate.PcmSurrogate;
 import org.palladiosimulator.retriever.mocore.surrogate.element.LinkResourceSpecification;
@@ -20,8 +19,7 @@ public class DeploymentDeploymentRelationProcessor
     protected void refine(final DeploymentDeploymentRelation discovery) {
         // Check whether a linking resource specification already exists for the link to be merged
         final List<LinkResourceSpecificationRelation> specifications = this.getModel()
-            .getByType(LinkResourceSpecificationRelation.class);
-        specifications.removeIf(specification -> !Objects.equals(discovery, specification.getDestination()));
+            .relationsTo(discovery, LinkResourceSpecificationRelation.class);
         if (specifications.isEmpty()) {
             // Add implicit placeholder specification, if no specification is found for this
             // deployment link
@@ -21,9 +21,7 @@ public class InterfaceProvisionRelationProcessor extends RelationProcessor<PcmSu
 
         // Get all requirements from model & filter for same interface as in discovery
         final List<InterfaceRequirementRelation> requirementRelations = this.getModel()
-            .getByType(InterfaceRequirementRelation.class);
-        requirementRelations.removeIf(relation -> !relation.getDestination()
-            .equals(commonInterface));
+            .relationsTo(commonInterface, InterfaceRequirementRelation.class);
 
         // Create component assembly placeholder for pairs of provision & requirement relations
         for (final InterfaceRequirementRelation requirementRelation : requirementRelations) {
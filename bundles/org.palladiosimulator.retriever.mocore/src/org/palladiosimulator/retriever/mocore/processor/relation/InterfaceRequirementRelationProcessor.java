@@ -22,9 +22,7 @@ public class InterfaceRequirementRelationProcessor
 
         // Get all requirements from model & filter for same interface as in discovery
         final List<InterfaceProvisionRelation> provisionRelations = this.getModel()
-            .getByType(InterfaceProvisionRelation.class);
-        provisionRelations.removeIf(relation -> !relation.getDestination()
-            .equals(commonInterface));
+            .relationsTo(commonInterface, InterfaceProvisionRelation.class);
 
         // Create component assembly placeholder for pairs of provision & requirement relations
         for (final InterfaceProvisionRelation provisionRelation : provisionRelations) {
@@ -1,9 +1,152 @@
 package org.palladiosimulator.retriever.mocore.surrogate;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import tools.mdsd.mocore.framework.surrogate.Model;
+import tools.mdsd.mocore.framework.surrogate.Relation;
+import tools.mdsd.mocore.framework.surrogate.Replaceable;
 
+/**
+ * The PCM surrogate model. Besides the model itself, it keeps its elements indexed by type and its
+ * relations by source and by destination, so that the related elements of an element can be looked
+ * up without scanning all relations of a type.
+ */
 public class PcmSurrogate extends Model {
+    private final Map<Class<?>, Set<Replaceable>> typeIndex;
+    private final Map<Replaceable, Set<Relation<?, ?>>> sourceIndex;
+    private final Map<Replaceable, Set<Relation<?, ?>>> destinationIndex;
+
     public PcmSurrogate() {
         super();
+        // Linked, so that elementsOf returns the types in a deterministic order
+        this.typeIndex = new LinkedHashMap<>();
+        this.sourceIndex = new HashMap<>();
+        this.destinationIndex = new HashMap<>();
+    }
+
+    @Override
+    public void add(final Replaceable replaceable) {
+        super.add(replaceable);
+        this.index(replaceable);
+    }
+
+    @Override
+    public <T extends Replaceable> List<Replaceable> replace(final T original, final T replacement) {
+        // Collect everything that includes the original before the model changes
+        final Set<Replaceable> affected = new LinkedHashSet<>();
+        final Deque<Replaceable> pending = new ArrayDeque<>();
+        if (this.contains(original)) {
+            affected.add(original);
+        }
+        pending.add(original);
+        while (!pending.isEmpty()) {
+            final Replaceable current = pending.poll();
+            for (final Relation<?, ?> relation : this.referencing(current)) {
+                if (affected.add(relation)) {
+                    pending.add(relation);
+                }
+            }
+        }
+
+        final List<Replaceable> implications = super.replace(original, replacement);
+
+        for (final Replaceable replaceable : affected) {
+            this.unindex(replaceable);
+        }
+        for (final Replaceable replaceable : affected) {
+            this.index(replaceable.equals(original) ? replacement : replaceable.replace(original, replacement));
+        }
+        return implications;
+    }
+
+    @Override
+    public boolean contains(final Replaceable replaceable) {
+        return this.typeIndex.getOrDefault(replaceable.getClass(), Set.of())
+            .contains(replaceable);
+    }
+
+    /**
+     * Returns all elements of the given type or its subtypes, grouped by their exact type. Types and
+     * elements are ordered by when they were added or last replaced.
+     */
+    public <T extends Replaceable> List<T> elementsOf(final Class<T> type) {
+        final List<T> result = new ArrayList<>();
+        for (final Map.Entry<Class<?>, Set<Replaceable>> entry : this.typeIndex.entrySet()) {
+            if (type.isAssignableFrom(entry.getKey())) {
+                result.addAll(this.filter(entry.getValue(), type));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all relations of the given type whose source equals the given element.
+     */
+    public <T extends Relation<?, ?>> List<T> relationsFrom(final Replaceable source, final Class<T> type) {
+        return this.filter(this.sourceIndex.get(source), type);
+    }
+
+    /**
+     * Returns all relations of the given type whose destination equals the given element.
+     */
+    public <T extends Relation<?, ?>> List<T> relationsTo(final Replaceable destination, final Class<T> type) {
+        return this.filter(this.destinationIndex.get(destination), type);
+    }
+
+    private <T> List<T> filter(final Set<? extends Replaceable> candidates, final Class<T> type) {
+        final List<T> result = new ArrayList<>();
+        if (candidates == null) {
+            return result;
+        }
+        for (final Replaceable candidate : candidates) {
+            if (type.isInstance(candidate)) {
+                result.add(type.cast(candidate));
+            }
+        }
+        return result;
+    }
+
+    private Set<Relation<?, ?>> referencing(final Replaceable replaceable) {
+        final Set<Relation<?, ?>> relations = new LinkedHashSet<>();
+        relations.addAll(this.sourceIndex.getOrDefault(replaceable, Set.of()));
+        relations.addAll(this.destinationIndex.getOrDefault(replaceable, Set.of()));
+        return relations;
+    }
+
+    private void index(final Replaceable replaceable) {
+        this.typeIndex.computeIfAbsent(replaceable.getClass(), type -> new LinkedHashSet<>())
+            .add(replaceable);
+        if (replaceable instanceof final Relation<?, ?> relation) {
+            this.sourceIndex.computeIfAbsent(relation.getSource(), source -> new LinkedHashSet<>())
+                .add(relation);
+            this.destinationIndex.computeIfAbsent(relation.getDestination(), destination -> new LinkedHashSet<>())
+                .add(relation);
+        }
+    }
+
+    private void unindex(final Replaceable replaceable) {
+        remove(this.typeIndex, replaceable.getClass(), replaceable);
+        if (replaceable instanceof final Relation<?, ?> relation) {
+            remove(this.sourceIndex, relation.getSource(), relation);
+            remove(this.destinationIndex, relation.getDestination(), relation);
+        }
+    }
+
+    private static <K, V> void remove(final Map<K, Set<V>> index, final K key, final V value) {
+        final Set<V> values = index.get(key);
+        if (values != null) {
+            values.remove(value);
+            if (values.isEmpty()) {
+                index.remove(key);
+            }
+        }
     }
 }
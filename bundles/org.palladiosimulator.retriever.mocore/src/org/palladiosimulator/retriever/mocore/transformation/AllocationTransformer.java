@@ -1,11 +1,15 @@
 package org.palladiosimulator.retriever.mocore.transformation;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.palladiosimulator.generator.fluent.allocation.api.IAllocationAddition;
 import org.palladiosimulator.generator.fluent.allocation.factory.FluentAllocationFactory;
-import org.palladiosimulator.generator.fluent.allocation.structure.AllocationContextCreator;
 import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationContext;
+import org.palladiosimulator.pcm.allocation.AllocationFactory;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
 import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
 import org.palladiosimulator.pcm.system.System;
 import org.palladiosimulator.retriever.mocore.surrogate.PcmSurrogate;
@@ -23,34 +27,52 @@ public class AllocationTransformer implements Transformer<PcmSurrogate, Allocati
 
     public Allocation transform(final PcmSurrogate model, final System system,
             final ResourceEnvironment resourceEnvironment) {
-        final FluentAllocationFactory allocationFactory = new FluentAllocationFactory();
-        final IAllocationAddition fluentAllocation = allocationFactory.newAllocation()
+        final Allocation allocation = new FluentAllocationFactory().newAllocation()
             .withSystem(system)
-            .withResourceEnvironment(resourceEnvironment);
+            .withResourceEnvironment(resourceEnvironment)
+            .createAllocationNow();
+
+        // Index the up-to-date entities of system and resource environment by name once, instead of
+        // searching them for every allocation relation
+        final Map<String, AssemblyContext> assemblyContexts = new HashMap<>();
+        for (final AssemblyContext assemblyContext : system.getAssemblyContexts__ComposedStructure()) {
+            assemblyContexts.putIfAbsent(assemblyContext.getEntityName(), assemblyContext);
+        }
+        final Map<String, ResourceContainer> resourceContainers = new HashMap<>();
+        for (final ResourceContainer resourceContainer : resourceEnvironment
+            .getResourceContainer_ResourceEnvironment()) {
+            resourceContainers.putIfAbsent(resourceContainer.getEntityName(), resourceContainer);
+        }
 
         // Add allocation contexts to allocation
         final List<ComponentAllocationRelation> relations = model.getByType(ComponentAllocationRelation.class);
         for (final ComponentAllocationRelation relation : relations) {
-            // Get and add context (creator) for specific allocation relation
-            final AllocationContextCreator contextCreator = this.getCreator(allocationFactory, relation);
-            fluentAllocation.addToAllocation(contextCreator);
+            allocation.getAllocationContexts_Allocation()
+                .add(this.createContext(relation, assemblyContexts, resourceContainers));
         }
 
-        return fluentAllocation.createAllocationNow();
+        return allocation;
     }
 
-    private AllocationContextCreator getCreator(final FluentAllocationFactory fluentFactory,
-            final ComponentAllocationRelation relation) {
-        final AllocationContextCreator contextCreator = fluentFactory.newAllocationContext();
-
-        // Use name of entities to fetch up-to-date entities from system and resource environment
+    private AllocationContext createContext(final ComponentAllocationRelation relation,
+            final Map<String, AssemblyContext> assemblyContexts,
+            final Map<String, ResourceContainer> resourceContainers) {
         final String assemblyContextName = SystemTransformer.getAssemblyContextName(relation.getSource());
         final String deploymentEntityName = relation.getDestination()
             .getValue()
             .getEntityName();
-        contextCreator.withAssemblyContext(assemblyContextName)
-            .withResourceContainer(deploymentEntityName);
+        final AssemblyContext assemblyContext = assemblyContexts.get(assemblyContextName);
+        if (assemblyContext == null) {
+            throw new IllegalArgumentException("No assembly context with name " + assemblyContextName);
+        }
+        final ResourceContainer resourceContainer = resourceContainers.get(deploymentEntityName);
+        if (resourceContainer == null) {
+            throw new IllegalArgumentException("No resource container with name " + deploymentEntityName);
+        }
 
-        return contextCreator;
+        final AllocationContext allocationContext = AllocationFactory.eINSTANCE.createAllocationContext();
+        allocationContext.setAssemblyContext_AllocationContext(assemblyContext);
+        allocationContext.setResourceContainer_AllocationContext(resourceContainer);
+        return allocationContext;
     }
 }
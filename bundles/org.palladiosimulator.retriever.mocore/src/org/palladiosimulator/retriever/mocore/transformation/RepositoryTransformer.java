@@ -2,12 +2,16 @@ package org.palladiosimulator.retriever.mocore.transformation;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
@@ -50,7 +54,9 @@ import org.palladiosimulator.retriever.mocore.surrogate.relation.InterfaceRequir
 import org.palladiosimulator.retriever.mocore.surrogate.relation.ServiceEffectSpecificationRelation;
 import org.palladiosimulator.retriever.mocore.surrogate.relation.SignatureProvisionRelation;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 
 import tools.mdsd.mocore.framework.transformation.Transformer;
@@ -67,14 +73,44 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
         final FluentRepositoryFactory repositoryFactory = new FluentRepositoryFactory();
         final Repo fluentRepository = repositoryFactory.newRepository();
 
-        final List<ServiceEffectSpecificationRelation> seffRelations = model
-            .getByType(ServiceEffectSpecificationRelation.class);
-        List<InterfaceProvisionRelation> provisionRelations = model.getByType(InterfaceProvisionRelation.class);
+        final List<InterfaceProvisionRelation> provisionRelations = model.getByType(InterfaceProvisionRelation.class);
         final List<InterfaceRequirementRelation> requirementRelations = model
             .getByType(InterfaceRequirementRelation.class);
-        final List<SignatureProvisionRelation> signatureRelations = model.getByType(SignatureProvisionRelation.class);
         final List<Interface> interfaces = model.getByType(Interface.class);
 
+        // Group relations by their components once, in model order
+        final ListMultimap<Interface, Signature> interfaceSignatures = ArrayListMultimap.create();
+        for (final SignatureProvisionRelation relation : model.getByType(SignatureProvisionRelation.class)) {
+            interfaceSignatures.put(relation.getDestination(), relation.getSource());
+        }
+        final ListMultimap<Component<?>, InterfaceProvisionRelation> componentProvisions = ArrayListMultimap.create();
+        for (final InterfaceProvisionRelation relation : provisionRelations) {
+            componentProvisions.put(relation.getSource(), relation);
+        }
+        final ListMultimap<Component<?>, InterfaceRequirementRelation> componentRequirements = ArrayListMultimap
+            .create();
+        for (final InterfaceRequirementRelation relation : requirementRelations) {
+            componentRequirements.put(relation.getSource(), relation);
+        }
+        final Map<Component<?>, Map<SignatureKey, List<ServiceEffectSpecificationRelation>>> componentSeffs;
+        componentSeffs = new HashMap<>();
+        for (final ServiceEffectSpecificationRelation relation : model
+            .getByType(ServiceEffectSpecificationRelation.class)) {
+            final InterfaceProvisionRelation interfaceProvision = relation.getSource()
+                .getSource();
+            final Signature wrappedSignature = relation.getSource()
+                .getDestination()
+                .getSource();
+            final SignatureKey key = new SignatureKey(interfaceProvision.getDestination()
+                .getValue()
+                .getEntityName(),
+                    wrappedSignature.getValue()
+                        .getEntityName());
+            componentSeffs.computeIfAbsent(interfaceProvision.getSource(), x -> new HashMap<>())
+                .computeIfAbsent(key, x -> new ArrayList<>())
+                .add(relation);
+        }
+
         // Add interfaces to fluent repository
         for (final Interface interfaceInstance : interfaces) {
             final OperationInterfaceCreator interfaceCreator = this.getCreator(repositoryFactory, interfaceInstance);
@@ -87,13 +123,9 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
 
             // Add signatures to the added interface directly
             // Avoids the creation of signature creator and tight coupling to fluentApi
-            for (final SignatureProvisionRelation relation : signatureRelations) {
-                if (relation.getDestination()
-                    .equals(interfaceInstance)) {
-                    final Signature signature = relation.getSource();
-                    signature.getValue()
-                        .setInterface__OperationSignature(repositoryInterface);
-                }
+            for (final Signature signature : interfaceSignatures.get(interfaceInstance)) {
+                signature.getValue()
+                    .setInterface__OperationSignature(repositoryInterface);
             }
         }
 
@@ -101,29 +133,23 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
             final BasicComponentCreator componentCreator = this.getCreator(repositoryFactory, component);
 
             // Add provided interfaces
-            for (final InterfaceProvisionRelation relation : provisionRelations) {
+            for (final InterfaceProvisionRelation relation : componentProvisions.get(component)) {
                 final Interface interfaceInstance = relation.getDestination();
-                if (relation.getSource()
-                    .equals(component)) {
-                    final String interfaceName = interfaceInstance.getValue()
-                        .getEntityName();
-                    final OperationInterface operationInterface = repositoryFactory
-                        .fetchOfOperationInterface(interfaceName);
-                    componentCreator.provides(operationInterface, getProvidedRoleName(interfaceInstance));
-                }
+                final String interfaceName = interfaceInstance.getValue()
+                    .getEntityName();
+                final OperationInterface operationInterface = repositoryFactory
+                    .fetchOfOperationInterface(interfaceName);
+                componentCreator.provides(operationInterface, getProvidedRoleName(interfaceInstance));
             }
 
             // Add required interfaces
-            for (final InterfaceRequirementRelation relation : requirementRelations) {
+            for (final InterfaceRequirementRelation relation : componentRequirements.get(component)) {
                 final Interface interfaceInstance = relation.getDestination();
-                if (relation.getSource()
-                    .equals(component)) {
-                    final String interfaceName = interfaceInstance.getValue()
-                        .getEntityName();
-                    final OperationInterface operationInterface = repositoryFactory
-                        .fetchOfOperationInterface(interfaceName);
-                    componentCreator.requires(operationInterface, getRequiredRoleName(interfaceInstance));
-                }
+                final String interfaceName = interfaceInstance.getValue()
+                    .getEntityName();
+                final OperationInterface operationInterface = repositoryFactory
+                    .fetchOfOperationInterface(interfaceName);
+                componentCreator.requires(operationInterface, getRequiredRoleName(interfaceInstance));
             }
 
             // Build component to make changes that are unsupported by fluent api
@@ -132,76 +158,68 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
             // Add service effect specifications to component
             // For each provided interface, iterate over each signature of interface and add seff if
             // it exists
-            for (final InterfaceProvisionRelation interfaceProvision : provisionRelations) {
-                if (interfaceProvision.getSource()
-                    .equals(component)) {
-                    final OperationInterface operationInterface = repositoryFactory
-                        .fetchOfOperationInterface(interfaceProvision.getDestination()
-                            .getValue()
-                            .getEntityName());
-                    for (final OperationSignature signature : operationInterface.getSignatures__OperationInterface()) {
-                        // Get seff entity for specific signature in interface
-                        final Predicate<ServiceEffectSpecificationRelation> filter = relation -> {
-                            final Signature wrappedSignature = relation.getSource()
-                                .getDestination()
-                                .getSource();
-                            final Interface wrappedInterface = relation.getSource()
-                                .getSource()
-                                .getDestination();
-                            return representSameSignature(signature, wrappedSignature.getValue())
-                                    && representSameInterface(operationInterface, wrappedInterface.getValue());
-                        };
-                        final ServiceEffectSpecification seff = seffRelations.stream()
-                            .filter(relation -> relation.getSource()
-                                .getSource()
-                                .getSource()
-                                .equals(component))
-                            .filter(filter)
-                            .map(relation -> relation.getDestination()
-                                .getValue())
-                            .findFirst()
-                            .orElse(org.palladiosimulator.retriever.mocore.surrogate.element.ServiceEffectSpecification
-                                .getUniquePlaceholder()
-                                .getValue());
-
-                        // Reset component and signature within seff because they may be out-dated
-                        seff.setBasicComponent_ServiceEffectSpecification(repositoryComponent);
-                        seff.setDescribedService__SEFF(signature);
-
-                        // Fix changed identifier of required roles in external call actions
-                        if (seff instanceof ResourceDemandingSEFF) {
-                            final ResourceDemandingSEFF rdSeff = (ResourceDemandingSEFF) seff;
-                            final EList<AbstractAction> behavior = rdSeff.getSteps_Behaviour();
-                            final List<ExternalCallAction> externalCallActions = filterExternalCallActions(behavior);
-
-                            for (final ExternalCallAction externalCallAction : externalCallActions) {
-                                final OperationSignature externalSignature = externalCallAction
-                                    .getCalledService_ExternalService();
-
-                                // Get required role containing called signature of
-                                // externalCallAction from component
-                                final Optional<OperationRequiredRole> requiredRoleOption = repositoryComponent
-                                    .getRequiredRoles_InterfaceRequiringEntity()
-                                    .stream()
-                                    .filter(role -> role instanceof OperationRequiredRole)
-                                    .map(role -> (OperationRequiredRole) role)
-                                    .filter(role -> role.getRequiredInterface__OperationRequiredRole()
-                                        .getSignatures__OperationInterface()
-                                        .contains(externalSignature))
-                                    .findFirst();
-                                if (requiredRoleOption.isEmpty()) {
-                                    LOG.warn(
-                                            "Failed to find required role for external call to "
-                                                    + externalSignature.getInterface__OperationSignature()
-                                                        .getEntityName()
-                                                    + "#" + externalSignature.getEntityName() + "!");
-                                    continue;
-                                }
-                                final OperationRequiredRole requiredRole = requiredRoleOption.get();
-
-                                // Set role in external call action to fetched required role
-                                externalCallAction.setRole_ExternalService(requiredRole);
+            final Map<SignatureKey, List<ServiceEffectSpecificationRelation>> seffs = componentSeffs
+                .getOrDefault(component, Map.of());
+            final RequiredRoleIndex requiredRoles = new RequiredRoleIndex(repositoryComponent);
+            for (final InterfaceProvisionRelation interfaceProvision : componentProvisions.get(component)) {
+                final OperationInterface operationInterface = repositoryFactory
+                    .fetchOfOperationInterface(interfaceProvision.getDestination()
+                        .getValue()
+                        .getEntityName());
+                for (final OperationSignature signature : operationInterface.getSignatures__OperationInterface()) {
+                    // Get seff entity for specific signature in interface
+                    final Predicate<ServiceEffectSpecificationRelation> filter = relation -> {
+                        final Signature wrappedSignature = relation.getSource()
+                            .getDestination()
+                            .getSource();
+                        final Interface wrappedInterface = relation.getSource()
+                            .getSource()
+                            .getDestination();
+                        return representSameSignature(signature, wrappedSignature.getValue())
+                                && representSameInterface(operationInterface, wrappedInterface.getValue());
+                    };
+                    final ServiceEffectSpecification seff = seffs
+                        .getOrDefault(new SignatureKey(operationInterface.getEntityName(),
+                                signature.getEntityName()), List.of())
+                        .stream()
+                        .filter(filter)
+                        .map(relation -> relation.getDestination()
+                            .getValue())
+                        .findFirst()
+                        .orElse(org.palladiosimulator.retriever.mocore.surrogate.element.ServiceEffectSpecification
+                            .getUniquePlaceholder()
+                            .getValue());
+
+                    // Reset component and signature within seff because they may be out-dated
+                    seff.setBasicComponent_ServiceEffectSpecification(repositoryComponent);
+                    seff.setDescribedService__SEFF(signature);
+
+                    // Fix changed identifier of required roles in external call actions
+                    if (seff instanceof ResourceDemandingSEFF) {
+                        final ResourceDemandingSEFF rdSeff = (ResourceDemandingSEFF) seff;
+                        final EList<AbstractAction> behavior = rdSeff.getSteps_Behaviour();
+                        final List<ExternalCallAction> externalCallActions = filterExternalCallActions(behavior);
+
+                        for (final ExternalCallAction externalCallAction : externalCallActions) {
+                            final OperationSignature externalSignature = externalCallAction
+                                .getCalledService_ExternalService();
+
+                            // Get required role containing called signature of
+                            // externalCallAction from component
+                            final Optional<OperationRequiredRole> requiredRoleOption = requiredRoles
+                                .getRequiredRole(externalSignature);
+                            if (requiredRoleOption.isEmpty()) {
+                                LOG.warn(
+                                        "Failed to find required role for external call to "
+                                                + externalSignature.getInterface__OperationSignature()
+                                                    .getEntityName()
+                                                + "#" + externalSignature.getEntityName() + "!");
+                                continue;
                             }
+                            final OperationRequiredRole requiredRole = requiredRoleOption.get();
+
+                            // Set role in external call action to fetched required role
+                            externalCallAction.setRole_ExternalService(requiredRole);
                         }
                     }
                 }
@@ -218,77 +236,83 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
         // First step: Get children of each composite
         final List<CompositionRelation> compositionRelations = model.getByType(CompositionRelation.class);
         final List<Composite> composites = model.getByType(Composite.class);
+        final Set<Composite> compositeSet = new HashSet<>(composites);
         final Multimap<Composite, Component<?>> compositesChildren = HashMultimap.create();
-        for (final Composite composite : composites) {
-            final List<Component<?>> children = compositionRelations.stream()
-                .filter(relation -> relation.getSource()
-                    .equals(composite))
-                .map(relation -> relation.getDestination())
-                .collect(Collectors.toList());
-            compositesChildren.putAll(composite, children);
+        final ListMultimap<Component<?>, Composite> componentParents = ArrayListMultimap.create();
+        for (final CompositionRelation relation : compositionRelations) {
+            if (compositeSet.contains(relation.getSource())) {
+                compositesChildren.put(relation.getSource(), relation.getDestination());
+            }
+            componentParents.put(relation.getDestination(), relation.getSource());
         }
         // Second step: Sort composites
         final List<Composite> sortedComposites = new LinkedList<>(composites);
         sortedComposites.sort((a, b) -> this.compareComposites(a, b, compositesChildren));
-        // Third step: Get non-required interfaces & their providers
-        final List<InterfaceProvisionRelation> nonRequiredProvisionRelations = new LinkedList<>(provisionRelations);
-        nonRequiredProvisionRelations.removeIf(provisionRelation -> requirementRelations.stream()
-            .anyMatch(requirementRelation -> requirementRelation.getDestination()
-                .equals(provisionRelation.getDestination())));
+        // Third step: Get non-required interfaces & their providers, numbered in order of
+        // appearance
+        final Set<Interface> requiredInterfaces = new HashSet<>();
+        for (final InterfaceRequirementRelation requirementRelation : requirementRelations) {
+            requiredInterfaces.add(requirementRelation.getDestination());
+        }
+        final ListMultimap<Component<?>, InterfaceProvisionRelation> nonRequiredProvisions = ArrayListMultimap.create();
+        final Map<InterfaceProvisionRelation, Integer> provisionOrder = new HashMap<>();
+        for (final InterfaceProvisionRelation provisionRelation : provisionRelations) {
+            if (!requiredInterfaces.contains(provisionRelation.getDestination())) {
+                nonRequiredProvisions.put(provisionRelation.getSource(), provisionRelation);
+                provisionOrder.putIfAbsent(provisionRelation, provisionOrder.size());
+            }
+        }
+        // The last provision of a component per interface
+        final Map<Component<?>, Map<Interface, InterfaceProvisionRelation>> providedInterfaces = new HashMap<>();
+        for (final InterfaceProvisionRelation provisionRelation : provisionRelations) {
+            providedInterfaces.computeIfAbsent(provisionRelation.getSource(), x -> new HashMap<>())
+                .put(provisionRelation.getDestination(), provisionRelation);
+        }
         // Fourth step: Provide non-required interface of children & add delegation
         for (final Composite composite : sortedComposites) {
-            for (int i = 0; i < nonRequiredProvisionRelations.size(); i++) {
-                // Access via index due to concurrent modification -> New last element might be
-                // added to list
-                final InterfaceProvisionRelation nonRequiredProvision = nonRequiredProvisionRelations.get(i);
+            // Only direct children of the composite are considered, in order of their provisions
+            final List<InterfaceProvisionRelation> childProvisions = new ArrayList<>();
+            for (final Component<?> child : compositesChildren.get(composite)) {
+                childProvisions.addAll(nonRequiredProvisions.get(child));
+            }
+            childProvisions.sort(Comparator.comparing(provisionOrder::get));
+
+            for (final InterfaceProvisionRelation nonRequiredProvision : childProvisions) {
                 final Component<?> provider = nonRequiredProvision.getSource();
                 final Interface providedInterface = nonRequiredProvision.getDestination();
 
-                // Only add if provider is direct child of composite
-                if (this.isDirectChild(provider, composite, compositesChildren)) {
-                    // Check whether delegation already exists in model
-                    boolean existsDelegation = false;
-                    for (final CompositeProvisionDelegationRelation delegationRelation : model
-                        .getByType(CompositeProvisionDelegationRelation.class)) {
-                        if (delegationRelation.getDestination()
-                            .equals(nonRequiredProvision)
-                                && delegationRelation.getSource()
-                                    .getSource()
-                                    .equals(composite)) {
-                            existsDelegation = true;
-                            break;
-                        }
+                // Check whether delegation already exists in model
+                final boolean existsDelegation = model
+                    .relationsTo(nonRequiredProvision, CompositeProvisionDelegationRelation.class)
+                    .stream()
+                    .anyMatch(delegationRelation -> delegationRelation.getSource()
+                        .getSource()
+                        .equals(composite));
+
+                // Check whether interface should be excluded from recursive delegation
+                final boolean excludeDelegation = isExcludedFromDelegation(provider, providedInterface);
+
+                if (!existsDelegation && !excludeDelegation) {
+                    // Check whether interface provision already exists
+                    final Map<Interface, InterfaceProvisionRelation> compositeInterfaces = providedInterfaces
+                        .computeIfAbsent(composite, x -> new HashMap<>());
+                    InterfaceProvisionRelation provisionRelation = compositeInterfaces.get(providedInterface);
+                    // Create new provision if it does not exist yet
+                    if (Objects.isNull(provisionRelation)) {
+                        provisionRelation = new InterfaceProvisionRelation(composite, providedInterface, true);
+
+                        // Add to model and keep the grouped relations up to date
+                        model.add(provisionRelation);
+                        componentProvisions.put(composite, provisionRelation);
+                        compositeInterfaces.put(providedInterface, provisionRelation);
+                        nonRequiredProvisions.put(composite, provisionRelation);
+                        provisionOrder.putIfAbsent(provisionRelation, provisionOrder.size());
                     }
 
-                    // Check whether interface should be excluded from recursive delegation
-                    final boolean excludeDelegation = isExcludedFromDelegation(provider, providedInterface);
-
-                    if (!existsDelegation && !excludeDelegation) {
-                        // Check whether interface provision already exists
-                        InterfaceProvisionRelation provisionRelation = null;
-                        for (final InterfaceProvisionRelation provision : provisionRelations) {
-                            if (provision.getSource()
-                                .equals(composite)
-                                    && provision.getDestination()
-                                        .equals(providedInterface)) {
-                                provisionRelation = provision;
-                            }
-                        }
-                        // Create new provision if it does not exist yet
-                        if (Objects.isNull(provisionRelation)) {
-                            provisionRelation = new InterfaceProvisionRelation(composite, providedInterface, true);
-
-                            // Add to model and refresh already fetched relations
-                            model.add(provisionRelation);
-                            nonRequiredProvisionRelations.add(provisionRelation);
-                            provisionRelations = model.getByType(InterfaceProvisionRelation.class);
-                        }
-
-                        // Add provided delegation connector
-                        final CompositeProvisionDelegationRelation provisionDelegation = new CompositeProvisionDelegationRelation(
-                                provisionRelation, nonRequiredProvision, true);
-                        model.add(provisionDelegation);
-                    }
+                    // Add provided delegation connector
+                    final CompositeProvisionDelegationRelation provisionDelegation = new CompositeProvisionDelegationRelation(
+                            provisionRelation, nonRequiredProvision, true);
+                    model.add(provisionDelegation);
                 }
             }
         }
@@ -298,29 +322,23 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
             final CompositeComponentCreator compositeCreator = this.getCreator(repositoryFactory, composite);
 
             // Add explicitly provided interfaces
-            for (final InterfaceProvisionRelation relation : provisionRelations) {
+            for (final InterfaceProvisionRelation relation : componentProvisions.get(composite)) {
                 final Interface interfaceInstance = relation.getDestination();
-                if (relation.getSource()
-                    .equals(composite)) {
-                    final String interfaceName = interfaceInstance.getValue()
-                        .getEntityName();
-                    final OperationInterface operationInterface = repositoryFactory
-                        .fetchOfOperationInterface(interfaceName);
-                    compositeCreator.provides(operationInterface, getProvidedRoleName(interfaceInstance));
-                }
+                final String interfaceName = interfaceInstance.getValue()
+                    .getEntityName();
+                final OperationInterface operationInterface = repositoryFactory
+                    .fetchOfOperationInterface(interfaceName);
+                compositeCreator.provides(operationInterface, getProvidedRoleName(interfaceInstance));
             }
 
             // Add required interfaces
-            for (final InterfaceRequirementRelation relation : requirementRelations) {
+            for (final InterfaceRequirementRelation relation : componentRequirements.get(composite)) {
                 final Interface interfaceInstance = relation.getDestination();
-                if (relation.getSource()
-                    .equals(composite)) {
-                    final String interfaceName = interfaceInstance.getValue()
-                        .getEntityName();
-                    final OperationInterface operationInterface = repositoryFactory
-                        .fetchOfOperationInterface(interfaceName);
-                    compositeCreator.requires(operationInterface, getRequiredRoleName(interfaceInstance));
-                }
+                final String interfaceName = interfaceInstance.getValue()
+                    .getEntityName();
+                final OperationInterface operationInterface = repositoryFactory
+                    .fetchOfOperationInterface(interfaceName);
+                compositeCreator.requires(operationInterface, getRequiredRoleName(interfaceInstance));
             }
 
             // Add composite to fluent repository
@@ -355,6 +373,12 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
         }
 
         final Repository repository = fluentRepository.createRepositoryNow();
+        final Map<String, CompositeComponent> repositoryComposites = new HashMap<>();
+        for (final RepositoryComponent repositoryComponent : repository.getComponents__Repository()) {
+            if (repositoryComponent instanceof final CompositeComponent repositoryComposite) {
+                repositoryComposites.putIfAbsent(repositoryComposite.getEntityName(), repositoryComposite);
+            }
+        }
 
         // Add assembly connectors for assembly relations of components within same composite
         for (final ComponentAssemblyRelation assemblyRelation : model.getByType(ComponentAssemblyRelation.class)) {
@@ -366,28 +390,16 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
                 .getDestination();
 
             // Get common composites of provider and consumer
-            final List<Composite> providerComposites = compositionRelations.stream()
-                .filter(relation -> relation.getDestination()
-                    .equals(provider))
-                .map(CompositionRelation::getSource)
-                .collect(Collectors.toList());
-            final List<Composite> consumerComposites = compositionRelations.stream()
-                .filter(relation -> relation.getDestination()
-                    .equals(consumer))
-                .map(CompositionRelation::getSource)
-                .collect(Collectors.toList());
-            final List<Composite> commonComposites = providerComposites.stream()
-                .filter(composite -> consumerComposites.contains(composite))
-                .collect(Collectors.toList());
+            final Set<Composite> consumerComposites = new HashSet<>(componentParents.get(consumer));
 
             // Get real composites of wrappers from repository
             final List<CompositeComponent> commonRepositoryComposites = new ArrayList<>();
-            for (final RepositoryComponent repositoryComponent : repository.getComponents__Repository()) {
-                for (final Composite commonComposite : commonComposites) {
-                    if (repositoryComponent.getEntityName()
-                        .equals(commonComposite.getValue()
-                            .getEntityName())) {
-                        commonRepositoryComposites.add((CompositeComponent) repositoryComponent);
+            for (final Composite providerComposite : componentParents.get(provider)) {
+                if (consumerComposites.contains(providerComposite)) {
+                    final CompositeComponent repositoryComposite = repositoryComposites.get(providerComposite.getValue()
+                        .getEntityName());
+                    if (repositoryComposite != null) {
+                        commonRepositoryComposites.add(repositoryComposite);
                     }
                 }
             }
@@ -463,14 +475,9 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
                 .getDestination();
 
             // Fetch composite, assembly context, & roles from repository
-            final CompositeComponent repositoryComposite = (CompositeComponent) repository.getComponents__Repository()
-                .stream()
-                .filter(CompositeComponent.class::isInstance)
-                .filter(component -> component.getEntityName()
-                    .equals(compositeWrapper.getValue()
-                        .getEntityName()))
-                .findFirst()
-                .orElseThrow();
+            final CompositeComponent repositoryComposite = Objects.requireNonNull(
+                    repositoryComposites.get(compositeWrapper.getValue()
+                        .getEntityName()));
             final AssemblyContext childContext = repositoryComposite.getAssemblyContexts__ComposedStructure()
                 .stream()
                 .filter(context -> context.getEncapsulatedComponent__AssemblyContext()
@@ -527,13 +534,9 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
                 .getDestination();
 
             // Fetch composite, assembly context, & roles from repository
-            final CompositeComponent repositoryComposite = (CompositeComponent) repository.getComponents__Repository()
-                .stream()
-                .filter(component -> component.getEntityName()
-                    .equals(compositeWrapper.getValue()
-                        .getEntityName()))
-                .findFirst()
-                .orElseThrow();
+            final CompositeComponent repositoryComposite = Objects.requireNonNull(
+                    repositoryComposites.get(compositeWrapper.getValue()
+                        .getEntityName()));
             final AssemblyContext childContext = repositoryComposite.getAssemblyContexts__ComposedStructure()
                 .stream()
                 .filter(context -> context.getEncapsulatedComponent__AssemblyContext()
@@ -688,6 +691,10 @@ public class RepositoryTransformer implements Transformer<PcmSurrogate, Reposito
         return externalCallActions;
     }
 
+    // Interface and signature name, which have to match for a seff to describe a signature
+    private record SignatureKey(String interfaceName, String signatureName) {
+    }
+
     // TODO Test and move to evaluation helper
     private static boolean representSameSignature(final OperationSignature signature,
             final OperationSignature otherSignature) {
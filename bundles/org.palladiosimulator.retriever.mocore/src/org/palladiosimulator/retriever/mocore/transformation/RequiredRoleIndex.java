@@ -0,0 +1,35 @@
+package org.palladiosimulator.retriever.mocore.transformation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.palladiosimulator.pcm.repository.OperationRequiredRole;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.RequiredRole;
+import org.palladiosimulator.pcm.repository.RepositoryComponent;
+
+/**
+ * Maps the signatures of a component's required interfaces to the role requiring them. If several
+ * roles require a signature, the first one is used. The index has to be rebuilt if the roles of
+ * the component change.
+ */
+public final class RequiredRoleIndex {
+    private final Map<OperationSignature, OperationRequiredRole> roles;
+
+    public RequiredRoleIndex(final RepositoryComponent component) {
+        this.roles = new HashMap<>();
+        for (final RequiredRole role : component.getRequiredRoles_InterfaceRequiringEntity()) {
+            if (role instanceof final OperationRequiredRole operationRole) {
+                for (final OperationSignature signature : operationRole.getRequiredInterface__OperationRequiredRole()
+                    .getSignatures__OperationInterface()) {
+                    this.roles.putIfAbsent(signature, operationRole);
+                }
+            }
+        }
+    }
+
+    public Optional<OperationRequiredRole> getRequiredRole(final OperationSignature signature) {
+        return Optional.ofNullable(this.roles.get(signature));
+    }
+}
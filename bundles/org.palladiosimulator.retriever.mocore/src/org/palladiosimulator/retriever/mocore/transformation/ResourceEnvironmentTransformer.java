@@ -1,7 +1,6 @@
 package org.palladiosimulator.retriever.mocore.transformation;
 
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Set;
 
 import org.palladiosimulator.generator.fluent.resourceenvironment.api.IResourceEnvironment;
@@ -16,7 +15,9 @@ import org.palladiosimulator.retriever.mocore.surrogate.element.Deployment;
 import org.palladiosimulator.retriever.mocore.surrogate.element.LinkResourceSpecification;
 import org.palladiosimulator.retriever.mocore.surrogate.relation.LinkResourceSpecificationRelation;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ListMultimap;
 
 import tools.mdsd.mocore.framework.transformation.Transformer;
 
@@ -61,29 +62,30 @@ public class ResourceEnvironmentTransformer implements Transformer<PcmSurrogate,
         final ResourceEnvironment resourceEnvironment = fluentResourceEnvironment.createResourceEnvironmentNow();
 
         // Copy resource specifications from old to new containers
+        // TODO Use container wrapper.equals
+        final ListMultimap<String, ResourceContainer> wrappedContainers = ArrayListMultimap.create();
+        for (final Deployment deployment : model.getByType(Deployment.class)) {
+            wrappedContainers.put(deployment.getValue()
+                .getEntityName(), deployment.getValue());
+        }
         for (final ResourceContainer container : resourceEnvironment.getResourceContainer_ResourceEnvironment()) {
-            for (final Deployment deployment : model.getByType(Deployment.class)) {
-                // TODO Use container wrapper.equals
-                final ResourceContainer wrappedContainer = deployment.getValue();
-                if (container.getEntityName()
-                    .equals(wrappedContainer.getEntityName())) {
-                    container.getActiveResourceSpecifications_ResourceContainer()
-                        .addAll(wrappedContainer.getActiveResourceSpecifications_ResourceContainer());
-                    container.getHddResourceSpecifications()
-                        .addAll(wrappedContainer.getHddResourceSpecifications());
-                }
+            for (final ResourceContainer wrappedContainer : wrappedContainers.get(container.getEntityName())) {
+                container.getActiveResourceSpecifications_ResourceContainer()
+                    .addAll(wrappedContainer.getActiveResourceSpecifications_ResourceContainer());
+                container.getHddResourceSpecifications()
+                    .addAll(wrappedContainer.getHddResourceSpecifications());
             }
         }
 
         // Add linking resource specifications to PCM linking resources
+        final ListMultimap<String, LinkingResource> linkingResources = ArrayListMultimap.create();
+        for (final LinkingResource linkingResource : resourceEnvironment.getLinkingResources__ResourceEnvironment()) {
+            linkingResources.put(linkingResource.getEntityName(), linkingResource);
+        }
         for (final LinkResourceSpecification specification : linkSpecificationMap.keySet()) {
             final Set<Deployment> deployments = linkSpecificationMap.get(specification);
-            for (final LinkingResource linkingResource : resourceEnvironment
-                .getLinkingResources__ResourceEnvironment()) {
-                if (Objects.equals(getLinkingResourceName(deployments), linkingResource.getEntityName())) {
-                    linkingResource
-                        .setCommunicationLinkResourceSpecifications_LinkingResource(specification.getValue());
-                }
+            for (final LinkingResource linkingResource : linkingResources.get(getLinkingResourceName(deployments))) {
+                linkingResource.setCommunicationLinkResourceSpecifications_LinkingResource(specification.getValue());
             }
         }
 
@@ -0,0 +1,109 @@
+package org.palladiosimulator.retriever.mocore.transformation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Replaces the random identifiers of generated model elements with identifiers derived from their
+ * content. The identifier of an element is a hash of its qualified name, i.e. the names of the
+ * element and its containers, and the roles, i.e. the containment features, they are contained in.
+ * Generating the same model twice thus yields the same identifiers.
+ *
+ * Elements whose qualified names and roles coincide are told apart by their position among their
+ * siblings, so their identifiers are only stable as long as their order is.
+ */
+public final class StableIdentifiers {
+    private static final String ID_FEATURE = "id";
+    private static final String NAME_FEATURE = "entityName";
+    // As long as the UUIDs generated by EMF
+    private static final int ID_LENGTH = 22;
+
+    private StableIdentifiers() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Assigns stable identifiers to the root and all elements it contains.
+     *
+     * @param root
+     *            the root of the model
+     * @param namespace
+     *            distinguishes models whose roots have the same name, e.g. the model kind
+     */
+    public static void assign(final EObject root, final String namespace) {
+        final String key = Objects.requireNonNull(namespace) + "/" + describe(root);
+        final MessageDigest digest = createDigest();
+        assign(root, key, digest);
+    }
+
+    private static void assign(final EObject element, final String key, final MessageDigest digest) {
+        final EAttribute idAttribute = getIdAttribute(element.eClass());
+        if (idAttribute != null) {
+            element.eSet(idAttribute, hash(key, digest));
+        }
+
+        final Map<String, Integer> occurrences = new HashMap<>();
+        for (final EObject child : element.eContents()) {
+            String childKey = key + "/" + child.eContainingFeature()
+                .getName() + "/" + describe(child);
+            final int occurrence = occurrences.merge(childKey, 1, Integer::sum);
+            if (occurrence > 1) {
+                childKey += "#" + occurrence;
+            }
+            assign(child, childKey, digest);
+        }
+    }
+
+    private static String describe(final EObject element) {
+        final EClass eClass = element.eClass();
+        final EStructuralFeature nameFeature = eClass.getEStructuralFeature(NAME_FEATURE);
+        if (nameFeature == null) {
+            return eClass.getName();
+        }
+        return eClass.getName() + ":" + element.eGet(nameFeature);
+    }
+
+    // Null if the elements of the class have no identifier that can be replaced
+    private static EAttribute getIdAttribute(final EClass eClass) {
+        EAttribute idAttribute = eClass.getEIDAttribute();
+        if (idAttribute == null) {
+            final EStructuralFeature feature = eClass.getEStructuralFeature(ID_FEATURE);
+            if (feature instanceof final EAttribute attribute) {
+                idAttribute = attribute;
+            }
+        }
+        if ((idAttribute == null) || !idAttribute.isChangeable() || idAttribute.isMany()
+                || !String.class.equals(idAttribute.getEAttributeType()
+                    .getInstanceClass())) {
+            return null;
+        }
+        return idAttribute;
+    }
+
+    private static String hash(final String key, final MessageDigest digest) {
+        final byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+        return "_" + Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(hash)
+            .substring(0, ID_LENGTH);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.palladiosimulator.retriever.mocore.transformation;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.palladiosimulator.generator.fluent.system.api.ISystemAddition;
 import org.palladiosimulator.generator.fluent.system.factory.FluentSystemFactory;
 import org.palladiosimulator.generator.fluent.system.structure.AssemblyContextCreator;
@@ -48,19 +51,22 @@ public class SystemTransformer implements Transformer<PcmSurrogate, org.palladio
         }
 
         // Add provided delegation connectors for provided non-required interfaces
+        final Set<Interface> requiredInterfaces = new HashSet<>();
+        for (final InterfaceRequirementRelation requirementRelation : model
+            .getByType(InterfaceRequirementRelation.class)) {
+            requiredInterfaces.add(requirementRelation.getDestination());
+        }
+        final Set<Component<?>> compositeChildren = new HashSet<>();
+        for (final CompositionRelation composition : model.getByType(CompositionRelation.class)) {
+            compositeChildren.add(composition.getDestination());
+        }
         for (final InterfaceProvisionRelation relation : model.getByType(InterfaceProvisionRelation.class)) {
             final Interface providedInteface = relation.getDestination();
             final String providedIntefaceName = providedInteface.getValue()
                 .getEntityName();
             final Component<?> provider = relation.getSource();
-            final boolean existsRequirement = model.getByType(InterfaceRequirementRelation.class)
-                .stream()
-                .anyMatch(requirementRelation -> requirementRelation.getDestination()
-                    .equals(providedInteface));
-            final boolean isCompositeChild = model.getByType(CompositionRelation.class)
-                .stream()
-                .anyMatch(composition -> composition.getDestination()
-                    .equals(provider));
+            final boolean existsRequirement = requiredInterfaces.contains(providedInteface);
+            final boolean isCompositeChild = compositeChildren.contains(provider);
             // Check whether interface should be excluded from delegation
             final boolean excludeDelegation = RepositoryTransformer.isExcludedFromDelegation(provider,
                     providedInteface);
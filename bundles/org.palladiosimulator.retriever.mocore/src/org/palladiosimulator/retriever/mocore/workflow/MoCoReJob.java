@@ -1,9 +1,13 @@
 package org.palladiosimulator.retriever.mocore.workflow;
 
-import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.pcm.allocation.Allocation;
 import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
@@ -14,6 +18,7 @@ import org.palladiosimulator.retriever.mocore.surrogate.PcmSurrogate;
 import org.palladiosimulator.retriever.mocore.transformation.AllocationTransformer;
 import org.palladiosimulator.retriever.mocore.transformation.RepositoryTransformer;
 import org.palladiosimulator.retriever.mocore.transformation.ResourceEnvironmentTransformer;
+import org.palladiosimulator.retriever.mocore.transformation.StableIdentifiers;
 import org.palladiosimulator.retriever.mocore.transformation.SystemTransformer;
 
 import de.uka.ipd.sdq.workflow.blackboard.Blackboard;
@@ -21,10 +26,11 @@ import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
 import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
 import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
 import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
-import tools.mdsd.mocore.framework.discovery.Discoverer;
 
 public class MoCoReJob implements IBlackboardInteractingJob<Blackboard<Object>> {
     private static final String JOB_NAME = "Model Composition & Refinement Job";
+    // At most the system and the resource environment are transformed at the same time
+    private static final int TRANSFORMATION_THREADS = 2;
 
     private Blackboard<Object> blackboard;
     private final String repositoryInputKey;
@@ -32,6 +38,7 @@ public class MoCoReJob implements IBlackboardInteractingJob<Blackboard<Object>>
     private final String systemOutputKey;
     private final String allocationOutputKey;
     private final String resourceEnvironmentOutputKey;
+    private boolean assigningStableIdentifiers;
 
     public MoCoReJob(final Blackboard<Object> blackboard, final String repositoryInputKey,
             final String repositoryOutputKey, final String systemOutputKey, final String allocationOutputKey,
@@ -50,23 +57,49 @@ public class MoCoReJob implements IBlackboardInteractingJob<Blackboard<Object>>
         monitor.subTask("Retrieving job input from blackboard");
         final Repository inputRepository = (Repository) this.blackboard.getPartition(this.repositoryInputKey);
 
-        // Convert input into processable discoverers
-        monitor.subTask("Converting input into processable discoveries");
-        final RepositoryDecompositor repositoryDecompositor = new RepositoryDecompositor();
-        final Collection<Discoverer<?>> discoverers = repositoryDecompositor.decompose(inputRepository);
-
-        // Composite & refine discoveries via PCM orchestrator
+        // Composite & refine discoveries via PCM orchestrator while decomposing the input
         monitor.subTask("Processing discoveries");
+        final RepositoryDecompositor repositoryDecompositor = new RepositoryDecompositor();
         final PcmOrchestrator orchestrator = new PcmOrchestrator();
-        discoverers.forEach(orchestrator::processDiscoverer);
+        orchestrator.processDiscoveries(repositoryDecompositor.stream(inputRepository));
 
         // Transform surrogate model into PCM models
         monitor.subTask("Transforming surrogate model into output models");
         final PcmSurrogate surrogate = orchestrator.getModel();
-        final Repository repository = new RepositoryTransformer().transform(surrogate);
-        final System system = new SystemTransformer().transform(surrogate, repository);
-        final ResourceEnvironment resourceEnvironment = new ResourceEnvironmentTransformer().transform(surrogate);
-        final Allocation allocation = new AllocationTransformer().transform(surrogate, system, resourceEnvironment);
+        final Repository repository;
+        final System system;
+        final ResourceEnvironment resourceEnvironment;
+        final Allocation allocation;
+        final ExecutorService executor = Executors.newFixedThreadPool(TRANSFORMATION_THREADS);
+        try {
+            // The repository transformation adds delegations to the surrogate, so it runs alone.
+            // The later transformations only read the surrogate, so the system and the resource
+            // environment are transformed concurrently. Every transformation creates its own
+            // model, hence the results do not depend on the scheduling.
+            final CompletableFuture<Repository> repositoryFuture = CompletableFuture
+                .supplyAsync(() -> this.identify(new RepositoryTransformer().transform(surrogate), "repository"),
+                        executor);
+            final CompletableFuture<ResourceEnvironment> resourceEnvironmentFuture = repositoryFuture.thenApplyAsync(
+                    transformedRepository -> this.identify(new ResourceEnvironmentTransformer().transform(surrogate),
+                            "resourceenvironment"),
+                    executor);
+            final CompletableFuture<System> systemFuture = repositoryFuture.thenApplyAsync(
+                    transformedRepository -> this
+                        .identify(new SystemTransformer().transform(surrogate, transformedRepository), "system"),
+                    executor);
+            final CompletableFuture<Allocation> allocationFuture = systemFuture.thenCombineAsync(
+                    resourceEnvironmentFuture,
+                    (transformedSystem, transformedResourceEnvironment) -> this.identify(new AllocationTransformer()
+                        .transform(surrogate, transformedSystem, transformedResourceEnvironment), "allocation"),
+                    executor);
+
+            allocation = await(allocationFuture);
+            repository = await(repositoryFuture);
+            system = await(systemFuture);
+            resourceEnvironment = await(resourceEnvironmentFuture);
+        } finally {
+            executor.shutdownNow();
+        }
 
         // Add transformed models to blackboard
         monitor.subTask("Adding output models to blackboard");
@@ -77,6 +110,38 @@ public class MoCoReJob implements IBlackboardInteractingJob<Blackboard<Object>>
         monitor.done();
     }
 
+    /**
+     * Whether the transformed models get identifiers derived from their content instead of random
+     * ones, see {@link StableIdentifiers}.
+     */
+    public boolean isAssigningStableIdentifiers() {
+        return this.assigningStableIdentifiers;
+    }
+
+    public void setAssigningStableIdentifiers(final boolean assigningStableIdentifiers) {
+        this.assigningStableIdentifiers = assigningStableIdentifiers;
+    }
+
+    // Each model only contains elements of its own transformation, so they can be identified concurrently
+    private <T extends EObject> T identify(final T model, final String namespace) {
+        if (this.assigningStableIdentifiers) {
+            StableIdentifiers.assign(model, namespace);
+        }
+        return model;
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) throws JobFailedException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new JobFailedException(JOB_NAME + " was interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new JobFailedException(JOB_NAME + " failed to transform the surrogate model", e.getCause());
+        }
+    }
+
     @Override
     public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
         // No cleanup required for the job
@@ -3,17 +3,23 @@ package org.palladiosimulator.retriever.mocore.discovery;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.palladiosimulator.generator.fluent.repository.factory.FluentRepositoryFactory;
 import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.retriever.mocore.surrogate.element.AtomicComponent;
+import org.palladiosimulator.retriever.mocore.surrogate.relation.InterfaceProvisionRelation;
+import org.palladiosimulator.retriever.mocore.surrogate.relation.InterfaceRequirementRelation;
+import org.palladiosimulator.retriever.mocore.surrogate.relation.SignatureProvisionRelation;
 
 import tools.mdsd.mocore.framework.discovery.Discoverer;
+import tools.mdsd.mocore.framework.surrogate.Replaceable;
 
 @SuppressWarnings("unchecked")
 public class RepositoryDecompositorTest extends DecompositorTest<RepositoryDecompositor, Repository> {
@@ -69,6 +75,46 @@ public class RepositoryDecompositorTest extends DecompositorTest<RepositoryDecom
         }
     }
 
+    @Test
+    public void testStreamComponentsBeforeRelationsWithSharedWrappers() {
+        final RepositoryDecompositor decompositor = this.createDecompositor();
+        final FluentRepositoryFactory factory = new FluentRepositoryFactory();
+        final Repository repository = factory.newRepository()
+            .addToRepository(factory.newOperationInterface()
+                .withName("Interface")
+                .withOperationSignature(factory.newOperationSignature()
+                    .withName("call")))
+            .addToRepository(factory.newBasicComponent()
+                .withName("Provider")
+                .provides(factory.fetchOfOperationInterface("Interface"), "Provided Role"))
+            .addToRepository(factory.newBasicComponent()
+                .withName("Consumer")
+                .requires(factory.fetchOfOperationInterface("Interface"), "Required Role"))
+            .createRepositoryNow();
+
+        final List<Replaceable> discoveries = decompositor.stream(repository)
+            .collect(Collectors.toList());
+
+        // The components come first, each component's relations follow in component order
+        assertEquals(5, discoveries.size());
+        final AtomicComponent provider = (AtomicComponent) discoveries.get(0);
+        assertEquals("Provider", provider.getValue()
+            .getEntityName());
+        final AtomicComponent consumer = (AtomicComponent) discoveries.get(1);
+        assertEquals("Consumer", consumer.getValue()
+            .getEntityName());
+        final InterfaceProvisionRelation provision = (InterfaceProvisionRelation) discoveries.get(2);
+        assertSame(provider, provision.getSource());
+        final SignatureProvisionRelation signatureProvision = (SignatureProvisionRelation) discoveries.get(3);
+        final InterfaceRequirementRelation requirement = (InterfaceRequirementRelation) discoveries.get(4);
+        assertSame(consumer, requirement.getSource());
+
+        // The interface is wrapped once for all relations, and its signature provision is
+        // streamed once although both components refer to the interface
+        assertSame(provision.getDestination(), requirement.getDestination());
+        assertSame(provision.getDestination(), signatureProvision.getDestination());
+    }
+
     // TODO Add tests for interface, signatures, seff, and all relevant relations
     // TODO Add tests for composition, delegation
 
@@ -4,10 +4,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.mocore.discovery.SimpleDiscoverer;
 import org.palladiosimulator.retriever.mocore.surrogate.PcmSurrogate;
 import org.palladiosimulator.retriever.mocore.surrogate.element.Component;
 import org.palladiosimulator.retriever.mocore.surrogate.element.Deployment;
@@ -23,6 +27,9 @@ import org.palladiosimulator.retriever.mocore.surrogate.relation.LinkResourceSpe
 import org.palladiosimulator.retriever.mocore.surrogate.relation.SignatureProvisionRelation;
 import org.palladiosimulator.retriever.mocore.utility.ElementFactory;
 
+import tools.mdsd.mocore.framework.discovery.Discoverer;
+import tools.mdsd.mocore.framework.surrogate.Replaceable;
+
 public class PcmOrchestratorTest {
     @Test
     public void testExistsComponentAfterProcess() {
@@ -61,6 +68,56 @@ public class PcmOrchestratorTest {
             .contains(deployment));
     }
 
+    @Test
+    public void testExistDiscoveriesAfterStreamProcess() {
+        // Test data
+        final PcmOrchestrator orchestrator = new PcmOrchestrator();
+        final Component<?> component = ElementFactory.createUniqueComponent(false);
+        final Deployment deployment = ElementFactory.createUniqueDeployment(false);
+        final ComponentAllocationRelation allocation = new ComponentAllocationRelation(component, deployment,
+                false);
+
+        // Execution: elements precede the relation between them
+        orchestrator.processDiscoveries(Stream.of(component, deployment, allocation));
+
+        // Assertions
+        final PcmSurrogate model = orchestrator.getModel();
+        assertTrue(model.contains(component));
+        assertTrue(model.contains(deployment));
+        assertTrue(model.contains(allocation));
+    }
+
+    @Test
+    public void testBatchProcessMatchesSequentialProcessWithFewerReplacements() {
+        // Test data
+        final Signature signature = ElementFactory.createUniqueSignature(false);
+        final Interface interfaceElement = ElementFactory.createUniqueInterface(false);
+        final SignatureProvisionRelation signatureProvision = new SignatureProvisionRelation(signature,
+                interfaceElement, false);
+        // Elements first, so that the sequential process implies a placeholder interface for the
+        // signature, which the signature provision replaces
+        final Collection<Discoverer<?>> discoverers = List.of(
+                new SimpleDiscoverer<>(Set.of(signature), Signature.class),
+                new SimpleDiscoverer<>(Set.of(interfaceElement), Interface.class),
+                new SimpleDiscoverer<>(Set.of(signatureProvision), SignatureProvisionRelation.class),
+                new SimpleDiscoverer<>(Set.of(signature), Signature.class));
+
+        // Execution
+        final CountingSurrogate sequentialModel = new CountingSurrogate();
+        final PcmOrchestrator sequentialOrchestrator = new PcmOrchestrator(sequentialModel);
+        discoverers.forEach(sequentialOrchestrator::processDiscoverer);
+        final CountingSurrogate batchModel = new CountingSurrogate();
+        new PcmOrchestrator(batchModel).processDiscoverers(discoverers);
+
+        // Assertions
+        for (final Class<? extends Replaceable> type : List.of(Signature.class, Interface.class,
+                SignatureProvisionRelation.class)) {
+            assertEquals(getNonPlaceholders(sequentialModel, type), getNonPlaceholders(batchModel, type));
+        }
+        assertTrue(batchModel.contains(signatureProvision));
+        assertTrue(batchModel.replacements < sequentialModel.replacements);
+    }
+
     @Test
     public void testChainReplacementOfPlaceholders() {
         // Test data
@@ -151,4 +208,25 @@ public class PcmOrchestratorTest {
         assertEquals(0, model.getByType(LinkResourceSpecificationRelation.class)
             .size());
     }
+
+    private static Set<Replaceable> getNonPlaceholders(final PcmSurrogate model,
+            final Class<? extends Replaceable> type) {
+        final Set<Replaceable> nonPlaceholders = new HashSet<>();
+        for (final Replaceable replaceable : model.getByType(type)) {
+            if (!replaceable.isPlaceholder()) {
+                nonPlaceholders.add(replaceable);
+            }
+        }
+        return nonPlaceholders;
+    }
+
+    private static final class CountingSurrogate extends PcmSurrogate {
+        private int replacements;
+
+        @Override
+        public <T extends Replaceable> List<Replaceable> replace(final T original, final T replacement) {
+            this.replacements++;
+            return super.replace(original, replacement);
+        }
+    }
 }
@@ -1,11 +1,105 @@
 package org.palladiosimulator.retriever.mocore.surrogate;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.mocore.surrogate.element.Component;
+import org.palladiosimulator.retriever.mocore.surrogate.element.Composite;
+import org.palladiosimulator.retriever.mocore.surrogate.element.Deployment;
+import org.palladiosimulator.retriever.mocore.surrogate.relation.ComponentAllocationRelation;
+import org.palladiosimulator.retriever.mocore.utility.ElementFactory;
+
 import tools.mdsd.mocore.framework.surrogate.ModelTest;
 import tools.mdsd.mocore.framework.surrogate.Relation;
 import tools.mdsd.mocore.utility.SimpleElement;
 import tools.mdsd.mocore.utility.SimpleRelation;
 
 public class PcmSurrogateTest extends ModelTest<PcmSurrogate, SimpleElement> {
+    @Test
+    public void testRelationQueriesFilterBySourceDestinationAndType() {
+        // Test data
+        final PcmSurrogate model = this.createEmptyModel();
+        final Component<?> component = ElementFactory.createUniqueComponent(false);
+        final Component<?> otherComponent = ElementFactory.createUniqueComponent(false);
+        final Deployment deployment = ElementFactory.createUniqueDeployment(false);
+        final ComponentAllocationRelation allocation = new ComponentAllocationRelation(component, deployment,
+                false);
+        final ComponentAllocationRelation otherAllocation = new ComponentAllocationRelation(otherComponent,
+                deployment, false);
+
+        // Execution
+        model.add(component);
+        model.add(otherComponent);
+        model.add(deployment);
+        model.add(allocation);
+        model.add(otherAllocation);
+
+        // Assertions
+        assertEquals(List.of(allocation), model.relationsFrom(component, ComponentAllocationRelation.class));
+        assertEquals(List.of(allocation, otherAllocation),
+                model.relationsTo(deployment, ComponentAllocationRelation.class));
+        assertTrue(model.relationsFrom(deployment, ComponentAllocationRelation.class)
+            .isEmpty());
+        assertTrue(model.relationsFrom(component, SimpleRelation.class)
+            .isEmpty());
+        assertEquals(List.of(deployment), model.elementsOf(Deployment.class));
+    }
+
+    @Test
+    public void testElementsOfSubtypesAreGroupedInInsertionOrder() {
+        // Test data
+        final PcmSurrogate model = this.createEmptyModel();
+        final Composite composite = ElementFactory.createUniqueComposite(false);
+        final Component<?> component = ElementFactory.createUniqueComponent(false);
+        final Composite otherComposite = ElementFactory.createUniqueComposite(false);
+        final Component<?> otherComponent = ElementFactory.createUniqueComponent(false);
+
+        // Execution
+        model.add(composite);
+        model.add(ElementFactory.createUniqueDeployment(false));
+        model.add(component);
+        model.add(otherComposite);
+        model.add(otherComponent);
+
+        // Assertions
+        assertEquals(List.of(composite, otherComposite, component, otherComponent),
+                model.elementsOf(Component.class));
+        assertEquals(List.of(composite, otherComposite), model.elementsOf(Composite.class));
+    }
+
+    @Test
+    public void testRelationQueriesFollowReplacements() {
+        // Test data
+        final PcmSurrogate model = this.createEmptyModel();
+        final Component<?> component = ElementFactory.createUniqueComponent(false);
+        final Deployment placeholder = ElementFactory.createUniqueDeployment(true);
+        final Deployment deployment = ElementFactory.createUniqueDeployment(false);
+        final ComponentAllocationRelation allocation = new ComponentAllocationRelation(component, placeholder,
+                true);
+        model.add(component);
+        model.add(placeholder);
+        model.add(allocation);
+
+        // Execution
+        model.replace(placeholder, deployment);
+
+        // Assertions
+        final List<ComponentAllocationRelation> allocations = model.relationsFrom(component,
+                ComponentAllocationRelation.class);
+        assertEquals(1, allocations.size());
+        assertEquals(deployment, allocations.get(0)
+            .getDestination());
+        assertTrue(model.relationsTo(placeholder, ComponentAllocationRelation.class)
+            .isEmpty());
+        assertEquals(allocations, model.relationsTo(deployment, ComponentAllocationRelation.class));
+        assertTrue(model.contains(deployment));
+        assertFalse(model.contains(placeholder));
+    }
+
     @Override
     protected PcmSurrogate createEmptyModel() {
         return new PcmSurrogate();
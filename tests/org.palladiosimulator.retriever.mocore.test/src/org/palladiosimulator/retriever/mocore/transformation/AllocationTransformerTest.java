@@ -1,12 +1,17 @@
 package org.palladiosimulator.retriever.mocore.transformation;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.palladiosimulator.retriever.mocore.utility.PcmEvaluationUtility.containsRepresentative;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationContext;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.system.System;
 import org.palladiosimulator.retriever.mocore.surrogate.PcmSurrogate;
 import org.palladiosimulator.retriever.mocore.surrogate.element.Component;
 import org.palladiosimulator.retriever.mocore.surrogate.element.Deployment;
@@ -38,6 +43,35 @@ public class AllocationTransformerTest extends TransformerTest<AllocationTransfo
         assertTrue(containsRepresentative(allocation, allocationRelation));
     }
 
+    @Test
+    public void testContextsReferenceEntitiesOfSystemAndResourceEnvironment() {
+        // Test data
+        final AllocationTransformer transformer = this.createTransformer();
+        final PcmSurrogate model = this.createEmptyModel();
+        final Deployment deployment = Deployment.getUniquePlaceholder();
+        model.add(deployment);
+        for (int i = 0; i < 3; i++) {
+            final Component<?> component = Component.getUniquePlaceholder();
+            model.add(component);
+            model.add(new ComponentAllocationRelation(component, deployment, false));
+        }
+        final System system = new SystemTransformer().transform(model);
+        final ResourceEnvironment resourceEnvironment = new ResourceEnvironmentTransformer().transform(model);
+
+        // Execution
+        final Allocation allocation = transformer.transform(model, system, resourceEnvironment);
+
+        // Assertion
+        assertEquals(3, allocation.getAllocationContexts_Allocation()
+            .size());
+        for (final AllocationContext allocationContext : allocation.getAllocationContexts_Allocation()) {
+            assertTrue(system.getAssemblyContexts__ComposedStructure()
+                .contains(allocationContext.getAssemblyContext_AllocationContext()));
+            assertTrue(resourceEnvironment.getResourceContainer_ResourceEnvironment()
+                .contains(allocationContext.getResourceContainer_AllocationContext()));
+        }
+    }
+
     @Override
     protected AllocationTransformer createTransformer() {
         return new AllocationTransformer();
@@ -0,0 +1,58 @@
+package org.palladiosimulator.retriever.mocore.transformation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.pcm.repository.BasicComponent;
+import org.palladiosimulator.pcm.repository.OperationInterface;
+import org.palladiosimulator.pcm.repository.OperationRequiredRole;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+
+public class RequiredRoleIndexTest {
+    @Test
+    public void testFirstRequiringRoleIsFound() {
+        // Test data
+        final OperationInterface interFace = RepositoryFactory.eINSTANCE.createOperationInterface();
+        final OperationSignature signature = RepositoryFactory.eINSTANCE.createOperationSignature();
+        interFace.getSignatures__OperationInterface()
+            .add(signature);
+        final OperationRequiredRole firstRole = createRequiredRole(interFace);
+        final OperationRequiredRole secondRole = createRequiredRole(interFace);
+        final BasicComponent component = RepositoryFactory.eINSTANCE.createBasicComponent();
+        component.getRequiredRoles_InterfaceRequiringEntity()
+            .add(firstRole);
+        component.getRequiredRoles_InterfaceRequiringEntity()
+            .add(secondRole);
+
+        // Execution
+        final RequiredRoleIndex index = new RequiredRoleIndex(component);
+
+        // Assertion
+        assertEquals(firstRole, index.getRequiredRole(signature)
+            .orElseThrow());
+    }
+
+    @Test
+    public void testUnrequiredSignatureIsNotFound() {
+        // Test data
+        final OperationInterface interFace = RepositoryFactory.eINSTANCE.createOperationInterface();
+        final BasicComponent component = RepositoryFactory.eINSTANCE.createBasicComponent();
+        component.getRequiredRoles_InterfaceRequiringEntity()
+            .add(createRequiredRole(interFace));
+
+        // Execution
+        final RequiredRoleIndex index = new RequiredRoleIndex(component);
+
+        // Assertion
+        assertTrue(index.getRequiredRole(RepositoryFactory.eINSTANCE.createOperationSignature())
+            .isEmpty());
+    }
+
+    private static OperationRequiredRole createRequiredRole(final OperationInterface interFace) {
+        final OperationRequiredRole role = RepositoryFactory.eINSTANCE.createOperationRequiredRole();
+        role.setRequiredInterface__OperationRequiredRole(interFace);
+        return role;
+    }
+}
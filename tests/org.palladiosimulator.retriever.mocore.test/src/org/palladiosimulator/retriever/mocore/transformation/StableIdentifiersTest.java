@@ -0,0 +1,78 @@
+package org.palladiosimulator.retriever.mocore.transformation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.generator.fluent.repository.factory.FluentRepositoryFactory;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.pcm.repository.RepositoryComponent;
+
+public class StableIdentifiersTest {
+    @Test
+    public void testIdenticalModelsGetIdenticalIdentifiers() {
+        final Repository first = createRepository();
+        final Repository second = createRepository();
+        assertNotEquals(first.getId(), second.getId());
+
+        StableIdentifiers.assign(first, "repository");
+        StableIdentifiers.assign(second, "repository");
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(identifiers(first.getComponents__Repository()), identifiers(second.getComponents__Repository()));
+    }
+
+    @Test
+    public void testIdentifiersAreUnique() {
+        final Repository repository = createRepository();
+        StableIdentifiers.assign(repository, "repository");
+
+        final List<String> identifiers = new ArrayList<>();
+        identifiers.add(repository.getId());
+        EcoreUtil.getAllContents(repository, true)
+            .forEachRemaining(element -> {
+                if (EcoreUtil.getID(element) != null) {
+                    identifiers.add(EcoreUtil.getID(element));
+                }
+            });
+        // Both components named "Component" are told apart by their position
+        assertEquals(identifiers.size(), new HashSet<>(identifiers).size());
+        final List<String> componentIdentifiers = identifiers(repository.getComponents__Repository());
+        assertNotEquals(componentIdentifiers.get(0), componentIdentifiers.get(1));
+    }
+
+    @Test
+    public void testNamespacesSeparateModels() {
+        final Repository first = createRepository();
+        final Repository second = createRepository();
+
+        StableIdentifiers.assign(first, "first");
+        StableIdentifiers.assign(second, "second");
+
+        assertNotEquals(first.getId(), second.getId());
+    }
+
+    private static List<String> identifiers(final List<RepositoryComponent> components) {
+        return components.stream()
+            .map(RepositoryComponent::getId)
+            .toList();
+    }
+
+    private static Repository createRepository() {
+        final FluentRepositoryFactory create = new FluentRepositoryFactory();
+        return create.newRepository()
+            .withName("Repository")
+            .addToRepository(create.newBasicComponent()
+                .withName("Component"))
+            .addToRepository(create.newBasicComponent()
+                .withName("Component"))
+            .addToRepository(create.newCompositeComponent()
+                .withName("Composite"))
+            .createRepositoryNow();
+    }
+}
@@ -0,0 +1,123 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.MethodDescriptor;
+import org.palladiosimulator.retriever.extraction.commonalities.Operation;
+import org.palladiosimulator.retriever.extraction.commonalities.TypeDescriptor;
+
+public class DescriptorTest {
+
+    private static final String SOURCE = "package example; import java.util.List; public class Example {"
+            + " public List<String> find(final int[] ids, final String prefix) { return null; } }";
+
+    @Test
+    public void testOperationDescribesItsMethod() {
+        final CompilationUnit unit = parse();
+        final MethodDeclaration declaration = ((TypeDeclaration) unit.types()
+            .get(0)).getMethods()[0];
+        final IMethodBinding binding = declaration.resolveBinding();
+        final Operation operation = new Operation(binding, new JavaOperationName("Example", "find"));
+
+        final MethodDescriptor method = operation.getMethod();
+        assertEquals("find", method.name());
+        assertEquals("example.Example", method.declaringType());
+        assertEquals(List.of("ids", "prefix"), method.parameterNames());
+
+        final TypeDescriptor ids = method.parameterTypes()
+            .get(0);
+        assertEquals(1, ids.dimensions());
+        assertFalse(ids.primitive());
+        final TypeDescriptor returned = method.returnType();
+        assertTrue(returned.collection());
+        assertEquals("java.lang.String", returned.typeArguments()
+            .get(0)
+            .qualifiedName());
+
+        // The declaration can be found again without the binding
+        assertSame(declaration, unit.findDeclaringNode(method.key()));
+        assertEquals(operation, new Operation(binding, new JavaOperationName("Example", "find")));
+    }
+
+    @Test
+    public void testUnitsAreIdentifiedByPathAndName() {
+        final CompilationUnit unit = parse("first/src/main/java/example/Example.java");
+        final CompUnitOrName identifier = new CompUnitOrName(unit);
+
+        assertEquals("example.Example", identifier.name());
+        assertTrue(identifier.isUnit());
+        assertNotNull(identifier.compilationUnit()
+            .orElse(null));
+        assertEquals(identifier, new CompUnitOrName(unit));
+        assertEquals(identifier, new CompUnitOrName(parse("first/src/main/java/example/Example.java")));
+        assertFalse(identifier.equals(new CompUnitOrName("example.Example")));
+    }
+
+    @Test
+    public void testUnitsWithTheSameNameInDifferentModulesDiffer() {
+        final CompUnitOrName first = new CompUnitOrName(parse("first/src/main/java/example/Example.java"));
+        final CompUnitOrName second = new CompUnitOrName(parse("second/src/main/java/example/Example.java"));
+
+        assertEquals(first.name(), second.name());
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void testUnitsWithoutPathAreOnlyEqualToThemselves() {
+        final CompilationUnit unit = parse(null);
+        final CompUnitOrName identifier = new CompUnitOrName(unit);
+
+        assertEquals(identifier, new CompUnitOrName(unit));
+        assertNotEquals(identifier, new CompUnitOrName(parse(null)));
+        // Units without types are all named "void"
+        assertNotEquals(new CompUnitOrName(parseEmpty()), new CompUnitOrName(parseEmpty()));
+    }
+
+    private static CompilationUnit parse() {
+        return parse(null);
+    }
+
+    private static CompilationUnit parse(final String sourcePath) {
+        final CompilationUnit unit = parseSource(SOURCE);
+        if (sourcePath != null) {
+            unit.setProperty(CompUnitOrName.SOURCE_PATH_PROPERTY, sourcePath);
+        }
+        return unit;
+    }
+
+    private static CompilationUnit parseEmpty() {
+        return parseSource("package example;");
+    }
+
+    private static CompilationUnit parseSource(final String source) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setResolveBindings(true);
+        parser.setBindingsRecovery(true);
+        final String latestJavaVersion = JavaCore.latestSupportedJavaVersion();
+        parser.setCompilerOptions(Map.of(JavaCore.COMPILER_SOURCE, latestJavaVersion, JavaCore.COMPILER_COMPLIANCE,
+                latestJavaVersion, JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, latestJavaVersion));
+        parser.setEnvironment(new String[0], new String[0], new String[0], true);
+        parser.setUnitName("Example.java");
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+}
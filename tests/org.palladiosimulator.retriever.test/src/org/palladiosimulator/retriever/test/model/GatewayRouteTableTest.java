@@ -0,0 +1,77 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTName;
+import org.palladiosimulator.retriever.extraction.rules.data.GatewayRoute;
+import org.palladiosimulator.retriever.extraction.rules.data.GatewayRouteTable;
+
+public class GatewayRouteTableTest {
+    private static final String HOST = "gateway";
+
+    // Overlapping on purpose: later routes are shadowed by earlier ones for some URLs only
+    private static final List<GatewayRoute> ROUTES = List.of(new GatewayRoute("/api/users/*/orders", "orders", 0),
+            new GatewayRoute("/api/**", "api", true), new GatewayRoute("/api/users/**", "users", true),
+            new GatewayRoute("/*/health", "health", 0), new GatewayRoute("/static/**/*.js", "scripts", 1),
+            new GatewayRoute("/static/{file}", "files", 1), new GatewayRoute("/v?/items/**", "items", true),
+            new GatewayRoute("/**/admin", "admin", 0), new GatewayRoute("/exact", "exact", 0),
+            new GatewayRoute(null, "broken", 0), new GatewayRoute("/**", "fallback", 0));
+
+    private static final List<String> URLS = List.of("/api/users/42/orders", "/api/users/42", "/api", "/api/",
+            "/users/health", "/api/health", "/static/js/app.js", "/static/app.js", "/static/app.css",
+            "/static/a/b/c/app.js", "/v1/items/7", "/v12/items/7", "/shop/admin", "/admin", "/a/b/admin/x", "/exact",
+            "/exact/more", "/", "", "/unknown/path");
+
+    @Test
+    public void testTableFindsTheFirstMatchOfTheLinearScan() {
+        final GatewayRouteTable table = new GatewayRouteTable(ROUTES);
+        for (final String url : URLS) {
+            assertEquals(scan(ROUTES, url), table.map(HOST, url), url);
+        }
+    }
+
+    @Test
+    public void testEveryRouteOrderAgreesWithTheLinearScan() {
+        // Rotating the routes changes which of the overlapping patterns comes first
+        for (int offset = 0; offset < ROUTES.size(); ++offset) {
+            final List<GatewayRoute> routes = rotate(ROUTES, offset);
+            final GatewayRouteTable table = new GatewayRouteTable(routes);
+            for (final String url : URLS) {
+                assertEquals(scan(routes, url), table.map(HOST, url), offset + ": " + url);
+            }
+        }
+    }
+
+    @Test
+    public void testOverlappingWildcards() {
+        final GatewayRouteTable table = new GatewayRouteTable(ROUTES);
+        assertEquals(new RESTName("orders", "/api/users/42/orders"), table.map(HOST, "/api/users/42/orders"));
+        // "/api/**" precedes the more specific "/api/users/**" and strips as many segments as it has
+        assertEquals(new RESTName("api", "/42"), table.map(HOST, "/api/users/42"));
+        assertEquals(new RESTName("scripts", "/a/b/c/app.js"), table.map(HOST, "/static/a/b/c/app.js"));
+        assertEquals(new RESTName("files", "/app.css"), table.map(HOST, "/static/app.css"));
+        assertEquals(new RESTName("admin", "/shop/admin"), table.map(HOST, "/shop/admin"));
+        final GatewayRouteTable withoutFallback = new GatewayRouteTable(ROUTES.subList(0, 9));
+        assertEquals(new RESTName(HOST, "/unknown"), withoutFallback.map(HOST, "/unknown"));
+    }
+
+    // The lookup before routes were compiled into a trie
+    private static RESTName scan(final List<GatewayRoute> routes, final String url) {
+        for (final GatewayRoute route : routes) {
+            if (route.matches(url)) {
+                return route.applyTo(url);
+            }
+        }
+        return new RESTName(HOST, url);
+    }
+
+    private static <T> List<T> rotate(final List<T> list, final int offset) {
+        final List<T> rotated = new ArrayList<>(list.subList(offset, list.size()));
+        rotated.addAll(list.subList(0, offset));
+        return rotated;
+    }
+}
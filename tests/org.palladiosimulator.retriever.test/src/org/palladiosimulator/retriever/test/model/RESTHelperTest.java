@@ -0,0 +1,73 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.rules.util.RESTHelper;
+
+public class RESTHelperTest {
+    private static final String ALPHABET = "ab/{}*[]:";
+    private static final int SAMPLES = 100_000;
+    private static final int MAXIMUM_LENGTH = 12;
+
+    @Test
+    public void testArgumentsMatchTheRegexChain() {
+        assertEquals("/users/*/orders", RESTHelper.replaceArgumentsWithWildcards("users/{id}/orders/"));
+        assertEquals("/a[/b]", RESTHelper.replaceArgumentsWithWildcards("//a/*/[/b]"));
+
+        final Random random = new Random(0);
+        for (int i = 0; i < SAMPLES; ++i) {
+            final String mapping = randomPath(random);
+            assertEquals(oldReplaceArgumentsWithWildcards(mapping), RESTHelper.replaceArgumentsWithWildcards(mapping),
+                    mapping);
+        }
+    }
+
+    @Test
+    public void testVariablesMatchTheRegexChain() {
+        assertEquals("/users/*/orders/*", RESTHelper.replaceVariablesWithWildcards("/users/:id/orders/:order", ':'));
+
+        final Random random = new Random(0);
+        for (int i = 0; i < SAMPLES; ++i) {
+            final String url = randomPath(random);
+            assertEquals(oldReplaceVariablesWithWildcards(url), RESTHelper.replaceVariablesWithWildcards(url, ':'),
+                    url);
+        }
+    }
+
+    @Test
+    public void testResultsAreInterned() {
+        assertSame(RESTHelper.replaceArgumentsWithWildcards(new String("a/{b}")),
+                RESTHelper.replaceArgumentsWithWildcards(new String("a/{b}")));
+        assertSame(RESTHelper.replaceVariablesWithWildcards(new String("/a/:b"), ':'),
+                RESTHelper.replaceVariablesWithWildcards(new String("/a/:b"), ':'));
+    }
+
+    private static String randomPath(final Random random) {
+        final StringBuilder path = new StringBuilder();
+        final int length = random.nextInt(MAXIMUM_LENGTH + 1);
+        for (int i = 0; i < length; ++i) {
+            path.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return path.toString();
+    }
+
+    // RESTHelper.replaceArgumentsWithWildcards before it became a single pass
+    private static String oldReplaceArgumentsWithWildcards(final String methodName) {
+        String newName = methodName.replaceAll("\\{.*\\}", "*")
+            .replaceAll("[\\*\\/]*$", "")
+            .replaceAll("[\\*\\/]*\\[", "[");
+        newName = "/" + newName;
+        newName = newName.replaceAll("/+", "/");
+        return newName;
+    }
+
+    // The variable replacement EcmaScriptRules did before it moved into RESTHelper
+    private static String oldReplaceVariablesWithWildcards(final String url) {
+        final String urlWithoutInteriorParameters = url.replaceAll(":.+?/", "*/");
+        return urlWithoutInteriorParameters.replaceAll(":.*", "*");
+    }
+}
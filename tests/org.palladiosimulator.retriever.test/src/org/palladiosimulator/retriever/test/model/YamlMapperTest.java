@@ -0,0 +1,124 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.discoverers.wrappers.YamlMapper;
+
+public class YamlMapperTest {
+    // Includes keys that contain the separator, empty keys and keys that are no strings
+    private static final List<Object> KEYS = List.of("a", "b", "c", "", "a.b", 1);
+    private static final List<String> SEGMENTS = List.of("a", "b", "c", "", "1");
+
+    @Test
+    public void testIndexAgreesWithTheNestedTraversal() {
+        final Random random = new Random(42);
+        for (int document = 0; document < 2_000; ++document) {
+            final List<Object> subfiles = new ArrayList<>();
+            final int subfileCount = 1 + random.nextInt(3);
+            for (int i = 0; i < subfileCount; ++i) {
+                subfiles.add(randomMap(random, 3));
+            }
+            final YamlMapper mapper = new YamlMapper(subfiles);
+            for (final String key : keys()) {
+                assertEquals(walk(subfiles, key), mapper.apply(key), document + ": " + key);
+            }
+        }
+    }
+
+    @Test
+    public void testFirstSubfileWins() {
+        final Object first = Map.of("a", Map.of("b", "first"));
+        final Object second = Map.of("a", Map.of("b", "second", "c", "second"));
+        final YamlMapper mapper = new YamlMapper(List.of(first, second));
+
+        assertEquals(Optional.of("first"), mapper.apply("a.b"));
+        assertEquals(Optional.of("second"), mapper.apply("a.c"));
+        assertEquals(Optional.empty(), mapper.apply("a.d"));
+    }
+
+    @Test
+    public void testRecursiveDocuments() {
+        // What an anchor referring to one of its ancestors is parsed into
+        final Map<String, Object> recursive = new LinkedHashMap<>();
+        recursive.put("value", "leaf");
+        recursive.put("self", recursive);
+        final List<Object> subfiles = List.of(recursive);
+        final YamlMapper mapper = new YamlMapper(subfiles);
+
+        assertSame(recursive, mapper.apply("self")
+            .orElseThrow());
+        assertEquals(Optional.of("leaf"), mapper.apply("self.self.self.value"));
+        assertEquals(walk(subfiles, "self.self.missing"), mapper.apply("self.self.missing"));
+    }
+
+    private static List<String> keys() {
+        final List<String> keys = new ArrayList<>();
+        keys.add("");
+        keys.add(".");
+        keys.add("a.b");
+        for (final String first : SEGMENTS) {
+            keys.add(first);
+            keys.add(first + ".");
+            for (final String second : SEGMENTS) {
+                keys.add(first + "." + second);
+                keys.add(first + "." + second + ".");
+                for (final String third : SEGMENTS) {
+                    keys.add(first + "." + second + "." + third);
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static Object randomValue(final Random random, final int depth) {
+        final int kind = random.nextInt(depth > 0 ? 5 : 3);
+        if (kind == 0) {
+            return null;
+        } else if (kind == 1) {
+            return "value" + random.nextInt(10);
+        } else if (kind == 2) {
+            return List.of("element");
+        }
+        return randomMap(random, depth - 1);
+    }
+
+    private static Map<Object, Object> randomMap(final Random random, final int depth) {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        final int size = random.nextInt(4);
+        for (int i = 0; i < size; ++i) {
+            map.put(KEYS.get(random.nextInt(KEYS.size())), randomValue(random, depth));
+        }
+        return map;
+    }
+
+    // The lookup before the documents were flattened into an index
+    private static Optional<Object> walk(final List<Object> subfiles, final String fullKey) {
+        final String[] segments = fullKey.split("\\.");
+        for (final Object subfile : subfiles) {
+            Object currentNode = subfile;
+            for (final String segment : segments) {
+                if (!(currentNode instanceof final Map<?, ?> map)) {
+                    currentNode = null;
+                    break;
+                }
+                currentNode = map.get(segment);
+                if (currentNode == null) {
+                    break;
+                }
+            }
+            if (currentNode != null) {
+                return Optional.of(currentNode);
+            }
+        }
+        return Optional.empty();
+    }
+}
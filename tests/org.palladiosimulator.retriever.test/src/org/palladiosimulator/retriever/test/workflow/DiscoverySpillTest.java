@@ -0,0 +1,78 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.engine.DiscoverySpill;
+import org.palladiosimulator.retriever.extraction.engine.SpillCodec;
+import org.palladiosimulator.retriever.extraction.engine.SpillingMap;
+
+public class DiscoverySpillTest {
+
+    private static final String DISCOVERER_ID = "discoverer";
+    private static final String OTHER_DISCOVERER_ID = "other";
+
+    @Test
+    public void testSpilledFilesAreReadBackThroughTheCache() throws Exception {
+        final Path directory = Files.createTempDirectory("retriever-spill-test");
+        final DiscoverySpill spill = new DiscoverySpill(directory, 1);
+        final SpillingMap<String> files = spill.createMap(DISCOVERER_ID, SpillCodec.utf8());
+
+        files.put(Path.of("a"), "first");
+        files.put(Path.of("b"), "second");
+
+        // Only the most recently put file is still cached
+        assertEquals("second", files.get(Path.of("b")));
+        assertEquals("first", files.get(Path.of("a")));
+        assertEquals("first", files.get(Path.of("a")));
+        assertNull(files.get(Path.of("c")));
+        assertEquals(2, files.getHits());
+        assertEquals(1, files.getMisses());
+        assertEquals(Map.of(Path.of("a"), "first", Path.of("b"), "second"), Map.copyOf(files));
+
+        spill.close();
+        assertFalse(Files.exists(directory));
+    }
+
+    @Test
+    public void testSerializedFilesKeepTheirContent() throws Exception {
+        final Path directory = Files.createTempDirectory("retriever-spill-test");
+        final DiscoverySpill spill = new DiscoverySpill(directory, 0);
+        final SpillingMap<List<String>> files = spill.createMap(DISCOVERER_ID,
+                SpillCodec.serializing(DiscoverySpillTest.class.getClassLoader()));
+
+        files.put(Path.of("a"), List.of("x", "y"));
+
+        assertEquals(List.of("x", "y"), files.get(Path.of("a")));
+        assertEquals(0, files.getHits());
+        assertEquals(1, files.getMisses());
+        spill.close();
+    }
+
+    @Test
+    public void testClosingDeletesTheSpilledFilesOnce() throws Exception {
+        final Path directory = Files.createTempDirectory("retriever-spill-test");
+        final DiscoverySpill spill = new DiscoverySpill(directory, 0);
+        final SpillingMap<String> files = spill.createMap(DISCOVERER_ID, SpillCodec.utf8());
+        final SpillingMap<String> otherFiles = spill.createMap(OTHER_DISCOVERER_ID, SpillCodec.utf8());
+        files.put(Path.of("a"), "first");
+        otherFiles.put(Path.of("a"), "other");
+
+        assertEquals(Set.of(DISCOVERER_ID, OTHER_DISCOVERER_ID), spill.getDiscovererIDs());
+        spill.close();
+        spill.close();
+
+        assertFalse(Files.exists(directory));
+        assertThrows(UncheckedIOException.class, () -> files.get(Path.of("a")));
+    }
+}
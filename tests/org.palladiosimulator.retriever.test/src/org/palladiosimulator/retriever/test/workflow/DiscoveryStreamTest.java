@@ -0,0 +1,152 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryPublisher;
+import org.palladiosimulator.retriever.extraction.engine.DiscoveryStream;
+import org.palladiosimulator.retriever.extraction.engine.FileInterest;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule;
+import org.palladiosimulator.retriever.extraction.engine.StreamingRuleJob;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+public class DiscoveryStreamTest {
+
+    private static final String DISCOVERER_ID = "discoverer";
+
+    @Test
+    public void testSubscribersReceiveFilesInOrderUntilCompletion() throws Exception {
+        final DiscoveryStream stream = new DiscoveryStream(1);
+        final DiscoveryStream.Subscription subscription = stream.subscribe(DISCOVERER_ID);
+        final DiscoveryStream.Subscription otherSubscription = stream.subscribe("other");
+        subscription.activate();
+
+        final List<Path> published = List.of(Path.of("a"), Path.of("b"), Path.of("c"));
+        final Thread producer = new Thread(() -> {
+            published.forEach(path -> stream.publish(DISCOVERER_ID, path));
+            stream.complete(DISCOVERER_ID);
+        });
+        producer.start();
+
+        final List<Path> received = new ArrayList<>();
+        Path path = subscription.take();
+        while (path != null) {
+            received.add(path);
+            path = subscription.take();
+        }
+        producer.join();
+
+        assertEquals(published, received);
+        stream.complete("other");
+        assertNull(otherSubscription.take());
+    }
+
+    @Test
+    public void testInactiveSubscriptionsBufferUpToTheirCapacity() throws Exception {
+        final DiscoveryStream stream = new DiscoveryStream(2);
+        final DiscoveryStream.Subscription subscription = stream.subscribe(DISCOVERER_ID);
+
+        stream.publish(DISCOVERER_ID, Path.of("a"));
+        stream.publish(DISCOVERER_ID, Path.of("b"));
+        stream.complete(DISCOVERER_ID);
+
+        subscription.activate();
+        assertFalse(subscription.isOverflowed());
+        assertEquals(Path.of("a"), subscription.take());
+        assertEquals(Path.of("b"), subscription.take());
+        assertNull(subscription.take());
+    }
+
+    @Test
+    public void testInactiveSubscriptionsOverflowInsteadOfBlockingPublishers() throws Exception {
+        final DiscoveryStream stream = new DiscoveryStream(1);
+        final DiscoveryStream.Subscription subscription = stream.subscribe(DISCOVERER_ID);
+
+        // Exceeds the capacity without a consumer
+        stream.publish(DISCOVERER_ID, Path.of("a"));
+        stream.publish(DISCOVERER_ID, Path.of("b"));
+        stream.publish(DISCOVERER_ID, Path.of("c"));
+        stream.complete(DISCOVERER_ID);
+
+        subscription.activate();
+        // The dropped files are left to the consumer's pass after the discoverer is done
+        assertTrue(subscription.isOverflowed());
+        assertNull(subscription.take());
+    }
+
+    @Test
+    public void testOverflowedStreamingRulesProcessAllFilesAfterDiscovery() throws Exception {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        final DiscoveryStream stream = new DiscoveryStream(1);
+        blackboard.addPartition(DiscoveryStream.PARTITION_KEY, stream);
+        final RecordingRule rule = new RecordingRule();
+        final StreamingRuleJob ruleJob = new StreamingRuleJob(rule, blackboard, stream.subscribe(DISCOVERER_ID));
+
+        // Published at once before the rule starts, e.g. by a discoverer that publishes after parsing
+        final DiscoveryPublisher<String> publisher = new DiscoveryPublisher<>(blackboard, DISCOVERER_ID);
+        final List<Path> published = List.of(Path.of("a"), Path.of("b"), Path.of("c"));
+        published.forEach(path -> publisher.publish(path, "content"));
+        publisher.close();
+        stream.complete(DISCOVERER_ID);
+
+        ruleJob.execute(new NullProgressMonitor());
+
+        // Each file exactly once
+        assertEquals(published.size(), rule.processedPaths.size());
+        assertEquals(Set.copyOf(published), Set.copyOf(rule.processedPaths));
+    }
+
+    private static final class RecordingRule implements PhasedRule {
+        private final List<Path> processedPaths = new ArrayList<>();
+
+        @Override
+        public FileInterest getFileInterest() {
+            return FileInterest.discoveredBy(DISCOVERER_ID);
+        }
+
+        @Override
+        public void processRules(final RetrieverBlackboard blackboard, final Path path) {
+            this.processedPaths.add(path);
+        }
+
+        @Override
+        public boolean isBuildRule() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getConfigurationKeys() {
+            return Set.of();
+        }
+
+        @Override
+        public String getName() {
+            return "Recording Rule";
+        }
+
+        @Override
+        public String getID() {
+            return "recording";
+        }
+
+        @Override
+        public Set<String> getRequiredServices() {
+            return Set.of(DISCOVERER_ID);
+        }
+
+        @Override
+        public Set<String> getDependentServices() {
+            return Set.of();
+        }
+    }
+}
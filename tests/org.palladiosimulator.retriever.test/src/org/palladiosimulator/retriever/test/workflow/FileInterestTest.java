@@ -0,0 +1,114 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.engine.FileInterest;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+public class FileInterestTest {
+
+    private static final String DISCOVERER_ID = "discoverer";
+    private static final String OTHER_DISCOVERER_ID = "other";
+
+    private static final List<Path> PATHS = List.of(Path.of("a", "pom.xml"), Path.of("b", "Main.java"),
+            Path.of("c", "pom.xml"), Path.of("d", "build.gradle"), Path.of("e", "Other.java"));
+
+    @Test
+    public void testDiscovererInterestOnlySelectsTheDiscoverersFiles() {
+        final RetrieverBlackboard blackboard = createBlackboard();
+
+        assertEquals(Set.copyOf(PATHS.subList(0, 4)), Set.copyOf(FileInterest.discoveredBy(DISCOVERER_ID)
+            .select(blackboard, new LinkedHashSet<>(PATHS))));
+        assertEquals(List.of(PATHS.get(4)), new ArrayList<>(FileInterest.discoveredBy(OTHER_DISCOVERER_ID)
+            .select(blackboard, new LinkedHashSet<>(PATHS))));
+    }
+
+    @Test
+    public void testAnnotationInterest() {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        final Map<Path, CompilationUnit> units = new LinkedHashMap<>();
+        units.put(Path.of("Service.java"), parse("@Service public class Service {}"));
+        units.put(Path.of("Plain.java"), parse("public class Plain {}"));
+        units.put(Path.of("Repository.java"), parse("public interface Repository extends Base {}"));
+        blackboard.putDiscoveredFiles(DISCOVERER_ID, units);
+        final Set<Path> discoveredPaths = new LinkedHashSet<>(units.keySet());
+
+        final FileInterest annotated = FileInterest.annotatedWith(DISCOVERER_ID, "Component", "Service");
+        assertEquals(List.of(Path.of("Service.java")), new ArrayList<>(annotated.select(blackboard,
+                discoveredPaths)));
+        assertTrue(annotated.selects(blackboard, Path.of("Service.java")));
+        assertFalse(annotated.selects(blackboard, Path.of("Plain.java")));
+
+        final FileInterest extended = annotated.orUnitsMatching(unit -> unit.toString()
+            .contains("extends Base"));
+        assertEquals(Set.of(Path.of("Service.java"), Path.of("Repository.java")), Set.copyOf(extended
+            .select(blackboard, discoveredPaths)));
+    }
+
+    @Test
+    public void testFileNameInterest() {
+        final RetrieverBlackboard blackboard = createBlackboard();
+
+        assertEquals(List.of(PATHS.get(0), PATHS.get(2)), new ArrayList<>(FileInterest.fileName("pom.xml")
+            .select(blackboard, new LinkedHashSet<>(PATHS))));
+        assertEquals(List.of(PATHS.get(1), PATHS.get(4)), new ArrayList<>(FileInterest.fileName("*.java")
+            .select(blackboard, new LinkedHashSet<>(PATHS))));
+        assertTrue(FileInterest.fileName("*.gradle")
+            .selects(blackboard, PATHS.get(3)));
+        assertFalse(FileInterest.fileName("*.gradle")
+            .selects(blackboard, PATHS.get(0)));
+    }
+
+    @Test
+    public void testInterestInAMissingDiscoverer() {
+        final RetrieverBlackboard blackboard = createBlackboard();
+        final FileInterest interest = FileInterest.discoveredBy("missing");
+
+        assertTrue(interest.select(blackboard, new LinkedHashSet<>(PATHS))
+            .isEmpty());
+        assertFalse(interest.selects(blackboard, PATHS.get(0)));
+    }
+
+    @Test
+    public void testAllSelectsEveryPath() {
+        final RetrieverBlackboard blackboard = createBlackboard();
+        final Set<Path> discoveredPaths = new LinkedHashSet<>(PATHS);
+
+        assertSame(discoveredPaths, FileInterest.ALL.select(blackboard, discoveredPaths));
+        assertTrue(FileInterest.ALL.selects(blackboard, PATHS.get(4)));
+    }
+
+    private static CompilationUnit parse(final String source) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    private static RetrieverBlackboard createBlackboard() {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        final Map<Path, String> files = new LinkedHashMap<>();
+        for (int i = 3; i >= 0; --i) {
+            files.put(PATHS.get(i), "content");
+        }
+        blackboard.putDiscoveredFiles(DISCOVERER_ID, files);
+        blackboard.putDiscoveredFiles(OTHER_DISCOVERER_ID, Map.of(PATHS.get(4), "content"));
+        return blackboard;
+    }
+}
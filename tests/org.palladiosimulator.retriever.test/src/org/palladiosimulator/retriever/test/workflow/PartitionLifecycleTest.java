@@ -0,0 +1,108 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.core.workflow.PartitionLifecycle;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.IJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+
+public class PartitionLifecycleTest {
+
+    private static final String PARTITION_KEY = "partition";
+    private static final String DISCOVERER_ID = "discoverer";
+
+    @Test
+    public void testPartitionIsDroppedAfterAllConsumers() throws Exception {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        blackboard.addPartition(PARTITION_KEY, new Object());
+
+        final PartitionLifecycle lifecycle = new PartitionLifecycle(blackboard);
+        lifecycle.declare(PARTITION_KEY, PartitionLifecycle.drop(PARTITION_KEY), "first", "second");
+        final IJob first = lifecycle.track("first", new EmptyJob());
+        final IJob secondA = lifecycle.track("second", new EmptyJob());
+        final IJob secondB = lifecycle.track("second", new EmptyJob());
+
+        first.execute(new NullProgressMonitor());
+        secondA.execute(new NullProgressMonitor());
+        assertTrue(blackboard.hasPartition(PARTITION_KEY));
+
+        secondB.execute(new NullProgressMonitor());
+        assertFalse(blackboard.hasPartition(PARTITION_KEY));
+    }
+
+    @Test
+    public void testDowngradedFilesKeepTheirPaths() throws Exception {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        final Map<Path, String> files = new HashMap<>();
+        files.put(Path.of("a"), "content");
+        blackboard.putDiscoveredFiles(DISCOVERER_ID, files);
+
+        final PartitionLifecycle lifecycle = new PartitionLifecycle(blackboard);
+        lifecycle.declare(DISCOVERER_ID, PartitionLifecycle.downgradeDiscoveredFiles(DISCOVERER_ID), "consumer");
+        lifecycle.track("consumer", new EmptyJob())
+            .execute(new NullProgressMonitor());
+
+        final Map<Path, Object> downgradedFiles = blackboard.getDiscoveredFiles(DISCOVERER_ID, Object.class);
+        assertEquals(files.keySet(), downgradedFiles.keySet());
+        assertNull(downgradedFiles.get(Path.of("a")));
+    }
+
+    @Test
+    public void testDowngradingMissingFilesDoesNothing() throws Exception {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+
+        final PartitionLifecycle lifecycle = new PartitionLifecycle(blackboard);
+        lifecycle.declare(DISCOVERER_ID, PartitionLifecycle.downgradeDiscoveredFiles(DISCOVERER_ID), "consumer");
+        lifecycle.track("consumer", new EmptyJob())
+            .execute(new NullProgressMonitor());
+
+        assertNull(blackboard.getDiscoveredFiles(DISCOVERER_ID, Object.class));
+    }
+
+    @Test
+    public void testPartitionIsDroppedAfterAFailedConsumer() throws Exception {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        blackboard.addPartition(PARTITION_KEY, new Object());
+
+        final PartitionLifecycle lifecycle = new PartitionLifecycle(blackboard);
+        lifecycle.declare(PARTITION_KEY, PartitionLifecycle.drop(PARTITION_KEY), "consumer");
+        final IJob failing = lifecycle.track("consumer", new EmptyJob() {
+            @Override
+            public void execute(final IProgressMonitor monitor) throws JobFailedException {
+                throw new JobFailedException("Failing Job failed");
+            }
+        });
+
+        assertThrows(JobFailedException.class, () -> failing.execute(new NullProgressMonitor()));
+        assertFalse(blackboard.hasPartition(PARTITION_KEY));
+    }
+
+    private static class EmptyJob implements IJob {
+        @Override
+        public void execute(final IProgressMonitor monitor) throws JobFailedException {
+        }
+
+        @Override
+        public void cleanup(final IProgressMonitor monitor) {
+        }
+
+        @Override
+        public String getName() {
+            return "Empty Job";
+        }
+    }
+}
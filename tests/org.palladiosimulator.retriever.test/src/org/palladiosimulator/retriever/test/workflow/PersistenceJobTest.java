@@ -1,10 +1,13 @@
 package org.palladiosimulator.retriever.test.workflow;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.io.FileUtils;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -20,6 +23,7 @@ import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
 import org.palladiosimulator.pcm.system.System;
 import org.palladiosimulator.retriever.core.workflow.PersistenceJob;
+import org.palladiosimulator.retriever.core.workflow.PersistenceProfile;
 
 import de.uka.ipd.sdq.workflow.blackboard.Blackboard;
 
@@ -78,4 +82,110 @@ public class PersistenceJobTest {
         assertTrue(new File(EXPECTED_FILE_PATH_PREFIX + ".resourceenvironment").exists());
         assertTrue(new File(EXPECTED_FILE_PATH_PREFIX + ".allocation").exists());
     }
+
+    @Test
+    public void testSaveModelsInParallel() throws IOException {
+        final Blackboard<Object> blackboard = new Blackboard<>();
+        final PersistenceJob job = new PersistenceJob(blackboard, INPUT_FOLDER, TEMPORARY_OUTPUT_FOLDER,
+                BLACKBOARD_INPUT_REPOSITORY, BLACKBOARD_INPUT_SYSTEM, BLACKBOARD_INPUT_ALLOCATION,
+                BLACKBOARD_INPUT_RESOURCEENVIRONMENT, PersistenceProfile.FAST);
+
+        final Repository repository = new FluentRepositoryFactory().newRepository()
+            .createRepositoryNow();
+        final System system = new FluentSystemFactory().newSystem()
+            .addRepository(repository)
+            .createSystemNow();
+        blackboard.addPartition(BLACKBOARD_INPUT_REPOSITORY, repository);
+        blackboard.addPartition(BLACKBOARD_INPUT_SYSTEM, system);
+        blackboard.addPartition(BLACKBOARD_INPUT_ALLOCATION, new FluentAllocationFactory().newAllocation()
+            .createAllocationNow());
+        blackboard.addPartition(BLACKBOARD_INPUT_RESOURCEENVIRONMENT,
+                new FluentResourceEnvironmentFactory().newResourceEnvironment()
+                    .createResourceEnvironmentNow());
+
+        assertDoesNotThrow(() -> job.execute(new NullProgressMonitor()));
+
+        assertTrue(new File(EXPECTED_FILE_PATH_PREFIX + ".repository").exists());
+        assertTrue(new File(EXPECTED_FILE_PATH_PREFIX + ".resourceenvironment").exists());
+        assertTrue(new File(EXPECTED_FILE_PATH_PREFIX + ".allocation").exists());
+        // The system refers to the repository in its own file
+        final File systemFile = new File(EXPECTED_FILE_PATH_PREFIX + ".system");
+        assertTrue(FileUtils.readFileToString(systemFile, StandardCharsets.UTF_8)
+            .contains("input_folder.repository"));
+    }
+
+    @Test
+    public void testSkipUnchangedModels() throws IOException {
+        final Blackboard<Object> blackboard = new Blackboard<>();
+        final FluentRepositoryFactory create = new FluentRepositoryFactory();
+        final Repository repository = create.newRepository()
+            .addToRepository(create.newBasicComponent()
+                .withName("Component"))
+            .createRepositoryNow();
+        addModels(blackboard, repository);
+
+        final PersistenceJob firstJob = createJob(blackboard, PersistenceProfile.FAST);
+        firstJob.setSkippingUnchanged(true);
+        assertDoesNotThrow(() -> firstJob.execute(new NullProgressMonitor()));
+        final File repositoryFile = new File(EXPECTED_FILE_PATH_PREFIX + ".repository");
+        assertTrue(repositoryFile.setLastModified(0));
+
+        final PersistenceJob secondJob = createJob(blackboard, PersistenceProfile.FAST);
+        secondJob.setSkippingUnchanged(true);
+        assertDoesNotThrow(() -> secondJob.execute(new NullProgressMonitor()));
+        assertEquals(0, repositoryFile.lastModified());
+
+        repository.setEntityName("Changed");
+        assertDoesNotThrow(() -> secondJob.execute(new NullProgressMonitor()));
+        assertTrue(repositoryFile.lastModified() > 0);
+    }
+
+    @Test
+    public void testFragmentRepository() throws IOException {
+        final Blackboard<Object> blackboard = new Blackboard<>();
+        final FluentRepositoryFactory create = new FluentRepositoryFactory();
+        final Repository repository = create.newRepository()
+            .addToRepository(create.newBasicComponent()
+                .withName("Basic"))
+            .addToRepository(create.newCompositeComponent()
+                .withName("Composite"))
+            .createRepositoryNow();
+        addModels(blackboard, repository);
+
+        final PersistenceJob job = createJob(blackboard, PersistenceProfile.DEFAULT);
+        job.setFragmentingRepository(true);
+        assertDoesNotThrow(() -> job.execute(new NullProgressMonitor()));
+
+        final File fragmentFile = new File(EXPECTED_FILE_PATH_PREFIX + ".fragments/Composite.repository");
+        assertTrue(fragmentFile.exists());
+        assertTrue(FileUtils.readFileToString(fragmentFile, StandardCharsets.UTF_8)
+            .contains("Composite"));
+        assertFalse(FileUtils.readFileToString(new File(EXPECTED_FILE_PATH_PREFIX + ".repository"),
+                StandardCharsets.UTF_8)
+            .contains("Composite"));
+
+        // The repository is restored after saving
+        assertEquals(2, repository.getComponents__Repository()
+            .size());
+        assertEquals("Composite", repository.getComponents__Repository()
+            .get(1)
+            .getEntityName());
+    }
+
+    private static PersistenceJob createJob(final Blackboard<Object> blackboard, final PersistenceProfile profile) {
+        return new PersistenceJob(blackboard, INPUT_FOLDER, TEMPORARY_OUTPUT_FOLDER, BLACKBOARD_INPUT_REPOSITORY,
+                BLACKBOARD_INPUT_SYSTEM, BLACKBOARD_INPUT_ALLOCATION, BLACKBOARD_INPUT_RESOURCEENVIRONMENT, profile);
+    }
+
+    private static void addModels(final Blackboard<Object> blackboard, final Repository repository) {
+        blackboard.addPartition(BLACKBOARD_INPUT_REPOSITORY, repository);
+        blackboard.addPartition(BLACKBOARD_INPUT_SYSTEM, new FluentSystemFactory().newSystem()
+            .addRepository(repository)
+            .createSystemNow());
+        blackboard.addPartition(BLACKBOARD_INPUT_ALLOCATION, new FluentAllocationFactory().newAllocation()
+            .createAllocationNow());
+        blackboard.addPartition(BLACKBOARD_INPUT_RESOURCEENVIRONMENT,
+                new FluentResourceEnvironmentFactory().newResourceEnvironment()
+                    .createResourceEnvironmentNow());
+    }
 }
@@ -0,0 +1,89 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.generator.fluent.repository.factory.FluentRepositoryFactory;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.retriever.core.workflow.PlantUmlJob;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+public class PlantUmlJobTest {
+    private static final String OUTPUT_FOLDER = "./TEMP_PlantUmlJobTest";
+    private static final String REPOSITORY_KEY = "repository";
+    private static final String SYSTEM_KEY = "system";
+    private static final String ALLOCATION_KEY = "allocation";
+
+    @AfterEach
+    public void cleanUpDirectories() throws IOException {
+        FileUtils.deleteDirectory(new File(OUTPUT_FOLDER));
+    }
+
+    @Test
+    public void testSplitDiagramsPerComposite() throws Exception {
+        final File outputFolder = new File(OUTPUT_FOLDER);
+        assertTrue(outputFolder.mkdirs());
+
+        final FluentRepositoryFactory create = new FluentRepositoryFactory();
+        final Repository repository = create.newRepository()
+            .addToRepository(create.newBasicComponent()
+                .withName("Basic"))
+            .addToRepository(create.newCompositeComponent()
+                .withName("Composite"))
+            .createRepositoryNow();
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        blackboard.addPartition(REPOSITORY_KEY, repository);
+
+        final PlantUmlJob job = new PlantUmlJob(blackboard, URI.createFileURI(outputFolder.getAbsolutePath()),
+                REPOSITORY_KEY, SYSTEM_KEY, ALLOCATION_KEY);
+        job.setSplittingComposites(true);
+        job.execute(new NullProgressMonitor());
+
+        final String diagram = FileUtils.readFileToString(new File(outputFolder, "componentDiagram.puml"),
+                StandardCharsets.UTF_8);
+        assertTrue(diagram.startsWith("@startuml\n"));
+        assertTrue(diagram.endsWith("\n@enduml\n"));
+        final File compositeDiagram = new File(outputFolder, "componentDiagram_Composite.puml");
+        assertTrue(compositeDiagram.exists());
+        assertFalse(FileUtils.readFileToString(compositeDiagram, StandardCharsets.UTF_8)
+            .contains("Basic"));
+
+        // The copied composite does not touch the original repository
+        assertEquals(2, repository.getComponents__Repository()
+            .size());
+    }
+
+    @Test
+    public void testOmitComponentDiagram() throws Exception {
+        final File outputFolder = new File(OUTPUT_FOLDER);
+        assertTrue(outputFolder.mkdirs());
+
+        final FluentRepositoryFactory create = new FluentRepositoryFactory();
+        final Repository repository = create.newRepository()
+            .addToRepository(create.newCompositeComponent()
+                .withName("Composite"))
+            .createRepositoryNow();
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        blackboard.addPartition(REPOSITORY_KEY, repository);
+
+        final PlantUmlJob job = new PlantUmlJob(blackboard, URI.createFileURI(outputFolder.getAbsolutePath()),
+                REPOSITORY_KEY, SYSTEM_KEY, ALLOCATION_KEY);
+        job.setSplittingComposites(true);
+        job.setOmittingComponentDiagram(true);
+        job.execute(new NullProgressMonitor());
+
+        assertFalse(new File(outputFolder, "componentDiagram.puml").exists());
+        assertTrue(new File(outputFolder, "componentDiagram_Composite.puml").exists());
+    }
+}
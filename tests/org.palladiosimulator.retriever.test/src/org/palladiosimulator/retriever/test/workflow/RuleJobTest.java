@@ -0,0 +1,142 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.engine.FileInterest;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.extraction.engine.PhasedRule;
+import org.palladiosimulator.retriever.extraction.engine.ProfiledRule;
+import org.palladiosimulator.retriever.extraction.engine.RuleJob;
+import org.palladiosimulator.retriever.extraction.engine.RuleProfiler;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+public class RuleJobTest {
+
+    private static final String DISCOVERER_ID = "discoverer";
+    private static final String OTHER_DISCOVERER_ID = "other";
+    private static final String GLOBAL_PHASE = "global";
+
+    @Test
+    public void testGlobalPhaseRunsOnceBeforeTheFiles() throws Exception {
+        final RetrieverBlackboard blackboard = createBlackboard();
+        final RecordingRule rule = new RecordingRule(true);
+
+        new RuleJob(rule, blackboard).execute(new NullProgressMonitor());
+
+        assertInvocations(rule.invocations, Set.of("a", "b"));
+        // The global phase sees all discovered paths, not only those of the rule's interest
+        assertEquals(Set.of(Path.of("a"), Path.of("b"), Path.of("c")), rule.globalPaths);
+    }
+
+    @Test
+    public void testGlobalPhaseRunsOnceWithoutFiles() throws Exception {
+        final RecordingRule rule = new RecordingRule(false);
+
+        new RuleJob(rule, createBlackboard()).execute(new NullProgressMonitor());
+
+        assertEquals(List.of(GLOBAL_PHASE), rule.invocations);
+    }
+
+    @Test
+    public void testProfiledRulesKeepThePhases() throws Exception {
+        final RetrieverBlackboard blackboard = createBlackboard();
+        final RecordingRule rule = new RecordingRule(true);
+
+        new ProfiledRule(rule, new RuleProfiler()).create(null, blackboard)
+            .execute(new NullProgressMonitor());
+
+        assertInvocations(rule.invocations, Set.of("a", "b"));
+    }
+
+    private static void assertInvocations(final List<String> invocations, final Set<String> files) {
+        assertEquals(1 + files.size(), invocations.size());
+        assertEquals(GLOBAL_PHASE, invocations.get(0));
+        assertEquals(files, new HashSet<>(invocations.subList(1, invocations.size())));
+    }
+
+    private static RetrieverBlackboard createBlackboard() {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        final Map<Path, String> files = new LinkedHashMap<>();
+        files.put(Path.of("a"), "content");
+        files.put(Path.of("b"), "content");
+        blackboard.putDiscoveredFiles(DISCOVERER_ID, files);
+        blackboard.putDiscoveredFiles(OTHER_DISCOVERER_ID, Map.of(Path.of("c"), "content"));
+        return blackboard;
+    }
+
+    private static final class RecordingRule implements PhasedRule {
+        private final boolean processingFiles;
+        private final List<String> invocations = new ArrayList<>();
+        private Set<Path> globalPaths;
+
+        RecordingRule(final boolean processingFiles) {
+            this.processingFiles = processingFiles;
+        }
+
+        @Override
+        public boolean isProcessingGlobally() {
+            return true;
+        }
+
+        @Override
+        public void processGlobally(final RetrieverBlackboard blackboard, final Set<Path> discoveredPaths) {
+            this.invocations.add(GLOBAL_PHASE);
+            this.globalPaths = Set.copyOf(discoveredPaths);
+        }
+
+        @Override
+        public boolean isProcessingFiles() {
+            return this.processingFiles;
+        }
+
+        @Override
+        public FileInterest getFileInterest() {
+            return FileInterest.discoveredBy(DISCOVERER_ID);
+        }
+
+        @Override
+        public void processRules(final RetrieverBlackboard blackboard, final Path path) {
+            this.invocations.add(path.toString());
+        }
+
+        @Override
+        public boolean isBuildRule() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getConfigurationKeys() {
+            return Set.of();
+        }
+
+        @Override
+        public String getName() {
+            return "Recording Rule";
+        }
+
+        @Override
+        public String getID() {
+            return "recording";
+        }
+
+        @Override
+        public Set<String> getRequiredServices() {
+            return Set.of();
+        }
+
+        @Override
+        public Set<String> getDependentServices() {
+            return Set.of();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.extraction.engine.RuleProfiler;
+
+public class RuleProfilerTest {
+
+    private static final String RULE_ID = "rule";
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testSlowestFilesOnlyContainFiles() throws Exception {
+        final RuleProfiler profiler = new RuleProfiler();
+        // Global phases and whole jobs are slower than any single file
+        profiler.profile(RULE_ID, null, () -> sleep(80));
+        profiler.profile(RULE_ID, Path.of("a"), () -> sleep(5));
+        profiler.profile(RULE_ID, Path.of("b"), () -> sleep(20));
+        profiler.profile(RULE_ID, Path.of("c"), () -> sleep(40));
+
+        profiler.writeReport(this.folder, 2);
+
+        final String report = Files.readString(this.folder.resolve(RuleProfiler.JSON_REPORT_NAME),
+                StandardCharsets.UTF_8);
+        final List<String> slowestFiles = report.substring(report.indexOf("\"slowestFiles\""))
+            .lines()
+            .filter(line -> line.contains("\"rule\""))
+            .toList();
+        assertEquals(2, slowestFiles.size());
+        assertTrue(slowestFiles.get(0)
+            .contains("\"path\": \"c\""));
+        assertTrue(slowestFiles.get(1)
+            .contains("\"path\": \"b\""));
+
+        // All samples are still part of the totals and the CSV report
+        assertEquals(4, profiler.getRuleTotals()
+            .get(0)
+            .invocations());
+        assertEquals(5, Files.readAllLines(this.folder.resolve(RuleProfiler.CSV_REPORT_NAME))
+            .size());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+}
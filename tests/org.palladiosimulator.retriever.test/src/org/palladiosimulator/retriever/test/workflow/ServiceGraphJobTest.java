@@ -0,0 +1,174 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.core.workflow.ServiceGraphJob;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.extraction.rules.MavenRules;
+import org.palladiosimulator.retriever.services.Analyst;
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+public class ServiceGraphJobTest {
+    private static final String JAVA_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java";
+    private static final String XML_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.xml";
+
+    @Test
+    public void testJobsRunAfterTheirDependencies() throws Exception {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        final List<String> finished = Collections.synchronizedList(new ArrayList<>());
+        final RecordingService first = new RecordingService("first", Set.of(), Set.of("third"), finished);
+        final RecordingService second = new RecordingService("second", Set.of("first"), Set.of(), finished);
+        final RecordingService third = new RecordingService("third", Set.of(), Set.of(), finished);
+        final RecordingService fourth = new RecordingService("fourth", Set.of("unknown"), Set.of(), finished);
+
+        final ServiceGraphJob graphJob = new ServiceGraphJob(blackboard, 2);
+        for (final RecordingService service : List.of(second, third, first, fourth)) {
+            graphJob.add(service, service.create(null, blackboard));
+        }
+        graphJob.addDependency("fourth", "second");
+        graphJob.execute(new NullProgressMonitor());
+
+        assertEquals(4, finished.size());
+        assertTrue(finished.indexOf("first") < finished.indexOf("second"));
+        assertTrue(finished.indexOf("first") < finished.indexOf("third"));
+        assertTrue(finished.indexOf("second") < finished.indexOf("fourth"));
+    }
+
+    @Test
+    public void testCyclicDependenciesFail() {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        final List<String> finished = Collections.synchronizedList(new ArrayList<>());
+        final RecordingService first = new RecordingService("first", Set.of("second"), Set.of(), finished);
+        final RecordingService second = new RecordingService("second", Set.of("first"), Set.of(), finished);
+
+        final ServiceGraphJob graphJob = new ServiceGraphJob(blackboard);
+        graphJob.add(first, first.create(null, blackboard));
+        graphJob.add(second, second.create(null, blackboard));
+
+        assertThrows(JobFailedException.class, () -> graphJob.execute(new NullProgressMonitor()));
+        assertTrue(finished.isEmpty());
+    }
+
+    @Test
+    public void testBuildRuleWaitsForLateDiscoverer() throws Exception {
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        final List<String> finished = Collections.synchronizedList(new ArrayList<>());
+        final Path pomPath = Path.of("project", "pom.xml");
+        final RecordingService javaDiscoverer = new RecordingService(JAVA_DISCOVERER_ID, Set.of(), Set.of(),
+                finished, board -> board.putDiscoveredFiles(JAVA_DISCOVERER_ID, Map.of()));
+        final RecordingService xmlDiscoverer = new RecordingService(XML_DISCOVERER_ID, Set.of(), Set.of(), finished,
+                board -> {
+                    try {
+                        Thread.sleep(200);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread()
+                            .interrupt();
+                    }
+                    board.putDiscoveredFiles(XML_DISCOVERER_ID, Map.of(pomPath, "<project/>"));
+                });
+        final MavenRules mavenRules = new MavenRules();
+
+        // Wired like the build rules of a Retriever run scheduled by dependencies
+        final ServiceGraphJob graphJob = new ServiceGraphJob(blackboard, 3);
+        graphJob.add(javaDiscoverer, javaDiscoverer.create(null, blackboard));
+        graphJob.add(xmlDiscoverer, xmlDiscoverer.create(null, blackboard));
+        graphJob.add(mavenRules, mavenRules.create(null, blackboard));
+        for (final String discovererID : List.of(JAVA_DISCOVERER_ID, XML_DISCOVERER_ID)) {
+            graphJob.addDependency(mavenRules.getID(), discovererID);
+        }
+        graphJob.execute(new NullProgressMonitor());
+
+        assertTrue(blackboard.getSystemAssociations()
+            .containsKey(pomPath));
+    }
+
+    private static final class RecordingService implements Analyst {
+        private final String id;
+        private final Set<String> requiredServices;
+        private final Set<String> dependentServices;
+        private final List<String> finished;
+        private final Consumer<RetrieverBlackboard> action;
+
+        private RecordingService(final String id, final Set<String> requiredServices,
+                final Set<String> dependentServices, final List<String> finished) {
+            this(id, requiredServices, dependentServices, finished, blackboard -> {
+            });
+        }
+
+        private RecordingService(final String id, final Set<String> requiredServices,
+                final Set<String> dependentServices, final List<String> finished,
+                final Consumer<RetrieverBlackboard> action) {
+            this.id = id;
+            this.requiredServices = requiredServices;
+            this.dependentServices = dependentServices;
+            this.finished = finished;
+            this.action = action;
+        }
+
+        @Override
+        public IBlackboardInteractingJob<RetrieverBlackboard> create(final RetrieverConfiguration configuration,
+                final RetrieverBlackboard blackboard) {
+            return new AbstractBlackboardInteractingJob<>() {
+                @Override
+                public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+                }
+
+                @Override
+                public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+                    RecordingService.this.action.accept(blackboard);
+                    RecordingService.this.finished.add(RecordingService.this.id);
+                }
+
+                @Override
+                public String getName() {
+                    return RecordingService.this.id + " Job";
+                }
+            };
+        }
+
+        @Override
+        public Set<String> getConfigurationKeys() {
+            return Set.of();
+        }
+
+        @Override
+        public String getName() {
+            return this.id;
+        }
+
+        @Override
+        public String getID() {
+            return this.id;
+        }
+
+        @Override
+        public Set<String> getRequiredServices() {
+            return this.requiredServices;
+        }
+
+        @Override
+        public Set<String> getDependentServices() {
+            return this.dependentServices;
+        }
+    }
+}